@@ -0,0 +1,148 @@
+package com.java_template.common.serializer.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.workflow.CyodaEntity;
+import com.java_template.common.workflow.OperationSpecification;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.EntityMetadata;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ABOUTME: Benchmark comparing the ways a DataPayload can be turned into an entity with metadata:
+ * ObjectMapper.convertValue() as EntityWithMetadata did before, ObjectMapper.treeToValue(), and the
+ * pre-resolved readers of EntityCodecRegistry that EntityWithMetadata.fromDataPayload() now uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntityDecodingBenchmark {
+
+    private static final ModelSpec MODEL_SPEC = new ModelSpec().withName("order").withVersion(1);
+
+    private ObjectMapper objectMapper;
+    private EntityCodecRegistry codecs;
+    private DataPayload payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        codecs = EntityCodecRegistry.forMapper(objectMapper);
+
+        final var order = new Order();
+        order.setOrderId("ORD-1001");
+        order.setCustomer("ACME Ltd");
+        order.setStatus("PLACED");
+        order.setTotal(1234.5);
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            lines.add("SKU-" + i);
+        }
+        order.setLines(lines);
+
+        payload = new DataPayload();
+        payload.setData(objectMapper.valueToTree(order));
+        payload.setMeta(objectMapper.valueToTree(new EntityMetadata()
+                .withId(UUID.randomUUID())
+                .withState("PLACED")
+                .withCreationDate(new Date())));
+    }
+
+    @Benchmark
+    public EntityWithMetadata<Order> convertValue() {
+        final Order entity = objectMapper.convertValue(payload.getData(), Order.class);
+        final EntityMetadata metadata = objectMapper.convertValue(payload.getMeta(), EntityMetadata.class);
+        return new EntityWithMetadata<>(entity, metadata);
+    }
+
+    @Benchmark
+    public EntityWithMetadata<Order> treeToValue() throws JsonProcessingException {
+        final Order entity = objectMapper.treeToValue(payload.getData(), Order.class);
+        final EntityMetadata metadata = objectMapper.treeToValue(payload.getMeta(), EntityMetadata.class);
+        return new EntityWithMetadata<>(entity, metadata);
+    }
+
+    @Benchmark
+    public EntityWithMetadata<Order> codecRegistry() {
+        return EntityWithMetadata.fromDataPayload(payload, Order.class, objectMapper);
+    }
+
+    @Benchmark
+    public Order codecRegistryEntityOnly() throws JsonProcessingException {
+        final JsonNode data = payload.getData();
+        return codecs.treeToValue(data, Order.class);
+    }
+
+    public static class Order implements CyodaEntity {
+        private String orderId;
+        private String customer;
+        private String status;
+        private double total;
+        private List<String> lines;
+
+        public String getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(String orderId) {
+            this.orderId = orderId;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public void setTotal(double total) {
+            this.total = total;
+        }
+
+        public List<String> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public OperationSpecification getModelKey() {
+            return new OperationSpecification.Entity(MODEL_SPEC, MODEL_SPEC.getName());
+        }
+
+        @Override
+        public boolean isValid(EntityMetadata metadata) {
+            return orderId != null;
+        }
+    }
+}
@@ -19,11 +19,73 @@ public class Config {
     public static final String GRPC_ADDRESS = getEnv("GRPC_ADDRESS", "grpc-" + CYODA_HOST);
     public static final int GRPC_SERVER_PORT = Integer.parseInt(getEnv("GRPC_SERVER_PORT", "443"));
     public static final String GRPC_PROCESSOR_TAG = getEnv("GRPC_PROCESSOR_TAG", "cloud_manager_app");
+    // Concurrent calculation-member streams opened by this instance, each joining separately
+    public static final int GRPC_MEMBER_STREAMS = Integer.parseInt(getEnv("GRPC_MEMBER_STREAMS", "1"));
 
     // Thread pool configurations for different event types
     public static final int PROCESSOR_THREAD_POOL = Integer.parseInt(getEnv("PROCESSOR_THREAD_POOL", "20"));
     public static final int CRITERIA_THREAD_POOL = Integer.parseInt(getEnv("CRITERIA_THREAD_POOL", "20"));
     public static final int CONTROL_THREAD_POOL = Integer.parseInt(getEnv("CONTROL_THREAD_POOL", "3"));
+    // Queued tasks allowed per calculation pool; requests beyond them are handled by INBOUND_OVERLOAD_POLICY
+    public static final int PROCESSOR_QUEUE_CAPACITY = Integer.parseInt(getEnv("PROCESSOR_QUEUE_CAPACITY", "200"));
+    public static final int CRITERIA_QUEUE_CAPACITY = Integer.parseInt(getEnv("CRITERIA_QUEUE_CAPACITY", "200"));
+    // When a calculation pool is full: PAUSE reading the stream until it has room, or REJECT with an error response
+    public static final String INBOUND_OVERLOAD_POLICY = getEnv("INBOUND_OVERLOAD_POLICY", "PAUSE");
+    // Longest a request may hold the stream paused before it is rejected; keep it below the platform keep-alive interval
+    public static final long INBOUND_PAUSE_TIMEOUT_MS = Long.parseLong(getEnv("INBOUND_PAUSE_TIMEOUT_MS", "5000"));
+    // Run processor requests for one entity one at a time in arrival order, with at most this many waiting per entity
+    public static final boolean PROCESSOR_ORDERED_BY_ENTITY = Boolean.parseBoolean(getEnv("PROCESSOR_ORDERED_BY_ENTITY", "false"));
+    public static final int PROCESSOR_ENTITY_QUEUE_CAPACITY = Integer.parseInt(getEnv("PROCESSOR_ENTITY_QUEUE_CAPACITY", "16"));
+    // Per-processor limits on the processor pool, as processorName=maxConcurrent:maxQueued[,...]; changeable at runtime
+    public static final String PROCESSOR_BULKHEADS = getEnv("PROCESSOR_BULKHEADS", "");
+    // Inbound stream messages requested from the platform ahead of admission into the pools
+    public static final int INBOUND_PREFETCH = Integer.parseInt(getEnv("INBOUND_PREFETCH", "16"));
+
+    // Number of snapshot result pages requested ahead of the consumer when scanning a search snapshot
+    public static final int SNAPSHOT_PREFETCH_PAGES = Integer.parseInt(getEnv("SNAPSHOT_PREFETCH_PAGES", "4"));
+    // Snapshot status polling starts at the initial delay and doubles up to the max until the await limit
+    public static final long SNAPSHOT_AWAIT_LIMIT_MS = Long.parseLong(getEnv("SNAPSHOT_AWAIT_LIMIT_MS", "10000"));
+    public static final long SNAPSHOT_POLL_INITIAL_DELAY_MS = Long.parseLong(getEnv("SNAPSHOT_POLL_INITIAL_DELAY_MS", "20"));
+    public static final long SNAPSHOT_POLL_MAX_DELAY_MS = Long.parseLong(getEnv("SNAPSHOT_POLL_MAX_DELAY_MS", "1000"));
+    // How long an idle search snapshot is kept for reuse by later pages of the same query (0 disables reuse)
+    public static final long SNAPSHOT_CURSOR_TTL_MS = Long.parseLong(getEnv("SNAPSHOT_CURSOR_TTL_MS", "30000"));
+    public static final int SNAPSHOT_CURSOR_CACHE_MAX_SIZE = Integer.parseInt(getEnv("SNAPSHOT_CURSOR_CACHE_MAX_SIZE", "1000"));
+
+    // Share one outstanding request among concurrent identical reads; writes stop later reads joining affected ones
+    public static final boolean REPOSITORY_COALESCING_ENABLED = Boolean.parseBoolean(getEnv("REPOSITORY_COALESCING_ENABLED", "true"));
+
+    // Cache of entities read as of a past point in time, bounded by serialized bytes; 0 disables it
+    public static final long POINT_IN_TIME_CACHE_MAX_BYTES = Long.parseLong(getEnv("POINT_IN_TIME_CACHE_MAX_BYTES", "67108864"));
+
+    // Opt-in batching of concurrent single-entity writes into collection requests
+    public static final boolean WRITE_BATCHING_ENABLED = Boolean.parseBoolean(getEnv("WRITE_BATCHING_ENABLED", "false"));
+    public static final int WRITE_BATCH_MAX_SIZE = Integer.parseInt(getEnv("WRITE_BATCH_MAX_SIZE", "100"));
+    public static final long WRITE_BATCH_MAX_DELAY_MS = Long.parseLong(getEnv("WRITE_BATCH_MAX_DELAY_MS", "5"));
+
+    // Bulk writes are split into chunks bounded by entity count and serialized bytes, sent a few at a time
+    public static final int BULK_WRITE_CHUNK_MAX_ENTITIES = Integer.parseInt(getEnv("BULK_WRITE_CHUNK_MAX_ENTITIES", "1000"));
+    public static final long BULK_WRITE_CHUNK_MAX_BYTES = Long.parseLong(getEnv("BULK_WRITE_CHUNK_MAX_BYTES", "2097152"));
+    public static final int BULK_WRITE_MAX_IN_FLIGHT = Integer.parseInt(getEnv("BULK_WRITE_MAX_IN_FLIGHT", "4"));
+
+    // Default WriteMode for EntityService mutations: RELOAD (reload written entities) or FAST (no reload)
+    public static final String ENTITY_WRITE_MODE = getEnv("ENTITY_WRITE_MODE", "RELOAD");
+
+    // Opt-in cache of current entity versions for the listed models ("name" or "name:version", comma-separated)
+    public static final String LATEST_ENTITY_CACHE_MODELS = getEnv("LATEST_ENTITY_CACHE_MODELS", "");
+    public static final long LATEST_ENTITY_CACHE_MAX_STALENESS_MS = Long.parseLong(getEnv("LATEST_ENTITY_CACHE_MAX_STALENESS_MS", "5000"));
+    public static final long LATEST_ENTITY_CACHE_REFRESH_MS = Long.parseLong(getEnv("LATEST_ENTITY_CACHE_REFRESH_MS", "3000"));
+    public static final long LATEST_ENTITY_CACHE_MAX_SIZE = Long.parseLong(getEnv("LATEST_ENTITY_CACHE_MAX_SIZE", "10000"));
+
+    // How long findAll with a Pageable reuses the total entity count of a model (0 counts on every page)
+    public static final long ENTITY_COUNT_CACHE_TTL_MS = Long.parseLong(getEnv("ENTITY_COUNT_CACHE_TTL_MS", "0"));
+
+    // Maximum concurrent single-entity reads when EntityService loads many entities by ID
+    public static final int ENTITY_FETCH_MAX_IN_FLIGHT = Integer.parseInt(getEnv("ENTITY_FETCH_MAX_IN_FLIGHT", "16"));
+    // Maximum concurrent single-entity deletes when EntityService deletes many entities by condition or business ID
+    public static final int ENTITY_DELETE_MAX_IN_FLIGHT = Integer.parseInt(getEnv("ENTITY_DELETE_MAX_IN_FLIGHT", "32"));
+
+    // Maximum business IDs resolved to entity IDs without a search by the local business-ID index (0 disables it)
+    public static final long BUSINESS_ID_INDEX_MAX_SIZE = Long.parseLong(getEnv("BUSINESS_ID_INDEX_MAX_SIZE", "50000"));
 
     public static final int HANDSHAKE_TIMEOUT_MS = Integer.parseInt(getEnv("HANDSHAKE_TIMEOUT_MS", "5000"));
 
@@ -0,0 +1,46 @@
+package com.java_template.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.serializer.jackson.EntityCodecRegistry;
+import com.java_template.common.workflow.CyodaEntity;
+import org.cyoda.cloud.api.event.common.EntityMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * ABOUTME: Spring configuration building the EntityCodecRegistry of the application ObjectMapper at startup,
+ * with readers for EntityMetadata and every concrete CyodaEntity class found under the application packages.
+ */
+@Configuration
+public class EntityCodecConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityCodecConfiguration.class);
+
+    private static final String BASE_PACKAGE = "com.java_template";
+
+    @Bean
+    public EntityCodecRegistry entityCodecRegistry(final ObjectMapper objectMapper) {
+        final var registry = EntityCodecRegistry.forMapper(objectMapper);
+        registry.register(EntityMetadata.class);
+
+        final var scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(CyodaEntity.class));
+        int registered = 0;
+        for (final var candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            final var className = candidate.getBeanClassName();
+            try {
+                registry.register(ClassUtils.forName(className, getClass().getClassLoader()));
+                registered++;
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.warn("Could not prepare a reader for entity class {}: {}", className, e.getMessage());
+            }
+        }
+        logger.info("Prepared JSON readers for {} entity classes", registered);
+        return registry;
+    }
+}
@@ -1,12 +1,13 @@
 package com.java_template.common.config;
 
 import com.java_template.common.auth.Authentication;
+import com.java_template.common.grpc.client.BulkheadEventExecutionRouter;
 import com.java_template.common.grpc.client.ClientAuthorizationInterceptor;
 import com.java_template.common.grpc.client.CalculationExecutionStrategy;
 import com.java_template.common.grpc.client.ControlThreadExecutor;
 import com.java_template.common.grpc.client.CriteriaThreadExecutor;
 import com.java_template.common.grpc.client.DefaultEventExecutionRouter;
-import com.java_template.common.grpc.client.EventExecutionRouter;
+import com.java_template.common.grpc.client.KeyOrderedExecutor;
 import com.java_template.common.grpc.client.ProcessorThreadExecutor;
 import com.java_template.common.grpc.client.connection.DefaultReconnectionStrategy;
 import com.java_template.common.grpc.client.monitoring.ConnectionStateTracker;
@@ -17,20 +18,27 @@ import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.protobuf.ProtobufFormat;
 import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.cyoda.cloud.api.grpc.CloudEventsServiceGrpc;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Scope;
 
 import static com.java_template.common.config.Config.GRPC_ADDRESS;
 import static com.java_template.common.config.Config.GRPC_SERVER_PORT;
+import static com.java_template.common.config.Config.PROCESSOR_BULKHEADS;
+import static com.java_template.common.config.Config.PROCESSOR_ENTITY_QUEUE_CAPACITY;
+import static com.java_template.common.config.Config.PROCESSOR_ORDERED_BY_ENTITY;
 
 
 /**
@@ -147,8 +155,9 @@ public class GrpcClientAutoConfiguration {
     }
 
     @Bean
-    public EventExecutionRouter eventExecutionRouter(
-            @Value("${execution.mode:platform}") String executionMode
+    public BulkheadEventExecutionRouter eventExecutionRouter(
+            @Value("${execution.mode:platform}") String executionMode,
+            final ObjectProvider<MeterRegistry> meterRegistry
     ) {
         boolean useVirtual = "virtual".equals(executionMode);
 
@@ -156,10 +165,25 @@ public class GrpcClientAutoConfiguration {
         CalculationExecutionStrategy criteriaExecutor = new CriteriaThreadExecutor(useVirtual);
         CalculationExecutionStrategy controlExecutor = new ControlThreadExecutor(useVirtual);
 
-        return new DefaultEventExecutionRouter(processorExecutor, criteriaExecutor, controlExecutor);
+        if (PROCESSOR_ORDERED_BY_ENTITY) {
+            final var ordered = new KeyOrderedExecutor(processorExecutor, PROCESSOR_ENTITY_QUEUE_CAPACITY, "processor");
+            meterRegistry.ifAvailable(ordered::bindMetrics);
+            processorExecutor = ordered;
+        }
+
+        final var router = new DefaultEventExecutionRouter(processorExecutor, criteriaExecutor, controlExecutor);
+        meterRegistry.ifAvailable(router::bindMetrics);
+
+        final var bulkheadRouter = new BulkheadEventExecutionRouter(
+                router,
+                BulkheadEventExecutionRouter.parseLimits(PROCESSOR_BULKHEADS)
+        );
+        meterRegistry.ifAvailable(bulkheadRouter::bindMetrics);
+        return bulkheadRouter;
     }
 
     @Bean
+    @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
     @ConditionalOnProperty(name = "reconnection.strategy", havingValue = "default", matchIfMissing = true)
     public ReconnectionStrategy reconnectionStrategy() {
         return new DefaultReconnectionStrategy();
@@ -0,0 +1,83 @@
+package com.java_template.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.repository.BatchingCrudRepository;
+import com.java_template.common.repository.CoalescingCrudRepository;
+import com.java_template.common.repository.CrudRepository;
+import com.java_template.common.repository.CyodaRepository;
+import com.java_template.common.repository.PointInTimeCachingCrudRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.java_template.common.config.Config.POINT_IN_TIME_CACHE_MAX_BYTES;
+import static com.java_template.common.config.Config.REPOSITORY_COALESCING_ENABLED;
+import static com.java_template.common.config.Config.WRITE_BATCHING_ENABLED;
+import static com.java_template.common.config.Config.WRITE_BATCH_MAX_DELAY_MS;
+import static com.java_template.common.config.Config.WRITE_BATCH_MAX_SIZE;
+
+/**
+ * ABOUTME: Spring configuration assembling the CrudRepository used by the services
+ * from the gRPC-backed CyodaRepository and the optional decorators layered over it.
+ */
+@Configuration
+public class RepositoryConfiguration {
+
+    private final ScheduledExecutorService batchScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("Cyoda-Write-Batcher").daemon(true).factory()
+    );
+    private final List<AutoCloseable> closeables = new ArrayList<>();
+
+    @Bean
+    @Primary
+    public CrudRepository crudRepository(
+            final CyodaRepository cyodaRepository,
+            final ObjectMapper objectMapper,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        CrudRepository repository = cyodaRepository;
+        if (WRITE_BATCHING_ENABLED) {
+            final var batching = new BatchingCrudRepository(
+                    repository,
+                    WRITE_BATCH_MAX_SIZE,
+                    WRITE_BATCH_MAX_DELAY_MS,
+                    batchScheduler
+            );
+            closeables.add(batching);
+            repository = batching;
+        }
+        if (REPOSITORY_COALESCING_ENABLED) {
+            final var coalescing = new CoalescingCrudRepository(repository);
+            meterRegistry.ifAvailable(coalescing::bindMetrics);
+            repository = coalescing;
+        }
+        if (POINT_IN_TIME_CACHE_MAX_BYTES > 0) {
+            // Outermost, so hits skip the decorators below; the cache already shares concurrent misses
+            final var pointInTimeCache = new PointInTimeCachingCrudRepository(
+                    repository,
+                    objectMapper,
+                    POINT_IN_TIME_CACHE_MAX_BYTES
+            );
+            meterRegistry.ifAvailable(pointInTimeCache::bindMetrics);
+            repository = pointInTimeCache;
+        }
+        return repository;
+    }
+
+    @PreDestroy
+    private void shutdown() throws Exception {
+        // Pending batches are sent before the scheduler goes away
+        for (final var closeable : closeables) {
+            closeable.close();
+        }
+        batchScheduler.shutdown();
+    }
+}
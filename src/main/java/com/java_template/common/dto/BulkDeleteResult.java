@@ -0,0 +1,22 @@
+package com.java_template.common.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * ABOUTME: Outcome of deleting many entities: how many were deleted, how many no longer existed or could not
+ * be resolved, and the failure of every delete that did not go through.
+ * @param deleted number of entities deleted
+ * @param notFound number of entities already gone, or business IDs that matched no entity
+ * @param failures cause of each failed delete by entity ID
+ */
+public record BulkDeleteResult(
+        long deleted,
+        long notFound,
+        Map<UUID, Throwable> failures
+) {
+
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+}
@@ -0,0 +1,22 @@
+package com.java_template.common.dto;
+
+import com.java_template.common.workflow.CyodaEntity;
+
+import java.util.List;
+
+/**
+ * ABOUTME: Outcome of updating several entities by business identifier: the entities that were updated,
+ * in the order they were given, and the business IDs for which no entity exists.
+ * @param updated entities updated, in input order
+ * @param unresolvedBusinessIds business IDs that matched no entity, in input order
+ * @param <T> The type of the business entity
+ */
+public record BusinessIdUpdateResult<T extends CyodaEntity>(
+        List<EntityWithMetadata<T>> updated,
+        List<String> unresolvedBusinessIds
+) {
+
+    public boolean isComplete() {
+        return unresolvedBusinessIds.isEmpty();
+    }
+}
@@ -0,0 +1,23 @@
+package com.java_template.common.dto;
+
+import com.java_template.common.workflow.CyodaEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ABOUTME: Outcome of loading several entities by technical ID: the entities that were found,
+ * in the order their IDs were requested, and the IDs the platform does not know.
+ * @param entities entities found, in request order
+ * @param missingIds requested IDs for which no entity exists, in request order
+ * @param <T> The type of the business entity
+ */
+public record EntityBatch<T extends CyodaEntity>(
+        List<EntityWithMetadata<T>> entities,
+        List<UUID> missingIds
+) {
+
+    public boolean isComplete() {
+        return missingIds.isEmpty();
+    }
+}
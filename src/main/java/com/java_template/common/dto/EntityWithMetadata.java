@@ -3,6 +3,7 @@ package com.java_template.common.dto;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.serializer.jackson.EntityCodecRegistry;
 import com.java_template.common.workflow.CyodaEntity;
 import org.cyoda.cloud.api.event.common.DataPayload;
 import org.cyoda.cloud.api.event.common.EntityMetadata;
@@ -128,6 +129,7 @@ public record EntityWithMetadata<T extends CyodaEntity>(@JsonProperty("entity")
     /**
      * Factory method for creating EntityWithMetadata from a DataPayload.
      * Used internally by serializers to convert request payloads to typed entities.
+     * Reads through the mapper's EntityCodecRegistry, so each class is resolved once.
      * @param <T> the entity type
      * @param payload the DataPayload containing entity data and metadata
      * @param entityClass the entity class for deserialization
@@ -139,9 +141,10 @@ public record EntityWithMetadata<T extends CyodaEntity>(@JsonProperty("entity")
             Class<T> entityClass,
             ObjectMapper objectMapper) {
 
-        T entity = objectMapper.convertValue(payload.getData(), entityClass);
+        EntityCodecRegistry codecs = EntityCodecRegistry.forMapper(objectMapper);
+        T entity = codecs.convertTree(payload.getData(), entityClass);
         EntityMetadata metadata = payload.getMeta() != null
-                ? objectMapper.convertValue(payload.getMeta(), EntityMetadata.class)
+                ? codecs.convertTree(payload.getMeta(), EntityMetadata.class)
                 : new EntityMetadata();
 
         return new EntityWithMetadata<>(entity, metadata);
@@ -155,7 +158,9 @@ public record EntityWithMetadata<T extends CyodaEntity>(@JsonProperty("entity")
      * @param entity the entity that was saved/updated
      * @param objectMapper the ObjectMapper for JSON conversion
      * @return a new EntityWithMetadata instance with transaction metadata
+     * @deprecated use {@link #fromWrite(CyodaEntity, UUID, String)}, which also fills in the model and transition
      */
+    @Deprecated
     public static <T extends CyodaEntity> EntityWithMetadata<T> fromTransactionResponse(
             EntityTransactionResponse response,
             T entity,
@@ -178,7 +183,9 @@ public record EntityWithMetadata<T extends CyodaEntity>(@JsonProperty("entity")
      * @param entities the collection of entities that were saved
      * @param objectMapper the ObjectMapper for JSON conversion
      * @return a list of EntityWithMetadata instances with transaction metadata
+     * @deprecated use {@link #fromWrite(CyodaEntity, UUID, String)} for each entity and its ID
      */
+    @Deprecated
     public static <T extends CyodaEntity> List<EntityWithMetadata<T>> fromTransactionResponseList(
             EntityTransactionResponse response,
             Collection<T> entities,
@@ -193,12 +200,15 @@ public record EntityWithMetadata<T extends CyodaEntity>(@JsonProperty("entity")
     /**
      * Factory method for creating a list of EntityWithMetadata from multiple EntityTransactionResponses.
      * Used for batch update operations to wrap multiple entities with their transaction metadata.
+     * Entities are paired with IDs by position, which does not hold when responses come back in another order.
      * @param <T> the entity type
      * @param responses the list of EntityTransactionResponse from batch update operations
      * @param entities the collection of entities that were updated
      * @param objectMapper the ObjectMapper for JSON conversion
      * @return a list of EntityWithMetadata instances with transaction metadata
+     * @deprecated use {@link #fromWrite(CyodaEntity, UUID, String)} for each entity and its ID
      */
+    @Deprecated
     public static <T extends CyodaEntity> List<EntityWithMetadata<T>> fromTransactionResponseList(
             List<EntityTransactionResponse> responses,
             Collection<T> entities,
@@ -214,6 +224,29 @@ public record EntityWithMetadata<T extends CyodaEntity>(@JsonProperty("entity")
         return assembleEntitiesWithMetadata(entities, allEntityIds);
     }
 
+    /**
+     * Factory method for creating EntityWithMetadata for an entity that was just written, without reloading it.
+     * Used by save/update operations in FAST write mode; the entity ID comes from the transaction response.
+     * The metadata carries the ID, the entity's model and the transition applied; state and dates stay unset.
+     * @param <T> the entity type
+     * @param entity the entity as it was submitted
+     * @param entityId the entity ID from the transaction response
+     * @param transition the transition applied by the write, or null
+     * @return a new EntityWithMetadata instance with write metadata
+     */
+    public static <T extends CyodaEntity> EntityWithMetadata<T> fromWrite(
+            T entity,
+            UUID entityId,
+            String transition) {
+
+        EntityMetadata metadata = new EntityMetadata();
+        metadata.setId(entityId);
+        metadata.setModelKey(entity.getModelKey().modelKey());
+        metadata.setTransitionForLatestSave(transition);
+
+        return new EntityWithMetadata<>(entity, metadata);
+    }
+
     private static <T extends CyodaEntity> @NotNull List<EntityWithMetadata<T>> assembleEntitiesWithMetadata(Collection<T> entities, List<UUID> allEntityIds) {
         List<T> entitiesList = new ArrayList<>(entities);
         List<EntityWithMetadata<T>> entityWithMetadatas = new ArrayList<>();
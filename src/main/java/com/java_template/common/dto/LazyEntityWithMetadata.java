@@ -0,0 +1,134 @@
+package com.java_template.common.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.serializer.jackson.EntityCodecRegistry;
+import com.java_template.common.workflow.CyodaEntity;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.EntityMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * ABOUTME: Deferred counterpart of EntityWithMetadata that keeps the raw DataPayload and binds the entity
+ * and the metadata separately, each on first access. Results that are only filtered, counted or inspected
+ * through their id, state or a single field never pay for binding the full entity.
+ * Binding is memoized; concurrent first accesses may bind twice but always see an equal value.
+ * @param <T> The type of the business entity
+ */
+public final class LazyEntityWithMetadata<T extends CyodaEntity> {
+
+    private final DataPayload payload;
+    private final Class<T> entityClass;
+    private final EntityCodecRegistry codecs;
+
+    private volatile T entity;
+    private volatile EntityMetadata metadata;
+
+    private LazyEntityWithMetadata(DataPayload payload, Class<T> entityClass, EntityCodecRegistry codecs) {
+        this.payload = payload;
+        this.entityClass = entityClass;
+        this.codecs = codecs;
+    }
+
+    /**
+     * Factory method wrapping a DataPayload without binding any of it.
+     * @param <T> the entity type
+     * @param payload the DataPayload containing entity data and metadata
+     * @param entityClass the entity class used when the entity is first accessed
+     * @param objectMapper the ObjectMapper for JSON conversion
+     * @return a new LazyEntityWithMetadata instance
+     */
+    public static <T extends CyodaEntity> LazyEntityWithMetadata<T> fromDataPayload(
+            @NotNull DataPayload payload,
+            @NotNull Class<T> entityClass,
+            @NotNull ObjectMapper objectMapper) {
+        return new LazyEntityWithMetadata<>(payload, entityClass, EntityCodecRegistry.forMapper(objectMapper));
+    }
+
+    /**
+     * Returns the business entity, binding it on first access.
+     */
+    public T entity() {
+        T bound = entity;
+        if (bound == null) {
+            bound = codecs.convertTree(payload.getData(), entityClass);
+            entity = bound;
+        }
+        return bound;
+    }
+
+    /**
+     * Returns the technical metadata, binding it on first access.
+     */
+    public EntityMetadata metadata() {
+        EntityMetadata bound = metadata;
+        if (bound == null) {
+            bound = payload.getMeta() != null
+                    ? codecs.convertTree(payload.getMeta(), EntityMetadata.class)
+                    : new EntityMetadata();
+            metadata = bound;
+        }
+        return bound;
+    }
+
+    /**
+     * Returns the technical ID read straight from the metadata tree, without binding the metadata.
+     */
+    public @Nullable UUID getId() {
+        EntityMetadata bound = metadata;
+        if (bound != null) {
+            return bound.getId();
+        }
+        String id = metaText("id");
+        return id != null ? UUID.fromString(id) : null;
+    }
+
+    /**
+     * Returns the workflow state read straight from the metadata tree, without binding the metadata.
+     */
+    public @Nullable String getState() {
+        EntityMetadata bound = metadata;
+        return bound != null ? bound.getState() : metaText("state");
+    }
+
+    /**
+     * Returns one field of the entity data as JSON, without binding the entity.
+     * @param fieldName top-level field name
+     * @return the field value, or null when the field is absent
+     */
+    public @Nullable JsonNode field(@NotNull String fieldName) {
+        JsonNode data = payload.getData();
+        return data != null ? data.get(fieldName) : null;
+    }
+
+    /**
+     * Returns the raw entity data, for callers that work with JSON directly.
+     */
+    public JsonNode data() {
+        return payload.getData();
+    }
+
+    public boolean isEntityBound() {
+        return entity != null;
+    }
+
+    public boolean isMetadataBound() {
+        return metadata != null;
+    }
+
+    /**
+     * Binds whatever has not been bound yet and returns the eager form.
+     */
+    public EntityWithMetadata<T> toEntityWithMetadata() {
+        return new EntityWithMetadata<>(entity(), metadata());
+    }
+
+    private String metaText(String fieldName) {
+        JsonNode meta = payload.getMeta();
+        JsonNode value = meta != null ? meta.get(fieldName) : null;
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+}
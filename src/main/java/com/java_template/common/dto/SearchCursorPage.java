@@ -0,0 +1,24 @@
+package com.java_template.common.dto;
+
+import com.java_template.common.workflow.CyodaEntity;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * ABOUTME: One page of a cursor-based search with the opaque token for fetching the next page.
+ * @param items entities on this page
+ * @param nextCursor token to pass back for the next page, or null when this is the last page
+ * @param totalElements number of entities matched by the search, or null if the platform did not report it
+ * @param <T> The type of the business entity
+ */
+public record SearchCursorPage<T extends CyodaEntity>(
+        List<EntityWithMetadata<T>> items,
+        @Nullable String nextCursor,
+        @Nullable Long totalElements
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.java_template.common.grpc.client;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ABOUTME: Base for calculation executors with a fixed number of threads and a bounded queue.
+ * Tasks that find the queue full are refused rather than held in memory, and the capacity listener
+ * is told whenever a task finishes so that refused work can be offered again.
+ */
+public abstract class BoundedThreadExecutor implements CalculationExecutionStrategy {
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final ThreadPoolExecutor executorService;
+    private final int queueCapacity;
+    private volatile Runnable capacityListener = () -> { };
+
+    protected BoundedThreadExecutor(
+            final String threadNamePrefix,
+            final int threads,
+            final int queueCapacity,
+            final boolean useVirtualThreads
+    ) {
+        final ThreadFactory threadFactory = useVirtualThreads
+                ? Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+                : Thread.ofPlatform().name(threadNamePrefix, 0).factory();
+        this.queueCapacity = queueCapacity;
+        this.executorService = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory
+        );
+        log.info(
+                "Initialized {} with {} {} threads and room for {} queued tasks",
+                getClass().getSimpleName(),
+                threads,
+                useVirtualThreads ? "virtual" : "platform",
+                queueCapacity
+        );
+    }
+
+    /**
+     * Runs the task, failing with RejectedExecutionException when the queue is full.
+     */
+    @Override
+    public void run(final Runnable task) {
+        if (!tryRun(task)) {
+            throw new RejectedExecutionException(
+                    getClass().getSimpleName() + " is full (" + queueCapacity + " queued tasks)");
+        }
+    }
+
+    @Override
+    public boolean tryRun(final Runnable task) {
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    capacityListener.run();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void setCapacityListener(final Runnable listener) {
+        this.capacityListener = listener;
+    }
+
+    @Override
+    public int queueDepth() {
+        return executorService.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        final var name = getClass().getSimpleName();
+        log.info("Shutting down {}...", name);
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("{} did not terminate in time, forcing shutdown", name);
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            log.error("Interrupted while shutting down {}", name, e);
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("{} shutdown complete", name);
+    }
+}
@@ -0,0 +1,38 @@
+package com.java_template.common.grpc.client;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ABOUTME: Actuator endpoint listing the per-processor bulkheads and changing their limits at runtime.
+ * Like other actuator endpoints it is only reachable once exposed through management.endpoints configuration.
+ */
+@Component
+@Endpoint(id = "bulkheads")
+public class BulkheadEndpoint {
+
+    private final BulkheadEventExecutionRouter router;
+
+    public BulkheadEndpoint(final BulkheadEventExecutionRouter router) {
+        this.router = router;
+    }
+
+    @ReadOperation
+    public List<ProcessorBulkhead.State> bulkheads() {
+        return router.bulkheads();
+    }
+
+    @WriteOperation
+    public ProcessorBulkhead.State configure(
+            @Selector final String processorName,
+            final int maxConcurrent,
+            final int maxQueued
+    ) {
+        return router.configure(processorName, new ProcessorBulkhead.Limits(maxConcurrent, maxQueued));
+    }
+}
@@ -0,0 +1,182 @@
+package com.java_template.common.grpc.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.cyoda.cloud.api.event.common.CloudEventType;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ABOUTME: EventExecutionRouter that puts processors with a configured bulkhead behind their own
+ * concurrency limit and queue before they reach the shared processor pool, so one slow processor
+ * cannot occupy every processor thread. Everything else is routed as the wrapped router does.
+ * Bulkheads are configured from PROCESSOR_BULKHEADS at startup and can be added or changed at runtime.
+ * Ordering keys are honoured before bulkhead admission: a request whose key has an earlier request still
+ * held in another processor's bulkhead is refused, so it cannot overtake that request on the shared pool.
+ */
+public class BulkheadEventExecutionRouter implements EventExecutionRouter {
+    private static final Logger log = LoggerFactory.getLogger(BulkheadEventExecutionRouter.class);
+
+    private static final String METRIC_PREFIX = "cyoda.processor.bulkhead.";
+
+    private final EventExecutionRouter delegate;
+    private final Map<String, ProcessorBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private volatile Runnable capacityListener = () -> { };
+    private volatile MeterRegistry meterRegistry;
+
+    public BulkheadEventExecutionRouter(
+            final EventExecutionRouter delegate,
+            final Map<String, ProcessorBulkhead.Limits> initialLimits
+    ) {
+        this.delegate = delegate;
+        delegate.setCapacityListener(this::onCapacityFreed);
+        initialLimits.forEach(this::configure);
+    }
+
+    /**
+     * Parses bulkhead limits written as processorName=maxConcurrent:maxQueued, separated by commas.
+     * maxQueued may be left out and then defaults to 0.
+     */
+    public static Map<String, ProcessorBulkhead.Limits> parseLimits(final String spec) {
+        final Map<String, ProcessorBulkhead.Limits> limits = new LinkedHashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return limits;
+        }
+        for (final String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final String[] nameAndLimits = entry.split("=", 2);
+            if (nameAndLimits.length != 2 || nameAndLimits[0].isBlank()) {
+                throw new IllegalArgumentException("Invalid bulkhead '" + entry.trim() + "', expected name=maxConcurrent:maxQueued");
+            }
+            final String[] numbers = nameAndLimits[1].trim().split(":", 2);
+            try {
+                limits.put(nameAndLimits[0].trim(), new ProcessorBulkhead.Limits(
+                        Integer.parseInt(numbers[0].trim()),
+                        numbers.length > 1 ? Integer.parseInt(numbers[1].trim()) : 0
+                ));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid bulkhead '" + entry.trim() + "', expected name=maxConcurrent:maxQueued", e);
+            }
+        }
+        return limits;
+    }
+
+    @Override
+    public void routeAndExecute(CloudEventType eventType, Runnable task) {
+        delegate.routeAndExecute(eventType, task);
+    }
+
+    @Override
+    public boolean tryRouteAndExecute(CloudEventType eventType, Runnable task) {
+        return delegate.tryRouteAndExecute(eventType, task);
+    }
+
+    @Override
+    public boolean tryRouteAndExecute(EventRoute route, Runnable task) {
+        final var bulkhead = route.operationName() != null ? bulkheads.get(route.operationName()) : null;
+        if (route.orderingKey() != null && isHeldElsewhere(route.orderingKey(), bulkhead)) {
+            log.debug("Holding back '{}' request for key '{}' behind an earlier one in a bulkhead",
+                    route.operationName(), route.orderingKey());
+            return false;
+        }
+        if (bulkhead == null) {
+            return delegate.tryRouteAndExecute(route, task);
+        }
+        return bulkhead.tryRun(route, task);
+    }
+
+    @Override
+    public void setCapacityListener(Runnable listener) {
+        this.capacityListener = listener;
+    }
+
+    /**
+     * Adds a bulkhead for the processor, or changes the limits of its existing one.
+     */
+    public ProcessorBulkhead.State configure(@NotNull String processorName, @NotNull ProcessorBulkhead.Limits limits) {
+        final var bulkhead = bulkheads.computeIfAbsent(
+                processorName,
+                name -> new ProcessorBulkhead(name, limits, delegate)
+        );
+        // Applies the limits to a bulkhead that already existed; a no-op for a new one
+        bulkhead.setLimits(limits);
+        final var registry = meterRegistry;
+        if (registry != null) {
+            // Registering an existing meter again returns it unchanged
+            bindMetrics(registry, bulkhead);
+        }
+        log.info("Bulkhead of processor '{}' set to {}", processorName, limits);
+        return bulkhead.state();
+    }
+
+    public List<ProcessorBulkhead.State> bulkheads() {
+        return bulkheads.values().stream()
+                .map(ProcessorBulkhead::state)
+                .sorted(Comparator.comparing(ProcessorBulkhead.State::processorName))
+                .toList();
+    }
+
+    /**
+     * Publishes per-processor in-flight, queued, limit, admitted and rejected counts as cyoda.processor.bulkhead.*
+     * tagged with the processor name, for existing and future bulkheads.
+     */
+    public void bindMetrics(@NotNull MeterRegistry registry) {
+        this.meterRegistry = registry;
+        bulkheads.values().forEach(bulkhead -> bindMetrics(registry, bulkhead));
+    }
+
+    private void bindMetrics(final MeterRegistry registry, final ProcessorBulkhead bulkhead) {
+        final var processor = bulkhead.processorName();
+        Gauge.builder(METRIC_PREFIX + "in-flight", bulkhead, ProcessorBulkhead::inFlight)
+                .description("Requests of the processor running or admitted to the processor pool")
+                .tag("processor", processor)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + "queued", bulkhead, ProcessorBulkhead::queuedCount)
+                .description("Requests of the processor waiting for a turn")
+                .tag("processor", processor)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + "limit", bulkhead, ProcessorBulkhead::maxConcurrent)
+                .description("Maximum concurrent requests of the processor")
+                .tag("processor", processor)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "admitted", bulkhead, ProcessorBulkhead::admittedCount)
+                .description("Requests of the processor accepted by its bulkhead")
+                .tag("processor", processor)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "rejected", bulkhead, ProcessorBulkhead::rejectedCount)
+                .description("Requests of the processor refused because its bulkhead was full")
+                .tag("processor", processor)
+                .register(registry);
+    }
+
+    /**
+     * Whether a bulkhead other than own still holds a request with the ordering key. Requests in the same
+     * bulkhead need no check, as it hands them to the shared pool in arrival order.
+     */
+    private boolean isHeldElsewhere(final Object orderingKey, final ProcessorBulkhead own) {
+        for (final var bulkhead : bulkheads.values()) {
+            if (bulkhead != own && bulkhead.holds(orderingKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void onCapacityFreed() {
+        for (final var bulkhead : bulkheads.values()) {
+            bulkhead.pump();
+        }
+        capacityListener.run();
+    }
+}
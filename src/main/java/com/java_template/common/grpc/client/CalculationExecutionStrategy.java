@@ -6,4 +6,37 @@ package com.java_template.common.grpc.client;
  */
 public interface CalculationExecutionStrategy {
     void run(final Runnable run);
+
+    /**
+     * Runs the task if the executor has room for it. Executors without a bound always accept.
+     *
+     * @return false when the task was refused because the executor is full
+     */
+    default boolean tryRun(final Runnable task) {
+        run(task);
+        return true;
+    }
+
+    /**
+     * Runs the task like tryRun, for executors that order tasks by key. Executors that do not order ignore the key.
+     *
+     * @param key tasks with equal keys run one at a time in submission order; null for no ordering
+     * @return false when the task was refused because the executor, or the key's queue, is full
+     */
+    default boolean tryRun(final Object key, final Runnable task) {
+        return tryRun(task);
+    }
+
+    /**
+     * Sets a callback run whenever a task finishes, i.e. whenever room may have been freed.
+     */
+    default void setCapacityListener(final Runnable listener) {
+    }
+
+    /**
+     * Number of tasks waiting for a thread.
+     */
+    default int queueDepth() {
+        return 0;
+    }
 }
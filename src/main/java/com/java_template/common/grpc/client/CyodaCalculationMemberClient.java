@@ -6,22 +6,42 @@ import com.java_template.common.grpc.client.event_handling.EventHandler;
 import com.java_template.common.grpc.client.event_handling.EventHandlingStrategy;
 import com.java_template.common.grpc.client.event_handling.EventSender;
 import io.cloudevents.v1.proto.CloudEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.cyoda.cloud.api.event.common.BaseEvent;
 import org.cyoda.cloud.api.event.common.CloudEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.java_template.common.config.Config.GRPC_PROCESSOR_TAG;
+import static com.java_template.common.config.Config.INBOUND_OVERLOAD_POLICY;
+import static com.java_template.common.config.Config.INBOUND_PAUSE_TIMEOUT_MS;
+import static com.java_template.common.config.Config.PROCESSOR_ORDERED_BY_ENTITY;
 
 
 /**
  * ABOUTME: Main gRPC client for Cyoda calculation member communication providing
  * event handling, connection management, and bidirectional streaming capabilities.
+ * Calculation requests that find their pool full are parked (pausing the inbound stream)
+ * or rejected, according to INBOUND_OVERLOAD_POLICY. A request parked for longer than INBOUND_PAUSE_TIMEOUT_MS
+ * is rejected, so a paused stream resumes before the platform drops the member. With PROCESSOR_ORDERED_BY_ENTITY, processor
+ * requests are keyed by their entityId so that requests for one entity run in arrival order.
  */
 @Component
 class CyodaCalculationMemberClient implements EventHandler {
@@ -31,72 +51,297 @@ class CyodaCalculationMemberClient implements EventHandler {
     private final EventExecutionRouter eventExecutionRouter;
     private final CloudEventBuilder eventBuilder;
     private final List<EventHandlingStrategy<? extends BaseEvent>> eventHandlingStrategies;
+    private final InboundOverloadPolicy overloadPolicy;
+    private final long pauseTimeoutMillis;
+    private final ScheduledExecutorService pauseTimer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cyoda-inbound-pause-timer").daemon(true).factory()
+    );
 
+    private final Deque<ParkedEvent> parkedEvents = new ArrayDeque<>();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private long pausedCount;
+    private long pauseTimeoutCount;
+
+    @Autowired
     CyodaCalculationMemberClient(
             @Lazy final EventSender eventSender,
             final EventExecutionRouter eventExecutionRouter,
             final CloudEventBuilder eventBuilder,
-            final List<EventHandlingStrategy<? extends BaseEvent>> eventHandlingStrategies
+            final List<EventHandlingStrategy<? extends BaseEvent>> eventHandlingStrategies,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this(
+                eventSender,
+                eventExecutionRouter,
+                eventBuilder,
+                eventHandlingStrategies,
+                meterRegistry,
+                InboundOverloadPolicy.fromValue(INBOUND_OVERLOAD_POLICY),
+                INBOUND_PAUSE_TIMEOUT_MS
+        );
+    }
+
+    /**
+     * @param pauseTimeoutMillis how long a request may stay parked under the PAUSE policy before it is rejected
+     */
+    CyodaCalculationMemberClient(
+            final EventSender eventSender,
+            final EventExecutionRouter eventExecutionRouter,
+            final CloudEventBuilder eventBuilder,
+            final List<EventHandlingStrategy<? extends BaseEvent>> eventHandlingStrategies,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            final InboundOverloadPolicy overloadPolicy,
+            final long pauseTimeoutMillis
     ) {
+        if (overloadPolicy == InboundOverloadPolicy.PAUSE && pauseTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("The PAUSE policy needs a positive pause timeout, got " + pauseTimeoutMillis);
+        }
         this.eventSender = eventSender;
         this.eventExecutionRouter = eventExecutionRouter;
         this.eventBuilder = eventBuilder;
         this.eventHandlingStrategies = eventHandlingStrategies;
+        this.overloadPolicy = overloadPolicy;
+        this.pauseTimeoutMillis = pauseTimeoutMillis;
+        eventExecutionRouter.setCapacityListener(this::admitParkedEvents);
+        meterRegistry.ifAvailable(this::bindMetrics);
+        log.info("Inbound overload policy: {}", overloadPolicy);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pauseTimer.shutdownNow();
     }
 
     @Override
     public void handleEvent(final CloudEvent cloudEvent) {
+        handleEvent(cloudEvent, () -> { });
+    }
+
+    @Override
+    public void handleEvent(final CloudEvent cloudEvent, final Runnable readyForNext) {
+        handleEvent(cloudEvent, eventSender, readyForNext);
+    }
+
+    /**
+     * Routes the event to its thread pool; its response is sent through replyTo. readyForNext runs once
+     * the event has been admitted, or rejected under the REJECT policy; under the PAUSE policy an event
+     * that finds its pool full is parked and readyForNext is held back until the pool has room for it.
+     */
+    @Override
+    public void handleEvent(final CloudEvent cloudEvent, final EventSender replyTo, final Runnable readyForNext) {
         // Determine event type BEFORE submitting to thread pool for proper routing
         final CloudEventType cloudEventType;
         try {
             cloudEventType = CloudEventType.fromValue(cloudEvent.getType());
         } catch (Exception e) {
             log.error("Failed to parse CloudEventType from event: {}", cloudEvent, e);
+            readyForNext.run();
             return;
         }
 
+        final var route = EventRoute.forEvent(cloudEventType, cloudEvent, PROCESSOR_ORDERED_BY_ENTITY);
+        if (PROCESSOR_ORDERED_BY_ENTITY && route.eventType() == CloudEventType.ENTITY_PROCESSOR_CALCULATION_REQUEST
+                && route.orderingKey() == null) {
+            log.warn("No entityId found in event '{}', running it unordered", cloudEvent.getId());
+        }
+        final Runnable task = () -> processEvent(cloudEventType, cloudEvent, replyTo);
+
         // Route to appropriate thread pool based on event type
-        eventExecutionRouter.routeAndExecute(cloudEventType, () -> {
-            try {
+        final boolean admitted;
+        if (route.orderingKey() == null) {
+            admitted = eventExecutionRouter.tryRouteAndExecute(route, task);
+        } else {
+            synchronized (parkedEvents) {
+                // An entity with a parked request keeps its order: later requests queue up behind it
+                admitted = !hasParkedEventFor(route.orderingKey(), null)
+                        && eventExecutionRouter.tryRouteAndExecute(route, task);
+            }
+        }
+        if (admitted) {
+            readyForNext.run();
+            return;
+        }
+
+        if (overloadPolicy == InboundOverloadPolicy.REJECT) {
+            rejectEvent(cloudEventType, cloudEvent, replyTo);
+            readyForNext.run();
+            return;
+        }
+
+        log.debug("No room for {}, pausing inbound stream at event '{}'", cloudEventType, cloudEvent.getId());
+        synchronized (parkedEvents) {
+            parkedEvents.addLast(new ParkedEvent(route, cloudEvent, replyTo, task, readyForNext, System.nanoTime()));
+            pausedCount++;
+        }
+        pauseTimer.schedule(this::rejectExpiredParkedEvents, pauseTimeoutMillis, TimeUnit.MILLISECONDS);
+        // The pool may have freed up between the refusal and parking
+        admitParkedEvents();
+    }
+
+    private void processEvent(
+            final CloudEventType cloudEventType,
+            final CloudEvent cloudEvent,
+            final EventSender replyTo
+    ) {
+        try {
+            log.debug(
+                    "[IN] Received event {}: \n{}",
+                    cloudEventType,
+                    cloudEvent.getTextData()
+            );
+
+            final var strategy = findStrategy(cloudEventType);
+
+            if (strategy == null) {
+                log.error("No handler strategy found for event {}", cloudEventType);
+                return;
+            }
+
+            log.debug(
+                    "Using strategy '{}' for event type '{}'",
+                    strategy.getClass().getSimpleName(),
+                    cloudEventType
+            );
+
+            // The contract on handleEvent is that it does not throw Exceptions,
+            // but handles them internally and returns an error response.
+            final var response = strategy.handleEvent(cloudEvent);
+            if (response != null) {
+                sendEvent(response, replyTo);
+            } else {
                 log.debug(
-                        "[IN] Received event {}: \n{}",
+                        "Nothing to respond for event '{}':'{}'",
                         cloudEventType,
-                        cloudEvent.getTextData()
+                        cloudEvent.getId()
                 );
+            }
 
-                final var strategy = eventHandlingStrategies.stream()
-                        .filter(it -> it.supports(cloudEventType))
-                        .findFirst()
-                        .orElse(null);
+        } catch (Exception e) {
+            log.error("Error processing event: {}", cloudEvent, e);
+        }
+    }
 
-                if (strategy == null) {
-                    log.error("No handler strategy found for event {}", cloudEventType);
-                    return;
-                }
+    private void rejectEvent(
+            final CloudEventType cloudEventType,
+            final CloudEvent cloudEvent,
+            final EventSender replyTo
+    ) {
+        rejectedCount.incrementAndGet();
+        log.warn("No room for {}, rejecting event '{}'", cloudEventType, cloudEvent.getId());
+        try {
+            final var strategy = findStrategy(cloudEventType);
+            final var response = strategy != null
+                    ? strategy.rejectEvent(cloudEvent, "Calculation member overloaded: no room for " + cloudEventType)
+                    : null;
+            if (response != null) {
+                sendEvent(response, replyTo);
+            }
+        } catch (Exception e) {
+            log.error("Error rejecting event: {}", cloudEvent, e);
+        }
+    }
 
-                log.debug(
-                        "Using strategy '{}' for event type '{}'",
-                        strategy.getClass().getSimpleName(),
-                        cloudEventType
-                );
+    /**
+     * Offers parked events to their executors in arrival order. An event that is still refused does not hold
+     * back events bound for other executors, only later events with the same ordering key.
+     */
+    private void admitParkedEvents() {
+        final List<Runnable> released = new ArrayList<>();
+        synchronized (parkedEvents) {
+            final var iterator = parkedEvents.iterator();
+            while (iterator.hasNext()) {
+                final var parked = iterator.next();
+                final var orderingKey = parked.route().orderingKey();
+                if (orderingKey != null && hasParkedEventFor(orderingKey, parked)) {
+                    continue;
+                }
+                if (eventExecutionRouter.tryRouteAndExecute(parked.route(), parked.task())) {
+                    iterator.remove();
+                    released.add(parked.readyForNext());
+                }
+            }
+        }
+        released.forEach(Runnable::run);
+    }
 
-                // The contract on handleEvent is that it does not throw Exceptions,
-                // but handles them internally and returns an error response.
-                final var response = strategy.handleEvent(cloudEvent);
-                if (response != null) {
-                    sendEvent(response);
-                } else {
-                    log.debug(
-                            "Nothing to respond for event '{}':'{}'",
-                            cloudEventType,
-                            cloudEvent.getId()
-                    );
+    /**
+     * Rejects events parked for longer than the pause timeout and resumes reading for each. While every
+     * prefetched message is parked the stream is not read at all, keep-alives included.
+     */
+    private void rejectExpiredParkedEvents() {
+        final long expiredBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(pauseTimeoutMillis);
+        final List<ParkedEvent> expired = new ArrayList<>();
+        synchronized (parkedEvents) {
+            final var iterator = parkedEvents.iterator();
+            while (iterator.hasNext()) {
+                final var parked = iterator.next();
+                if (parked.parkedAtNanos() - expiredBefore <= 0) {
+                    iterator.remove();
+                    expired.add(parked);
+                    pauseTimeoutCount++;
                 }
+            }
+        }
+        for (final var parked : expired) {
+            log.warn("Event '{}' waited over {} ms for room in its pool", parked.cloudEvent().getId(), pauseTimeoutMillis);
+            rejectEvent(parked.route().eventType(), parked.cloudEvent(), parked.replyTo());
+            parked.readyForNext().run();
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("Error processing event: {}", cloudEvent, e);
+    /**
+     * Whether an event with the given ordering key is parked ahead of before, or anywhere when before is null.
+     */
+    private boolean hasParkedEventFor(final Object orderingKey, final ParkedEvent before) {
+        for (final var parked : parkedEvents) {
+            if (parked == before) {
+                return false;
+            }
+            if (orderingKey.equals(parked.route().orderingKey())) {
+                return true;
             }
-        });
+        }
+        return false;
+    }
+
+    private EventHandlingStrategy<? extends BaseEvent> findStrategy(final CloudEventType cloudEventType) {
+        return eventHandlingStrategies.stream()
+                .filter(it -> it.supports(cloudEventType))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void bindMetrics(final MeterRegistry registry) {
+        FunctionCounter.builder("cyoda.inbound.rejected", rejectedCount, AtomicLong::get)
+                .description("Calculation requests rejected because their pool was full")
+                .register(registry);
+        FunctionCounter.builder("cyoda.inbound.paused", this, client -> client.pausedCount())
+                .description("Calculation requests that paused the inbound stream because their pool was full")
+                .register(registry);
+        FunctionCounter.builder("cyoda.inbound.pause.timeouts", this, client -> client.pauseTimeoutCount())
+                .description("Parked calculation requests rejected because they waited longer than the pause timeout")
+                .register(registry);
+        Gauge.builder("cyoda.inbound.parked", this, client -> client.parkedCount())
+                .description("Calculation requests waiting for room in their pool")
+                .register(registry);
+    }
+
+    private long pausedCount() {
+        synchronized (parkedEvents) {
+            return pausedCount;
+        }
+    }
+
+    private long pauseTimeoutCount() {
+        synchronized (parkedEvents) {
+            return pauseTimeoutCount;
+        }
+    }
+
+    private int parkedCount() {
+        synchronized (parkedEvents) {
+            return parkedEvents.size();
+        }
     }
 
     @Override
@@ -104,7 +349,7 @@ class CyodaCalculationMemberClient implements EventHandler {
         return Set.of(GRPC_PROCESSOR_TAG);
     }
 
-    private void sendEvent(final BaseEvent event) {
+    private void sendEvent(final BaseEvent event, final EventSender replyTo) {
         final CloudEvent cloudEvent;
         try {
             cloudEvent = eventBuilder.buildEvent(event);
@@ -121,6 +366,15 @@ class CyodaCalculationMemberClient implements EventHandler {
             log.warn("[OUT] Sending event {}, success: {}", cloudEvent.getType(), event.getSuccess());
         }
 
-        eventSender.sendEvent(cloudEvent);
+        replyTo.sendEvent(cloudEvent);
     }
+
+    private record ParkedEvent(
+            EventRoute route,
+            CloudEvent cloudEvent,
+            EventSender replyTo,
+            Runnable task,
+            Runnable readyForNext,
+            long parkedAtNanos
+    ) { }
 }
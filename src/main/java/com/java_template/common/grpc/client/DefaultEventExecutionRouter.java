@@ -1,6 +1,9 @@
 package com.java_template.common.grpc.client;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.cyoda.cloud.api.event.common.CloudEventType;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,10 +13,13 @@ import org.slf4j.LoggerFactory;
  * - ENTITY_PROCESSOR_CALCULATION_REQUEST → processor pool (heavy, long-running)
  * - ENTITY_CRITERIA_CALCULATION_REQUEST → criteria pool (medium weight)
  * - All other events → control pool (lightweight, must be fast)
+ * Only the processor and criteria pools are bounded; control events are always accepted.
  */
 public class DefaultEventExecutionRouter implements EventExecutionRouter {
     private static final Logger log = LoggerFactory.getLogger(DefaultEventExecutionRouter.class);
 
+    private static final String QUEUE_DEPTH_METRIC = "cyoda.inbound.queue.depth";
+
     private final CalculationExecutionStrategy processorExecutor;
     private final CalculationExecutionStrategy criteriaExecutor;
     private final CalculationExecutionStrategy controlExecutor;
@@ -31,23 +37,51 @@ public class DefaultEventExecutionRouter implements EventExecutionRouter {
 
     @Override
     public void routeAndExecute(CloudEventType eventType, Runnable task) {
+        executorFor(eventType).run(task);
+    }
+
+    @Override
+    public boolean tryRouteAndExecute(CloudEventType eventType, Runnable task) {
+        return executorFor(eventType).tryRun(task);
+    }
+
+    @Override
+    public boolean tryRouteAndExecute(EventRoute route, Runnable task) {
+        return executorFor(route.eventType()).tryRun(route.orderingKey(), task);
+    }
+
+    @Override
+    public void setCapacityListener(Runnable listener) {
+        processorExecutor.setCapacityListener(listener);
+        criteriaExecutor.setCapacityListener(listener);
+    }
+
+    /**
+     * Publishes the number of queued tasks of the processor and criteria pools as cyoda.inbound.queue.depth.
+     */
+    public void bindMetrics(@NotNull MeterRegistry registry) {
+        Gauge.builder(QUEUE_DEPTH_METRIC, processorExecutor, CalculationExecutionStrategy::queueDepth)
+                .tag("pool", "processor")
+                .register(registry);
+        Gauge.builder(QUEUE_DEPTH_METRIC, criteriaExecutor, CalculationExecutionStrategy::queueDepth)
+                .tag("pool", "criteria")
+                .register(registry);
+    }
+
+    private CalculationExecutionStrategy executorFor(CloudEventType eventType) {
         switch (eventType) {
             case ENTITY_PROCESSOR_CALCULATION_REQUEST:
                 log.debug("Routing {} to processor thread pool", eventType);
-                processorExecutor.run(task);
-                break;
-            
+                return processorExecutor;
+
             case ENTITY_CRITERIA_CALCULATION_REQUEST:
                 log.debug("Routing {} to criteria thread pool", eventType);
-                criteriaExecutor.run(task);
-                break;
-            
+                return criteriaExecutor;
+
             default:
                 // All other events (keep-alive, ACK, greet, etc.) go to control pool
                 log.debug("Routing {} to control thread pool", eventType);
-                controlExecutor.run(task);
-                break;
+                return controlExecutor;
         }
     }
 }
-
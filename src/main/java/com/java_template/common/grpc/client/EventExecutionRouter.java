@@ -14,5 +14,35 @@ public interface EventExecutionRouter {
      * @param task The task to execute
      */
     void routeAndExecute(CloudEventType eventType, Runnable task);
+
+    /**
+     * Routes the given task like routeAndExecute, unless the executor for the event type has no room for it.
+     *
+     * @param eventType The type of CloudEvent being processed
+     * @param task The task to execute
+     * @return true if the task was accepted, false if the executor is full
+     */
+    default boolean tryRouteAndExecute(CloudEventType eventType, Runnable task) {
+        routeAndExecute(eventType, task);
+        return true;
+    }
+
+    /**
+     * Routes the given task by its full route rather than only the event type. Tasks with equal ordering keys
+     * run one at a time in submission order when the executor for the event type orders by key.
+     *
+     * @param route The event type, operation and ordering key of the event being processed
+     * @param task The task to execute
+     * @return true if the task was accepted, false if there is no room for it
+     */
+    default boolean tryRouteAndExecute(EventRoute route, Runnable task) {
+        return tryRouteAndExecute(route.eventType(), task);
+    }
+
+    /**
+     * Sets a callback run whenever one of the executors may have freed room for another task.
+     */
+    default void setCapacityListener(Runnable listener) {
+    }
 }
 
@@ -0,0 +1,66 @@
+package com.java_template.common.grpc.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.cloudevents.v1.proto.CloudEvent;
+import org.cyoda.cloud.api.event.common.CloudEventType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * ABOUTME: Where an inbound event runs: its type, the operation it invokes (the processor name of a
+ * processor request) and the key its execution is ordered by (the entity ID, when processor requests
+ * are ordered by entity). The fields are read from the top level of the event without binding the request.
+ * @param eventType the type of the event
+ * @param operationName the processor name, or null for events that are not processor requests
+ * @param orderingKey the key to order by, or null for no ordering
+ */
+public record EventRoute(
+        @NotNull CloudEventType eventType,
+        String operationName,
+        Object orderingKey
+) {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public static EventRoute of(@NotNull CloudEventType eventType) {
+        return new EventRoute(eventType, null, null);
+    }
+
+    /**
+     * Reads the route of an event. Only processor requests are parsed, and only until the fields needed are found.
+     * @param orderByEntity whether processor requests are ordered by their entityId
+     */
+    public static EventRoute forEvent(
+            @NotNull CloudEventType eventType,
+            @NotNull CloudEvent cloudEvent,
+            boolean orderByEntity
+    ) {
+        if (eventType != CloudEventType.ENTITY_PROCESSOR_CALCULATION_REQUEST) {
+            return of(eventType);
+        }
+        String processorName = null;
+        String entityId = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(cloudEvent.getTextData())) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME
+                        && (processorName == null || (orderByEntity && entityId == null))) {
+                    final String fieldName = parser.currentName();
+                    final JsonToken value = parser.nextToken();
+                    if (value == JsonToken.VALUE_STRING && "processorName".equals(fieldName)) {
+                        processorName = parser.getText();
+                    } else if (value == JsonToken.VALUE_STRING && orderByEntity && "entityId".equals(fieldName)) {
+                        entityId = parser.getText();
+                    } else {
+                        // Nested objects (the payload) are skipped unread
+                        parser.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Unreadable requests run unordered on the shared pool; the strategy reports the parse error
+        }
+        return new EventRoute(eventType, processorName, entityId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.java_template.common.grpc.client;
+
+import java.util.Locale;
+
+/**
+ * ABOUTME: What the calculation member does with a calculation request when the pool it is routed to is full.
+ */
+public enum InboundOverloadPolicy {
+    /**
+     * Hold the request and stop asking the platform for more until the pool has room.
+     */
+    PAUSE,
+    /**
+     * Answer the request straight away with an OVERLOADED error response.
+     */
+    REJECT;
+
+    public static InboundOverloadPolicy fromValue(final String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,174 @@
+package com.java_template.common.grpc.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ABOUTME: Executor decorator that runs tasks with equal keys one at a time in submission order,
+ * while tasks with different keys run in parallel on the wrapped executor. A key with a task in flight
+ * queues further tasks in its own bounded queue; after each task the key's next one is handed back to the
+ * wrapped executor when it has room, so a busy key does not hold on to a thread ahead of other keys.
+ */
+public class KeyOrderedExecutor implements CalculationExecutionStrategy {
+    private static final Logger log = LoggerFactory.getLogger(KeyOrderedExecutor.class);
+
+    private final CalculationExecutionStrategy delegate;
+    private final int perKeyCapacity;
+    private final String poolName;
+
+    private final ConcurrentHashMap<Object, KeyQueue> keyQueues = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder rejectedByKey = new LongAdder();
+
+    public KeyOrderedExecutor(
+            final CalculationExecutionStrategy delegate,
+            final int perKeyCapacity,
+            final String poolName
+    ) {
+        this.delegate = delegate;
+        this.perKeyCapacity = perKeyCapacity;
+        this.poolName = poolName;
+        log.info("Ordering {} tasks by key with room for {} waiting tasks per key", poolName, perKeyCapacity);
+    }
+
+    @Override
+    public void run(final Runnable task) {
+        delegate.run(task);
+    }
+
+    @Override
+    public boolean tryRun(final Runnable task) {
+        return delegate.tryRun(task);
+    }
+
+    @Override
+    public boolean tryRun(final Object key, final Runnable task) {
+        if (key == null) {
+            return delegate.tryRun(task);
+        }
+        while (true) {
+            final KeyQueue queue = keyQueues.computeIfAbsent(key, KeyQueue::new);
+            synchronized (queue) {
+                if (queue.retired) {
+                    // Emptied and removed after we looked it up; look again
+                    continue;
+                }
+                if (queue.active) {
+                    if (queue.pending.size() >= perKeyCapacity) {
+                        rejectedByKey.increment();
+                        return false;
+                    }
+                    queue.pending.addLast(task);
+                    waiting.incrementAndGet();
+                    contended.increment();
+                    return true;
+                }
+                queue.active = true;
+                if (delegate.tryRun(() -> drain(queue, task))) {
+                    return true;
+                }
+                queue.active = false;
+                retire(queue);
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void setCapacityListener(final Runnable listener) {
+        delegate.setCapacityListener(listener);
+    }
+
+    @Override
+    public int queueDepth() {
+        return delegate.queueDepth();
+    }
+
+    /**
+     * Number of keys with a task in flight.
+     */
+    public int activeKeys() {
+        return keyQueues.size();
+    }
+
+    /**
+     * Number of tasks waiting behind an earlier task with the same key.
+     */
+    public int waitingTasks() {
+        return waiting.get();
+    }
+
+    /**
+     * Publishes key contention as cyoda.inbound.ordered.* metrics tagged with the pool name.
+     */
+    public void bindMetrics(@NotNull final MeterRegistry registry) {
+        Gauge.builder("cyoda.inbound.ordered.keys", this, KeyOrderedExecutor::activeKeys)
+                .description("Keys with a task in flight")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge.builder("cyoda.inbound.ordered.waiting", this, KeyOrderedExecutor::waitingTasks)
+                .description("Tasks waiting behind an earlier task with the same key")
+                .tag("pool", poolName)
+                .register(registry);
+        FunctionCounter.builder("cyoda.inbound.ordered.contended", contended, LongAdder::sum)
+                .description("Tasks that had to wait behind an earlier task with the same key")
+                .tag("pool", poolName)
+                .register(registry);
+        FunctionCounter.builder("cyoda.inbound.ordered.rejected", rejectedByKey, LongAdder::sum)
+                .description("Tasks refused because their key's queue was full")
+                .tag("pool", poolName)
+                .register(registry);
+    }
+
+    private void drain(final KeyQueue queue, final Runnable first) {
+        Runnable next = first;
+        while (true) {
+            try {
+                next.run();
+            } catch (RuntimeException e) {
+                log.error("Task for key {} failed", queue.key, e);
+            }
+            synchronized (queue) {
+                next = queue.pending.pollFirst();
+                if (next == null) {
+                    queue.active = false;
+                    retire(queue);
+                    return;
+                }
+                waiting.decrementAndGet();
+            }
+            // Give other keys a turn when the pool has room; otherwise keep going on this thread
+            final Runnable rest = next;
+            if (delegate.tryRun(() -> drain(queue, rest))) {
+                return;
+            }
+        }
+    }
+
+    private void retire(final KeyQueue queue) {
+        queue.retired = true;
+        keyQueues.remove(queue.key, queue);
+    }
+
+    private static final class KeyQueue {
+        private final Object key;
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private boolean active;
+        private boolean retired;
+
+        private KeyQueue(final Object key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.java_template.common.grpc.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ABOUTME: Concurrency limit for one processor. At most maxConcurrent of its requests run on the shared
+ * processor pool at a time and at most maxQueued wait for a turn, in arrival order; requests beyond
+ * that are refused. Limits can be changed while requests are in flight.
+ * A request counts as held by the bulkhead until the shared pool has accepted it.
+ */
+public final class ProcessorBulkhead {
+
+    private final String processorName;
+    private final EventExecutionRouter delegate;
+
+    private final Deque<Pending> queued = new ArrayDeque<>();
+    private final AtomicInteger pumpRequests = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // Guarded by this
+    private int maxConcurrent;
+    private int maxQueued;
+    private int inFlight;
+    private Pending starting;
+
+    ProcessorBulkhead(
+            final String processorName,
+            final Limits limits,
+            final EventExecutionRouter delegate
+    ) {
+        this.processorName = processorName;
+        this.maxConcurrent = limits.maxConcurrent();
+        this.maxQueued = limits.maxQueued();
+        this.delegate = delegate;
+    }
+
+    /**
+     * Accepts the request if it can start now or has room to wait.
+     *
+     * @return false when the processor already has maxConcurrent requests running and maxQueued waiting
+     */
+    boolean tryRun(final EventRoute route, final Runnable task) {
+        synchronized (this) {
+            if (queued.size() >= maxQueued && inFlight + queued.size() >= maxConcurrent) {
+                rejected.increment();
+                return false;
+            }
+            queued.addLast(new Pending(route, task));
+        }
+        admitted.increment();
+        pump();
+        return true;
+    }
+
+    void setLimits(final Limits limits) {
+        synchronized (this) {
+            this.maxConcurrent = limits.maxConcurrent();
+            this.maxQueued = limits.maxQueued();
+        }
+        // A raised limit lets waiting requests start straight away
+        pump();
+    }
+
+    /**
+     * Starts waiting requests while the processor is under its limit and the shared pool takes them.
+     * Only one caller submits at a time, so requests start in the order they arrived.
+     */
+    void pump() {
+        if (pumpRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            startQueued();
+            requests = pumpRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    public String processorName() {
+        return processorName;
+    }
+
+    public synchronized State state() {
+        return new State(processorName, maxConcurrent, maxQueued, inFlight, queued.size(), rejected.sum());
+    }
+
+    /**
+     * Whether a request with the given ordering key is waiting here or being handed to the shared pool.
+     */
+    synchronized boolean holds(final Object orderingKey) {
+        if (starting != null && orderingKey.equals(starting.route().orderingKey())) {
+            return true;
+        }
+        for (final var pending : queued) {
+            if (orderingKey.equals(pending.route().orderingKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized int queuedCount() {
+        return queued.size();
+    }
+
+    synchronized int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    long admittedCount() {
+        return admitted.sum();
+    }
+
+    long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private void startQueued() {
+        while (true) {
+            final Pending next;
+            synchronized (this) {
+                if (inFlight >= maxConcurrent || queued.isEmpty()) {
+                    return;
+                }
+                next = queued.pollFirst();
+                starting = next;
+                inFlight++;
+            }
+            if (!delegate.tryRouteAndExecute(next.route(), () -> runAndRelease(next.task()))) {
+                // The shared pool is full; retried when it reports free capacity
+                synchronized (this) {
+                    starting = null;
+                    inFlight--;
+                    queued.addFirst(next);
+                }
+                return;
+            }
+            synchronized (this) {
+                starting = null;
+            }
+        }
+    }
+
+    private void runAndRelease(final Runnable task) {
+        try {
+            task.run();
+        } finally {
+            synchronized (this) {
+                inFlight--;
+            }
+            pump();
+        }
+    }
+
+    /**
+     * Concurrency and queue limits of a bulkhead.
+     */
+    public record Limits(int maxConcurrent, int maxQueued) {
+        public Limits {
+            if (maxConcurrent < 1 || maxQueued < 0) {
+                throw new IllegalArgumentException(
+                        "Bulkhead needs maxConcurrent >= 1 and maxQueued >= 0, got " + maxConcurrent + ":" + maxQueued);
+            }
+        }
+    }
+
+    /**
+     * Point-in-time view of a bulkhead, for monitoring.
+     */
+    public record State(
+            String processorName,
+            int maxConcurrent,
+            int maxQueued,
+            int inFlight,
+            int queued,
+            long rejected
+    ) { }
+
+    private record Pending(EventRoute route, Runnable task) { }
+}
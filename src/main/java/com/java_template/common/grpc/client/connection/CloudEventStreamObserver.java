@@ -1,22 +1,56 @@
 package com.java_template.common.grpc.client.connection;
 
 import io.cloudevents.v1.proto.CloudEvent;
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
- * ABOUTME: Record-based StreamObserver implementation for CloudEvent handling
- * with functional callback support for next, error, and complete events.
+ * ABOUTME: StreamObserver implementation for CloudEvent handling with functional callback support
+ * for next, error, and complete events. Inbound flow is controlled manually: a fixed number of
+ * messages is requested up front and one more each time the handler reports it is ready for the next.
+ * onStart receives the outbound side of the call before it starts, to set up its onReady handling.
  */
-record CloudEventStreamObserver(
-        Consumer<CloudEvent> onNext,
-        Consumer<Throwable> onError,
-        Runnable onComplete
-) implements StreamObserver<CloudEvent> {
+final class CloudEventStreamObserver implements ClientResponseObserver<CloudEvent, CloudEvent> {
+    private final Consumer<ClientCallStreamObserver<CloudEvent>> onStart;
+    private final BiConsumer<CloudEvent, Runnable> onNext;
+    private final Consumer<Throwable> onError;
+    private final Runnable onComplete;
+    private final int initialRequests;
+
+    private volatile ClientCallStreamObserver<CloudEvent> requestStream;
+
+    CloudEventStreamObserver(
+            final Consumer<ClientCallStreamObserver<CloudEvent>> onStart,
+            final BiConsumer<CloudEvent, Runnable> onNext,
+            final Consumer<Throwable> onError,
+            final Runnable onComplete,
+            final int initialRequests
+    ) {
+        this.onStart = onStart;
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+        this.initialRequests = initialRequests;
+    }
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<CloudEvent> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.disableAutoRequestWithInitialRequest(initialRequests);
+        onStart.accept(requestStream);
+    }
 
     @Override
     public void onNext(final CloudEvent value) {
-        onNext.accept(value);
+        final var released = new AtomicBoolean(false);
+        onNext.accept(value, () -> {
+            if (!released.getAndSet(true)) {
+                requestStream.request(1);
+            }
+        });
     }
 
     @Override
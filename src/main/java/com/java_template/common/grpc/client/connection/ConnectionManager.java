@@ -1,49 +1,46 @@
 package com.java_template.common.grpc.client.connection;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.java_template.common.grpc.client.event_handling.CloudEventBuilder;
 import com.java_template.common.grpc.client.event_handling.EventHandler;
 import com.java_template.common.grpc.client.event_handling.EventSender;
 import com.java_template.common.grpc.client.monitoring.ConnectionStateTracker;
 import com.java_template.common.grpc.client.monitoring.EventTracker;
-import com.java_template.common.grpc.client.monitoring.ObserverState;
 import io.cloudevents.v1.proto.CloudEvent;
-import io.grpc.stub.StreamObserver;
-import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import org.cyoda.cloud.api.event.processing.CalculationMemberJoinEvent;
 import org.cyoda.cloud.api.grpc.CloudEventsServiceGrpc;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
-import static com.java_template.common.config.Config.HANDSHAKE_TIMEOUT_MS;
+import static com.java_template.common.config.Config.GRPC_MEMBER_STREAMS;
 
 
 /**
  * ABOUTME: Central connection manager for gRPC streams handling connection lifecycle,
  * event routing, monitoring, and automatic reconnection with state tracking.
+ * Opens GRPC_MEMBER_STREAMS member streams that share the worker pools; each joins, reconnects
+ * and writes its outbound events independently, and responses go back on the stream the request came from.
  */
 @Component
 class ConnectionManager implements EventSender {
     private final Logger log = LoggerFactory.getLogger(this.getClass());
-    private final AtomicBoolean isConnecting = new AtomicBoolean(false);
 
-    private final EventHandler eventHandler;
-    private final EventTracker eventTracker;
-    private final ConnectionStateTracker connectionStateTracker;
-    private final CloudEventBuilder eventBuilder;
-    private final CloudEventsServiceGrpc.CloudEventsServiceStub cloudEventsServiceStub;
-    private final ReconnectionStrategy reconnectionStrategy;
-    private final GreetEventListener greetEventListener;
-
-    private StreamObserver<CloudEvent> streamObserver;
+    private final List<MemberStream> memberStreams;
+    private final ExecutorService outboundExecutor;
+    private final AtomicInteger nextStream = new AtomicInteger();
 
     public ConnectionManager(
             @Lazy final EventHandler eventHandler,
@@ -51,119 +48,89 @@ class ConnectionManager implements EventSender {
             final ConnectionStateTracker connectionStateTracker,
             final CloudEventBuilder eventBuilder,
             final CloudEventsServiceGrpc.CloudEventsServiceStub cloudEventsServiceStub,
-            final ReconnectionStrategy reconnectionStrategy,
-            final GreetEventListener greetEventListener
+            final ObjectProvider<ReconnectionStrategy> reconnectionStrategies,
+            final ObjectProvider<MeterRegistry> meterRegistry
     ) {
-        this.eventHandler = eventHandler;
-        this.eventTracker = eventTracker;
-        this.connectionStateTracker = connectionStateTracker;
-        this.eventBuilder = eventBuilder;
-        this.cloudEventsServiceStub = cloudEventsServiceStub;
-        this.reconnectionStrategy = reconnectionStrategy;
-        this.greetEventListener = greetEventListener;
-    }
-
-    private CloudEvent createJoinEvent(
-            final String id,
-            final Set<String> tags
-    ) throws InvalidProtocolBufferException {
-        return eventBuilder.buildEvent(
-                new CalculationMemberJoinEvent().withId(id).withTags(tags.stream().toList())
+        final int streamCount = Math.max(1, GRPC_MEMBER_STREAMS);
+        // One writer thread per stream at most: a stream's drains never overlap
+        this.outboundExecutor = Executors.newFixedThreadPool(
+                streamCount,
+                Thread.ofPlatform().name("cyoda-outbound-writer-", 0).daemon(true).factory()
         );
+
+        final var registry = meterRegistry.getIfAvailable();
+        final LongConsumer writeLatencyNanos;
+        if (registry != null) {
+            final var writeLatency = Timer.builder("cyoda.outbound.write.latency")
+                    .description("Time from a response being sent to it being written to the stream")
+                    .register(registry);
+            writeLatencyNanos = nanos -> writeLatency.record(nanos, TimeUnit.NANOSECONDS);
+        } else {
+            writeLatencyNanos = nanos -> { };
+        }
+
+        final List<MemberStream> streams = new ArrayList<>(streamCount);
+        for (int i = 0; i < streamCount; i++) {
+            streams.add(new MemberStream(
+                    "member-" + i,
+                    eventHandler,
+                    eventTracker,
+                    connectionStateTracker,
+                    eventBuilder,
+                    cloudEventsServiceStub,
+                    reconnectionStrategies.getObject(),
+                    outboundExecutor,
+                    writeLatencyNanos
+            ));
+        }
+        this.memberStreams = List.copyOf(streams);
+
+        if (registry != null) {
+            for (final var stream : memberStreams) {
+                Gauge.builder("cyoda.outbound.backlog", stream, MemberStream::backlog)
+                        .description("Events waiting to be written to the stream")
+                        .tag("stream", stream.streamId())
+                        .register(registry);
+            }
+        }
     }
 
     @PostConstruct
     private void init() {
-        initiateConnection();
+        log.info("Opening {} member stream(s)", memberStreams.size());
+        memberStreams.forEach(MemberStream::start);
     }
 
     @PreDestroy
     private void shutdown() {
-        log.info("Stopping stream observer...");
-        if (streamObserver != null) {
-            streamObserver.onCompleted();
-        }
-        log.info("Stream observer stoped");
-    }
-
-    private CompletableFuture<StreamObserver<CloudEvent>> connect() {
-        connectionStateTracker.trackObserverStateChange(ObserverState.CONNECTING);
-
-        final var joinEventId = UUID.randomUUID().toString();
-        final var greetPromise = new CompletableFuture<String>();
-        greetEventListener.registerPendingGreetEvent(joinEventId, greetPromise);
-
+        log.info("Stopping stream observers...");
+        memberStreams.forEach(MemberStream::stop);
+        outboundExecutor.shutdown();
         try {
-            final var newObserver = cloudEventsServiceStub.startStreaming(
-                    new CloudEventStreamObserver(
-                            eventHandler::handleEvent,
-                            error -> {
-                                connectionStateTracker.trackObserverStateChange(ObserverState.ERROR);
-                                log.error("Stream observer error:", error);
-                                requestReconnection();
-                            },
-                            () -> {
-                                connectionStateTracker.trackObserverStateChange(ObserverState.DISCONNECTED);
-                                log.info("Stream observer disconnected");
-                                requestReconnection();
-                            }
-                    )
-            );
-
-            connectionStateTracker.trackObserverStateChange(ObserverState.JOINING);
-
-            final var joinEvent = createJoinEvent(joinEventId, eventHandler.getSupportedTags());
-            sendEvent(newObserver, joinEvent);
-
-            connectionStateTracker.trackObserverStateChange(ObserverState.AWAITS_GREET);
-
-            return greetPromise.thenApply(acceptedJoinEvent -> newObserver)
-                    .orTimeout(HANDSHAKE_TIMEOUT_MS, TimeUnit.MILLISECONDS)
-                    .whenComplete((ignored, error) -> {
-                        if (error != null) {
-                            newObserver.onError(error);
-                        }
-                    });
-        } catch (InvalidProtocolBufferException e) {
-            return CompletableFuture.failedFuture(e);
+            if (!outboundExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Outbound writers did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+        log.info("Stream observers stoped");
     }
 
+    /**
+     * Sends an event that is not a response on one of the established streams, in turn.
+     * Responses are sent on the stream their request arrived on instead.
+     */
     @Override
     public void sendEvent(final CloudEvent event) {
-        sendEvent(streamObserver, event);
-    }
-
-    private synchronized void sendEvent(
-            final StreamObserver<CloudEvent> streamObserver,
-            final CloudEvent event
-    ) {
-        eventTracker.trackEventSent(event);
-        streamObserver.onNext(event);
-        log.debug("Sent event '{}':'{}'", event.getType(), event.getId());
-    }
-
-    private void requestReconnection() {
-        reconnectionStrategy.requestReconnection(this::initiateConnection);
-    }
-
-    private void initiateConnection() {
-        if (isConnecting.getAndSet(true)) {
-            log.info("Already connecting. Initiate connection request ignored");
-            return;
-        }
-
-        log.info("Attempting to establish a new stream...");
-        connect().whenComplete((newObserver, error) -> {
-            if (error == null && newObserver != null) {
-                streamObserver = newObserver;
-                reconnectionStrategy.reset();
-                log.info("Stream successfully established");
-            } else {
-                log.error("Stream establishing failed. Scheduling reconnect", error);
-                requestReconnection();
+        final int size = memberStreams.size();
+        final int start = Math.floorMod(nextStream.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            final var stream = memberStreams.get((start + i) % size);
+            if (stream.isEstablished()) {
+                stream.sendEvent(event);
+                return;
             }
-            isConnecting.set(false);
-        });
+        }
+        log.warn("No stream established yet, dropping event '{}':'{}'", event.getType(), event.getId());
     }
 }
@@ -23,6 +23,7 @@ public class DefaultReconnectionStrategy implements ReconnectionStrategy {
     private final AtomicInteger failedReconnectsCount = new AtomicInteger(0);
 
     @PreDestroy
+    @Override
     public void shutdown() {
         log.info("Shutting down reconnection scheduler...");
         if (!reconnectionScheduler.isShutdown()) {
@@ -0,0 +1,218 @@
+package com.java_template.common.grpc.client.connection;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.java_template.common.grpc.client.event_handling.CloudEventBuilder;
+import com.java_template.common.grpc.client.event_handling.EventHandler;
+import com.java_template.common.grpc.client.event_handling.EventSender;
+import com.java_template.common.grpc.client.monitoring.ConnectionStateTracker;
+import com.java_template.common.grpc.client.monitoring.EventTracker;
+import com.java_template.common.grpc.client.monitoring.ObserverState;
+import io.cloudevents.v1.proto.CloudEvent;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import org.cyoda.cloud.api.event.common.CloudEventType;
+import org.cyoda.cloud.api.event.processing.CalculationMemberJoinEvent;
+import org.cyoda.cloud.api.grpc.CloudEventsServiceGrpc;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.java_template.common.config.Config.HANDSHAKE_TIMEOUT_MS;
+import static com.java_template.common.config.Config.INBOUND_PREFETCH;
+
+/**
+ * ABOUTME: One calculation-member stream: its own join/greet handshake, reconnection and outbound writer.
+ * Events it receives are handed to the shared EventHandler together with the stream itself,
+ * so that their responses are sent back on the stream they arrived on.
+ */
+final class MemberStream implements EventSender {
+    private static final String GREET_EVENT_TYPE = CloudEventType.CALCULATION_MEMBER_GREET_EVENT.value();
+    private static final String KEEP_ALIVE_EVENT_TYPE = CloudEventType.CALCULATION_MEMBER_KEEP_ALIVE_EVENT.value();
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final AtomicBoolean isConnecting = new AtomicBoolean(false);
+
+    private final String streamId;
+    private final EventHandler eventHandler;
+    private final EventTracker eventTracker;
+    private final ConnectionStateTracker connectionStateTracker;
+    private final CloudEventBuilder eventBuilder;
+    private final CloudEventsServiceGrpc.CloudEventsServiceStub cloudEventsServiceStub;
+    private final ReconnectionStrategy reconnectionStrategy;
+    private final Executor outboundExecutor;
+    private final LongConsumer writeLatencyNanos;
+
+    private volatile OutboundEventWriter outbound;
+    private volatile PendingGreet pendingGreet;
+    private volatile boolean stopped;
+
+    MemberStream(
+            final String streamId,
+            final EventHandler eventHandler,
+            final EventTracker eventTracker,
+            final ConnectionStateTracker connectionStateTracker,
+            final CloudEventBuilder eventBuilder,
+            final CloudEventsServiceGrpc.CloudEventsServiceStub cloudEventsServiceStub,
+            final ReconnectionStrategy reconnectionStrategy,
+            final Executor outboundExecutor,
+            final LongConsumer writeLatencyNanos
+    ) {
+        this.streamId = streamId;
+        this.eventHandler = eventHandler;
+        this.eventTracker = eventTracker;
+        this.connectionStateTracker = connectionStateTracker;
+        this.eventBuilder = eventBuilder;
+        this.cloudEventsServiceStub = cloudEventsServiceStub;
+        this.reconnectionStrategy = reconnectionStrategy;
+        this.outboundExecutor = outboundExecutor;
+        this.writeLatencyNanos = writeLatencyNanos;
+    }
+
+    String streamId() {
+        return streamId;
+    }
+
+    boolean isEstablished() {
+        return outbound != null;
+    }
+
+    int backlog() {
+        final var current = outbound;
+        return current != null ? current.backlog() : 0;
+    }
+
+    void start() {
+        connectionStateTracker.trackObserverStateChange(streamId, ObserverState.DISCONNECTED);
+        initiateConnection();
+    }
+
+    void stop() {
+        stopped = true;
+        final var current = outbound;
+        if (current != null) {
+            current.complete();
+        }
+        reconnectionStrategy.shutdown();
+    }
+
+    @Override
+    public void sendEvent(final CloudEvent event) {
+        final var current = outbound;
+        if (current == null) {
+            log.warn("{} is not established, dropping event '{}':'{}'", streamId, event.getType(), event.getId());
+            return;
+        }
+        current.send(event);
+    }
+
+    private CloudEvent createJoinEvent(
+            final String id,
+            final Set<String> tags
+    ) throws InvalidProtocolBufferException {
+        return eventBuilder.buildEvent(
+                new CalculationMemberJoinEvent().withId(id).withTags(tags.stream().toList())
+        );
+    }
+
+    private void onInbound(final CloudEvent event, final Runnable readyForNext) {
+        final var type = event.getType();
+        if (GREET_EVENT_TYPE.equals(type)) {
+            final var greet = pendingGreet;
+            if (greet != null) {
+                greet.promise().complete(greet.joinEventId());
+            }
+        } else if (KEEP_ALIVE_EVENT_TYPE.equals(type)) {
+            connectionStateTracker.trackStreamKeepAlive(streamId);
+        }
+        eventHandler.handleEvent(event, this, readyForNext);
+    }
+
+    private CompletableFuture<OutboundEventWriter> connect() {
+        connectionStateTracker.trackObserverStateChange(streamId, ObserverState.CONNECTING);
+
+        final var joinEventId = UUID.randomUUID().toString();
+        final var greetPromise = new CompletableFuture<String>();
+        pendingGreet = new PendingGreet(joinEventId, greetPromise);
+
+        final var newOutbound = new OutboundEventWriter(outboundExecutor, eventTracker, writeLatencyNanos);
+        try {
+            cloudEventsServiceStub.startStreaming(
+                    new CloudEventStreamObserver(
+                            newOutbound::attach,
+                            this::onInbound,
+                            error -> {
+                                newOutbound.close();
+                                connectionStateTracker.trackObserverStateChange(streamId, ObserverState.ERROR);
+                                log.error("Stream observer {} error:", streamId, error);
+                                requestReconnection(newOutbound);
+                            },
+                            () -> {
+                                newOutbound.close();
+                                connectionStateTracker.trackObserverStateChange(streamId, ObserverState.DISCONNECTED);
+                                log.info("Stream observer {} disconnected", streamId);
+                                requestReconnection(newOutbound);
+                            },
+                            INBOUND_PREFETCH
+                    )
+            );
+
+            connectionStateTracker.trackObserverStateChange(streamId, ObserverState.JOINING);
+
+            final var joinEvent = createJoinEvent(joinEventId, eventHandler.getSupportedTags());
+            newOutbound.send(joinEvent);
+
+            connectionStateTracker.trackObserverStateChange(streamId, ObserverState.AWAITS_GREET);
+
+            return greetPromise.thenApply(acceptedJoinEvent -> newOutbound)
+                    .orTimeout(HANDSHAKE_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            newOutbound.fail(error);
+                        }
+                    });
+        } catch (InvalidProtocolBufferException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void requestReconnection(final OutboundEventWriter endedOutbound) {
+        if (stopped) {
+            return;
+        }
+        // Stop routing sends to the ended stream; a stream that failed its handshake was never current
+        if (outbound == endedOutbound) {
+            outbound = null;
+        }
+        reconnectionStrategy.requestReconnection(this::initiateConnection);
+    }
+
+    private void initiateConnection() {
+        if (stopped) {
+            return;
+        }
+        if (isConnecting.getAndSet(true)) {
+            log.info("{} already connecting. Initiate connection request ignored", streamId);
+            return;
+        }
+
+        log.info("Attempting to establish {}...", streamId);
+        connect().whenComplete((newOutbound, error) -> {
+            if (error == null && newOutbound != null) {
+                outbound = newOutbound;
+                reconnectionStrategy.reset();
+                connectionStateTracker.trackObserverStateChange(streamId, ObserverState.READY);
+                log.info("{} successfully established", streamId);
+            } else {
+                log.error("Establishing {} failed. Scheduling reconnect", streamId, error);
+                reconnectionStrategy.requestReconnection(this::initiateConnection);
+            }
+            isConnecting.set(false);
+        });
+    }
+
+    private record PendingGreet(String joinEventId, CompletableFuture<String> promise) { }
+}
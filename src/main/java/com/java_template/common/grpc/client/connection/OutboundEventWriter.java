@@ -0,0 +1,170 @@
+package com.java_template.common.grpc.client.connection;
+
+import com.java_template.common.grpc.client.monitoring.EventTracker;
+import io.cloudevents.v1.proto.CloudEvent;
+import io.grpc.stub.ClientCallStreamObserver;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ABOUTME: Outbound side of one gRPC stream. Any thread may send; events go onto a lock-free
+ * multi-producer queue that a single drain at a time writes to the stream, and only while the
+ * transport reports it is ready. A burst of sends is written in one drain pass, and a drain that
+ * stops on a busy transport resumes from the stream's onReady callback. The stream is only ever
+ * called from the drain, cancellation included, as ClientCallStreamObserver is not thread-safe.
+ */
+final class OutboundEventWriter {
+    private static final Logger log = LoggerFactory.getLogger(OutboundEventWriter.class);
+
+    private final Executor writerExecutor;
+    private final EventTracker eventTracker;
+    private final LongConsumer writeLatencyNanos;
+
+    private final Queue<PendingEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    private volatile ClientCallStreamObserver<CloudEvent> stream;
+    private volatile boolean completing;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    // Only touched by the drain
+    private boolean terminated;
+
+    OutboundEventWriter(
+            final Executor writerExecutor,
+            final EventTracker eventTracker,
+            final LongConsumer writeLatencyNanos
+    ) {
+        this.writerExecutor = writerExecutor;
+        this.eventTracker = eventTracker;
+        this.writeLatencyNanos = writeLatencyNanos;
+    }
+
+    /**
+     * Binds the writer to its stream. Must be called from beforeStart, where the onReady handler can still be set.
+     */
+    void attach(final ClientCallStreamObserver<CloudEvent> stream) {
+        this.stream = stream;
+        stream.setOnReadyHandler(this::scheduleDrain);
+    }
+
+    void send(final CloudEvent event) {
+        if (closed || completing) {
+            log.warn("Dropping event '{}':'{}' sent on a closed stream", event.getType(), event.getId());
+            return;
+        }
+        pending.offer(new PendingEvent(event, System.nanoTime()));
+        backlog.incrementAndGet();
+        scheduleDrain();
+    }
+
+    /**
+     * Half-closes the stream once every event sent before this call has been written.
+     */
+    void complete() {
+        completing = true;
+        scheduleDrain();
+    }
+
+    /**
+     * Cancels the stream with the given error, dropping whatever has not been written yet.
+     * The cancel is made by the drain, after any write in progress.
+     */
+    void fail(final Throwable error) {
+        if (failure == null) {
+            failure = error;
+        }
+        close();
+    }
+
+    /**
+     * Stops writing after the stream has ended, dropping whatever has not been written yet.
+     */
+    void close() {
+        closed = true;
+        scheduleDrain();
+    }
+
+    int backlog() {
+        return backlog.get();
+    }
+
+    private void scheduleDrain() {
+        // Only the caller that raises the counter from zero starts a drain; the others are picked up by its loop
+        if (drainRequests.getAndIncrement() == 0) {
+            try {
+                writerExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // The writer is shutting down; nothing more will be written
+                drainRequests.set(0);
+                log.debug("Outbound writer stopped, drain skipped");
+            }
+        }
+    }
+
+    private void drain() {
+        int requests = drainRequests.get();
+        do {
+            writePending();
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private void writePending() {
+        final var current = stream;
+        if (closed) {
+            discardPending();
+            final var error = failure;
+            if (error != null && current != null && !terminated) {
+                terminated = true;
+                current.onError(error);
+            }
+            return;
+        }
+        if (current == null) {
+            return;
+        }
+        int written = 0;
+        PendingEvent next;
+        while (current.isReady() && (next = pending.poll()) != null) {
+            backlog.decrementAndGet();
+            try {
+                eventTracker.trackEventSent(next.event());
+                current.onNext(next.event());
+                writeLatencyNanos.accept(System.nanoTime() - next.enqueuedNanos());
+                written++;
+                log.debug("Sent event '{}':'{}'", next.event().getType(), next.event().getId());
+            } catch (RuntimeException e) {
+                log.error("Failed to write event '{}':'{}'", next.event().getType(), next.event().getId(), e);
+            }
+        }
+        if (written > 1) {
+            log.debug("Wrote {} events in one pass", written);
+        }
+        if (completing && pending.isEmpty()) {
+            closed = true;
+            terminated = true;
+            current.onCompleted();
+        }
+    }
+
+    private void discardPending() {
+        int dropped = 0;
+        while (pending.poll() != null) {
+            backlog.decrementAndGet();
+            dropped++;
+        }
+        if (dropped > 0) {
+            log.warn("Dropped {} unsent events of a closed stream", dropped);
+        }
+    }
+
+    private record PendingEvent(CloudEvent event, long enqueuedNanos) { }
+}
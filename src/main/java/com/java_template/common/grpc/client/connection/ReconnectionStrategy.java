@@ -7,5 +7,11 @@ package com.java_template.common.grpc.client.connection;
 public interface ReconnectionStrategy {
     void reset();
     void requestReconnection(Runnable reconnect);
+
+    /**
+     * Releases resources held by the strategy. Each member stream owns its own strategy and shuts it down with the stream.
+     */
+    default void shutdown() {
+    }
 }
 
@@ -3,6 +3,7 @@ package com.java_template.common.grpc.client.event_handling;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.serializer.jackson.EntityCodecRegistry;
 import com.java_template.common.workflow.CyodaContextFactory;
 import com.java_template.common.workflow.CyodaEventContext;
 import com.java_template.common.workflow.OperationFactory;
@@ -117,9 +118,26 @@ public abstract class AbstractEventStrategy<
         return errorResponse;
     }
 
+    /**
+     * Answers a refused event with an OVERLOADED error. The requestId is recovered from the raw event
+     * text, so a refusal costs no full parse.
+     */
+    @Override
+    public TResponse rejectEvent(@NotNull CloudEvent cloudEvent, @NotNull String reason) {
+        TResponse errorResponse = createErrorResponse();
+        recoverRequestIdFromCloudEvent(cloudEvent).requestId()
+                .ifPresent(requestId -> setRequestIdInErrorResponse(errorResponse, requestId));
+        errorResponse.setSuccess(false);
+        Error error = new Error();
+        error.setMessage(reason);
+        error.setCode("OVERLOADED");
+        errorResponse.setError(error);
+        enrichErrorResponse(errorResponse);
+        return errorResponse;
+    }
 
     protected EntityMetadata parseForModelKey(JsonNode meta) throws JsonProcessingException {
-        return objectMapper.treeToValue(meta, EntityMetadata.class);
+        return EntityCodecRegistry.forMapper(objectMapper).treeToValue(meta, EntityMetadata.class);
     }
 
     /**
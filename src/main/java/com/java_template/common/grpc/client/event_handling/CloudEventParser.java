@@ -2,6 +2,7 @@ package com.java_template.common.grpc.client.event_handling;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.serializer.jackson.EntityCodecRegistry;
 import io.cloudevents.v1.proto.CloudEvent;
 import java.util.Optional;
 import org.cyoda.cloud.api.event.common.BaseEvent;
@@ -17,10 +18,10 @@ import org.springframework.stereotype.Component;
 public class CloudEventParser {
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
-    private final ObjectMapper objectMapper;
+    private final EntityCodecRegistry codecs;
 
     public CloudEventParser(final ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.codecs = EntityCodecRegistry.forMapper(objectMapper);
     }
 
     public <EVENT_TYPE extends BaseEvent> Optional<EVENT_TYPE> parseCloudEvent(
@@ -29,7 +30,7 @@ public class CloudEventParser {
     ) {
         try {
             return Optional.of(
-                    objectMapper.readValue(
+                    codecs.readValue(
                         cloudEvent.getTextData(),
                         clazz
                     )
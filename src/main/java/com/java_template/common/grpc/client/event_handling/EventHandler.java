@@ -5,10 +5,28 @@ import java.util.Set;
 
 /**
  * ABOUTME: Interface for handling CloudEvent processing with tag-based
- * event routing and filtering capabilities.
+ * event routing and filtering capabilities. The readyForNext callback lets the handler
+ * pace how fast the inbound stream is read.
  */
 public interface EventHandler {
     void handleEvent(CloudEvent cloudEvent);
 
+    /**
+     * Handles the event and runs readyForNext once the handler can take another one.
+     * Handlers that do not bound their intake are ready again as soon as the event is handed over.
+     */
+    default void handleEvent(CloudEvent cloudEvent, Runnable readyForNext) {
+        handleEvent(cloudEvent);
+        readyForNext.run();
+    }
+
+    /**
+     * Handles an event received on one of several member streams; responses go back through replyTo,
+     * the stream the event arrived on.
+     */
+    default void handleEvent(CloudEvent cloudEvent, EventSender replyTo, Runnable readyForNext) {
+        handleEvent(cloudEvent, readyForNext);
+    }
+
     Set<String> getSupportedTags();
 }
@@ -37,4 +37,16 @@ public interface EventHandlingStrategy<TResponse extends BaseEvent> {
      */
     boolean supports(@NotNull CloudEventType eventType);
 
+    /**
+     * Builds the response for an event that was refused without being handled, e.g. because
+     * the member is overloaded. Strategies without a response for their events return null.
+     *
+     * @param cloudEvent the refused CloudEvent
+     * @param reason why the event was refused
+     * @return the error response to be sent, or null
+     */
+    default TResponse rejectEvent(@NotNull CloudEvent cloudEvent, @NotNull String reason) {
+        return null;
+    }
+
 }
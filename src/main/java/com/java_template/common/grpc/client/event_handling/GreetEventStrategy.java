@@ -1,10 +1,7 @@
 package com.java_template.common.grpc.client.event_handling;
 
-import com.java_template.common.grpc.client.connection.GreetEventListener;
 import com.java_template.common.grpc.client.monitoring.EventTracker;
 import io.cloudevents.v1.proto.CloudEvent;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicReference;
 import org.cyoda.cloud.api.event.common.BaseEvent;
 import org.cyoda.cloud.api.event.common.CloudEventType;
 import org.cyoda.cloud.api.event.processing.CalculationMemberGreetEvent;
@@ -15,15 +12,15 @@ import org.springframework.stereotype.Component;
 
 
 /**
- * ABOUTME: Event handling strategy for processing greet events during connection
- * establishment with promise-based completion tracking.
+ * ABOUTME: Event handling strategy for tracking and logging greet events during connection
+ * establishment. The greet carries no reference to its join event, so completing the handshake
+ * is left to the member stream that received it.
  */
 @Component
-public class GreetEventStrategy implements EventHandlingStrategy<BaseEvent>, GreetEventListener {
+public class GreetEventStrategy implements EventHandlingStrategy<BaseEvent> {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
-    private final AtomicReference<GreetPromiseContext> promiseContextRef = new AtomicReference<>();
     private final EventTracker eventTracker;
 
     private final CloudEventParser cloudEventParser;
@@ -32,18 +29,8 @@ public class GreetEventStrategy implements EventHandlingStrategy<BaseEvent>, Gre
         this.eventTracker = eventTracker;
     }
 
-    @Override
-    public void registerPendingGreetEvent(final String joinEventId, final CompletableFuture<String> greetPromise) {
-        promiseContextRef.set(new GreetPromiseContext(joinEventId, greetPromise));
-    }
-
     @Override
     public BaseEvent handleEvent(@NotNull final CloudEvent cloudEvent) {
-        final var context = promiseContextRef.get();
-        if (context != null && !context.promise().isDone()) {
-            context.promise().complete(context.joinEventId());
-        }
-
         eventTracker.trackGreetReceived();
         final CloudEventType cloudEventType = CloudEventType.fromValue(cloudEvent.getType());
 
@@ -59,8 +46,4 @@ public class GreetEventStrategy implements EventHandlingStrategy<BaseEvent>, Gre
     public boolean supports(@NotNull final CloudEventType eventType) {
         return CloudEventType.CALCULATION_MEMBER_GREET_EVENT.equals(eventType);
     }
-
-    private record GreetPromiseContext(
-            String joinEventId, CompletableFuture<String> promise
-    ) {}
 }
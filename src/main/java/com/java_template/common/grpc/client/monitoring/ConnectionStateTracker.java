@@ -6,14 +6,16 @@ import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 /**
- * ABOUTME: Interface for tracking gRPC connection and observer state changes
+ * ABOUTME: Interface for tracking gRPC connection and per-stream observer state changes
  * with callback support for state transition monitoring.
  */
 public interface ConnectionStateTracker {
-    void trackObserverStateChange(ObserverState newState);
+    void trackObserverStateChange(String streamId, ObserverState newState);
+
+    void trackStreamKeepAlive(String streamId);
 
     void trackConnectionStateChanged(
             Supplier<ConnectivityState> newStateProvider,
             BiConsumer<ConnectivityState, Runnable> initNextListener
     );
-}
\ No newline at end of file
+}
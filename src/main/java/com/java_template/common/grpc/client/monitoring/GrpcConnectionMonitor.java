@@ -17,8 +17,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -30,13 +30,13 @@ import static com.java_template.common.config.Config.*;
 /**
  * ABOUTME: Central monitoring component for gRPC connection health, event tracking,
  * and performance metrics with caching and listener notification capabilities.
+ * Observer state and keep-alives are tracked per member stream.
  */
 @Component
 class GrpcConnectionMonitor implements EventTracker, ConnectionStateTracker, GrpcConnectionStateProvider {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private final AtomicLong lastKeepAliveTimestampMs = new AtomicLong(-1);
     private final AtomicReference<ConnectivityState> lastConnectionState = new AtomicReference<>(ConnectivityState.SHUTDOWN);
-    private final AtomicReference<ObserverState> lastObserverState = new AtomicReference<>(ObserverState.DISCONNECTED);
+    private final Map<String, MemberStreamHealth> memberStreams = new ConcurrentSkipListMap<>();
 
     private final ScheduledExecutorService monitorExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
             .name("gRPC-Connection-Monitor")
@@ -138,13 +138,23 @@ class GrpcConnectionMonitor implements EventTracker, ConnectionStateTracker, Grp
 
     @Override
     public void trackKeepAlive(final Long eventTimestamp) {
-        lastKeepAliveTimestampMs.set(eventTimestamp);
         broadcastMonitoringEvent(new KeepAliveReceivedEvent(eventTimestamp));
     }
 
     @Override
     public void trackGreetReceived() {
-        trackObserverStateChange(ObserverState.READY);
+        // The member stream that received the greet reports itself READY once its handshake completes
+        logger.debug("Greet received");
+    }
+
+    @Override
+    public void trackStreamKeepAlive(final String streamId) {
+        final var now = System.currentTimeMillis();
+        memberStreams.compute(streamId, (id, health) -> new MemberStreamHealth(
+                id,
+                health != null ? health.state() : ObserverState.DISCONNECTED,
+                now
+        ));
     }
 
     public void trackConnectionStateChanged(
@@ -158,10 +168,10 @@ class GrpcConnectionMonitor implements EventTracker, ConnectionStateTracker, Grp
         broadcastMonitoringEvent(new GrpcConnectionStateChangedEvent(oldState, newState));
 
         logger.info(
-                "gRPC Managed Channel state changed: {} -> {} (stream observer state: {})",
+                "gRPC Managed Channel state changed: {} -> {} (member streams: {})",
                 oldState,
                 newState,
-                lastObserverState.get()
+                describeMemberStreams()
         );
     }
 
@@ -185,40 +195,55 @@ class GrpcConnectionMonitor implements EventTracker, ConnectionStateTracker, Grp
     }
 
     private void checkTimeSinceLastKeepAlive() {
-        final var lastKeepAliveTimestampMs = this.lastKeepAliveTimestampMs.get();
-        if (lastKeepAliveTimestampMs < 0) {
-            logger.warn(
-                    "Keep alive not received yet (Managed Channel state: {}; Stream Observer state: {})",
-                    lastConnectionState.get(),
-                    lastObserverState.get()
-            );
-            return;
-        }
+        final var now = System.currentTimeMillis();
+        for (final var stream : memberStreams.values()) {
+            if (stream.lastKeepAliveTimestampMs() < 0) {
+                logger.warn(
+                        "Keep alive not received yet on {} (Managed Channel state: {}; Stream Observer state: {})",
+                        stream.streamId(),
+                        lastConnectionState.get(),
+                        stream.state()
+                );
+                continue;
+            }
 
-        final var timeSinceLastKeepAlive = System.currentTimeMillis() - lastKeepAliveTimestampMs;
-        logger.debug("{}ms since last keep alive", timeSinceLastKeepAlive);
+            final var timeSinceLastKeepAlive = now - stream.lastKeepAliveTimestampMs();
+            logger.debug("{}ms since last keep alive on {}", timeSinceLastKeepAlive, stream.streamId());
 
-        if (timeSinceLastKeepAlive > KEEP_ALIVE_WARNING_THRESHOLD) {
-            logger.warn(
-                    "No Keep alive received within the {}ms threshold. Last successful was {}ms ago. (Managed Channel state: {}; Stream Observer state: {})",
-                    KEEP_ALIVE_WARNING_THRESHOLD,
-                    timeSinceLastKeepAlive,
-                    lastConnectionState.get(),
-                    lastObserverState.get()
-            );
+            if (timeSinceLastKeepAlive > KEEP_ALIVE_WARNING_THRESHOLD) {
+                logger.warn(
+                        "No Keep alive received on {} within the {}ms threshold. Last successful was {}ms ago. (Managed Channel state: {}; Stream Observer state: {})",
+                        stream.streamId(),
+                        KEEP_ALIVE_WARNING_THRESHOLD,
+                        timeSinceLastKeepAlive,
+                        lastConnectionState.get(),
+                        stream.state()
+                );
+            }
         }
     }
 
     @Override
-    public void trackObserverStateChange(final ObserverState newState) {
-        final var oldState = lastObserverState.getAndSet(newState);
+    public void trackObserverStateChange(final String streamId, final ObserverState newState) {
+        final var oldHealth = new AtomicReference<MemberStreamHealth>();
+        memberStreams.compute(streamId, (id, health) -> {
+            oldHealth.set(health);
+            return new MemberStreamHealth(
+                    id,
+                    newState,
+                    // A stream that has just been (re)opened has not seen a keep-alive yet
+                    health != null && newState != ObserverState.CONNECTING ? health.lastKeepAliveTimestampMs() : -1
+            );
+        });
+        final var oldState = oldHealth.get() != null ? oldHealth.get().state() : ObserverState.DISCONNECTED;
         logger.info(
-                "Stream Observer state changes: {} -> {} (managed channel state: {})",
+                "Stream Observer {} state changes: {} -> {} (managed channel state: {})",
+                streamId,
                 oldState,
                 newState,
                 lastConnectionState.get()
         );
-        broadcastMonitoringEvent(new StreamObserverStateChangedEvent(oldState, newState));
+        broadcastMonitoringEvent(new StreamObserverStateChangedEvent(streamId, oldState, newState));
     }
 
     private void broadcastMonitoringEvent(final MonitoringEvent monitoringEvent) {
@@ -234,5 +259,16 @@ class GrpcConnectionMonitor implements EventTracker, ConnectionStateTracker, Grp
     public ConnectivityState getLastKnownState() {
         return lastConnectionState.get();
     }
+
+    @Override
+    public List<MemberStreamHealth> getMemberStreamHealth() {
+        return List.copyOf(memberStreams.values());
+    }
+
+    private String describeMemberStreams() {
+        return memberStreams.values().stream()
+                .map(stream -> stream.streamId() + "=" + stream.state())
+                .collect(Collectors.joining(", "));
+    }
 }
 
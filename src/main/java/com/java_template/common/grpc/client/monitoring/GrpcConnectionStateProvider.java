@@ -1,11 +1,14 @@
 package com.java_template.common.grpc.client.monitoring;
 
 import io.grpc.ConnectivityState;
+import java.util.List;
 
 /**
  * ABOUTME: Interface for providing access to the last known gRPC connection
- * state for monitoring and health check purposes.
+ * state and the health of each member stream for monitoring and health check purposes.
  */
 public interface GrpcConnectionStateProvider {
     ConnectivityState getLastKnownState();
+
+    List<MemberStreamHealth> getMemberStreamHealth();
 }
@@ -0,0 +1,15 @@
+package com.java_template.common.grpc.client.monitoring;
+
+/**
+ * ABOUTME: Health snapshot of one calculation-member stream: its observer state and when it last
+ * received a keep-alive (-1 if it has not received one since it was opened).
+ */
+public record MemberStreamHealth(
+        String streamId,
+        ObserverState state,
+        long lastKeepAliveTimestampMs
+) {
+    public boolean isReady() {
+        return state == ObserverState.READY;
+    }
+}
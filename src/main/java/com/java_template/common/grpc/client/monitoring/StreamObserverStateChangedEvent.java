@@ -2,9 +2,10 @@ package com.java_template.common.grpc.client.monitoring;
 
 /**
  * ABOUTME: Monitoring event record representing stream observer state transitions
- * with old and new observer state tracking.
+ * of one member stream with old and new observer state tracking.
  */
 public record StreamObserverStateChangedEvent(
+        String streamId,
         ObserverState oldState,
         ObserverState newState
 ) implements MonitoringEvent {}
@@ -0,0 +1,183 @@
+package com.java_template.common.repository;
+
+import com.java_template.common.util.MicroBatcher;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.entity.EntityTransactionInfo;
+import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * ABOUTME: CrudRepository decorator that merges concurrent single-entity creates for the same model, and
+ * concurrent updates with the same transition, into collection requests, handing each caller a response
+ * that carries only its own entity ID.
+ */
+public class BatchingCrudRepository extends ForwardingCrudRepository implements AutoCloseable {
+
+    private record UpdateRequest(UUID entityId, Object entity) {
+    }
+
+    private final MicroBatcher<ModelSpec, Object, EntityTransactionResponse> createBatcher;
+    private final MicroBatcher<String, UpdateRequest, EntityTransactionResponse> updateBatcher;
+
+    /**
+     * @param maxBatchSize maximum number of entities sent in one request
+     * @param maxDelayMillis longest time an entity waits for others to join its batch
+     * @param scheduler dispatches batches that did not fill up in time
+     */
+    public BatchingCrudRepository(
+            @NotNull final CrudRepository delegate,
+            final int maxBatchSize,
+            final long maxDelayMillis,
+            @NotNull final ScheduledExecutorService scheduler
+    ) {
+        super(delegate);
+        this.createBatcher = new MicroBatcher<>(maxBatchSize, maxDelayMillis, scheduler, this::sendCreateBatch);
+        this.updateBatcher = new MicroBatcher<>(maxBatchSize, maxDelayMillis, scheduler, this::sendUpdateBatch);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> save(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final ENTITY_TYPE entity
+    ) {
+        return createBatcher.submit(modelSpec, entity);
+    }
+
+    /**
+     * Updates are grouped by transition; a null transition forms a group of its own.
+     */
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> update(
+            @NotNull final UUID id,
+            @NotNull final ENTITY_TYPE entity,
+            @Nullable final String transition
+    ) {
+        return updateBatcher.submit(transition, new UpdateRequest(id, entity));
+    }
+
+    @Override
+    public void close() {
+        createBatcher.close();
+        updateBatcher.close();
+    }
+
+    private void sendCreateBatch(
+            final ModelSpec modelSpec,
+            final List<MicroBatcher.Entry<Object, EntityTransactionResponse>> batch
+    ) {
+        final var entities = batch.stream().map(MicroBatcher.Entry::item).toList();
+        delegate.saveCollection(modelSpec, entities, null, null).whenComplete((responses, ex) -> {
+            if (ex != null) {
+                batch.forEach(entry -> entry.result().completeExceptionally(ex));
+                return;
+            }
+
+            // Entity IDs follow the order of the payloads, possibly spread over several transactions
+            final var perEntity = new ArrayList<EntityTransactionResponse>(batch.size());
+            for (final var response : responses) {
+                for (final var entityId : response.getTransactionInfo().getEntityIds()) {
+                    perEntity.add(forSingleEntity(response, entityId));
+                }
+            }
+            if (perEntity.size() != batch.size()) {
+                final var mismatch = new IllegalStateException(
+                        "Expected " + batch.size() + " entity IDs for batched create but received " + perEntity.size());
+                batch.forEach(entry -> entry.result().completeExceptionally(mismatch));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(perEntity.get(i));
+            }
+        });
+    }
+
+    private void sendUpdateBatch(
+            @Nullable final String transition,
+            final List<MicroBatcher.Entry<UpdateRequest, EntityTransactionResponse>> batch
+    ) {
+        // An entity updated more than once within the window gets one round per update,
+        // sent one after the other so the updates are applied in the order they were made
+        final var rounds = new ArrayList<List<MicroBatcher.Entry<UpdateRequest, EntityTransactionResponse>>>();
+        final var updatesPerEntity = new HashMap<UUID, Integer>();
+        for (final var entry : batch) {
+            final int round = updatesPerEntity.merge(entry.item().entityId(), 1, Integer::sum) - 1;
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(round).add(entry);
+        }
+        sendUpdateRounds(transition, rounds.iterator());
+    }
+
+    private void sendUpdateRounds(
+            @Nullable final String transition,
+            final Iterator<List<MicroBatcher.Entry<UpdateRequest, EntityTransactionResponse>>> rounds
+    ) {
+        if (!rounds.hasNext()) {
+            return;
+        }
+        final var round = rounds.next();
+        final var entitiesById = new LinkedHashMap<UUID, Object>();
+        round.forEach(entry -> entitiesById.put(entry.item().entityId(), entry.item().entity()));
+
+        delegate.updateCollection(entitiesById, transition, null, null).whenComplete((responses, ex) -> {
+            if (ex != null) {
+                round.forEach(entry -> entry.result().completeExceptionally(ex));
+            } else {
+                completeUpdates(round, responses);
+            }
+            sendUpdateRounds(transition, rounds);
+        });
+    }
+
+    private static void completeUpdates(
+            final List<MicroBatcher.Entry<UpdateRequest, EntityTransactionResponse>> round,
+            final List<EntityTransactionResponse> responses
+    ) {
+        final var responseByEntity = new HashMap<UUID, EntityTransactionResponse>();
+        for (final var response : responses) {
+            for (final var entityId : response.getTransactionInfo().getEntityIds()) {
+                responseByEntity.put(entityId, response);
+            }
+        }
+
+        for (final var entry : round) {
+            final var entityId = entry.item().entityId();
+            final var response = responseByEntity.get(entityId);
+            if (response == null) {
+                entry.result().completeExceptionally(
+                        new IllegalStateException("No transaction response received for entity " + entityId));
+            } else if (Boolean.FALSE.equals(response.getSuccess())) {
+                final var reason = response.getError() != null ? response.getError().getMessage() : "unknown error";
+                entry.result().completeExceptionally(
+                        new IllegalStateException("Update of entity " + entityId + " failed: " + reason));
+            } else {
+                entry.result().complete(forSingleEntity(response, entityId));
+            }
+        }
+    }
+
+    private static EntityTransactionResponse forSingleEntity(
+            final EntityTransactionResponse response,
+            final UUID entityId
+    ) {
+        return new EntityTransactionResponse().withId(response.getId())
+                .withSuccess(response.getSuccess())
+                .withWarnings(response.getWarnings())
+                .withRequestId(response.getRequestId())
+                .withTransactionInfo(new EntityTransactionInfo()
+                        .withTransactionId(response.getTransactionInfo().getTransactionId())
+                        .withEntityIds(List.of(entityId))
+                );
+    }
+}
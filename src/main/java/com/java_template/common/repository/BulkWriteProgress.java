@@ -0,0 +1,19 @@
+package com.java_template.common.repository;
+
+/**
+ * ABOUTME: Progress report handed to bulk write listeners each time one chunk of a chunked
+ * save or update has been committed by the platform.
+ * @param chunkIndex position of the completed chunk, counted from 0; chunks may complete out of order
+ * @param chunkCount number of chunks the write was split into
+ * @param chunkEntities number of entities in the completed chunk
+ * @param completedEntities entities committed so far, including this chunk
+ * @param totalEntities number of entities in the whole write
+ */
+public record BulkWriteProgress(
+        int chunkIndex,
+        int chunkCount,
+        int chunkEntities,
+        int completedEntities,
+        int totalEntities
+) {
+}
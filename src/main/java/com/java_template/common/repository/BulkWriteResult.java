@@ -0,0 +1,22 @@
+package com.java_template.common.repository;
+
+import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ABOUTME: Aggregated outcome of a chunked bulk save or update: the transaction responses of all
+ * chunks in chunk order, so the entity IDs across them follow the order of the submitted entities.
+ * @param responses one response per platform transaction, chunk by chunk
+ * @param chunkCount number of requests the write was split into
+ */
+public record BulkWriteResult(List<EntityTransactionResponse> responses, int chunkCount) {
+
+    public List<UUID> entityIds() {
+        return responses.stream()
+                .filter(response -> response.getTransactionInfo() != null)
+                .flatMap(response -> response.getTransactionInfo().getEntityIds().stream())
+                .toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.java_template.common.repository;
+
+import io.cloudevents.v1.proto.CloudEvent;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ABOUTME: Non-blocking response observer for unary and server-streaming Cyoda calls
+ * that collects the received CloudEvents and completes a future when the call ends.
+ */
+class CloudEventResponseObserver implements ClientResponseObserver<CloudEvent, CloudEvent> {
+
+    private final CompletableFuture<List<CloudEvent>> result = new CompletableFuture<>();
+    private final List<CloudEvent> responses = new ArrayList<>();
+
+    CompletableFuture<List<CloudEvent>> result() {
+        return result;
+    }
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<CloudEvent> requestStream) {
+        // Propagate caller side cancellation to the server so an abandoned call does not keep running
+        result.whenComplete((ignored, error) -> {
+            if (result.isCancelled()) {
+                requestStream.cancel("Cancelled by caller", null);
+            }
+        });
+    }
+
+    @Override
+    public void onNext(final CloudEvent value) {
+        responses.add(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        result.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        result.complete(responses);
+    }
+}
@@ -0,0 +1,180 @@
+package com.java_template.common.repository;
+
+import io.cloudevents.v1.proto.CloudEvent;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * ABOUTME: Single-subscriber Flow.Publisher over a server-streaming Cyoda call that decodes
+ * each CloudEvent as it arrives and maps subscriber demand onto gRPC inbound flow control.
+ */
+class CloudEventStreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final BiConsumer<CloudEvent, StreamObserver<CloudEvent>> apiCall;
+    private final CloudEvent requestEvent;
+    private final Function<CloudEvent, T> decoder;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * @param apiCall the async stub method to invoke
+     * @param requestEvent the request to send
+     * @param decoder converts a received CloudEvent into an item; returning null skips the message
+     */
+    CloudEventStreamPublisher(
+            final BiConsumer<CloudEvent, StreamObserver<CloudEvent>> apiCall,
+            final CloudEvent requestEvent,
+            final Function<CloudEvent, T> decoder
+    ) {
+        this.apiCall = apiCall;
+        this.requestEvent = requestEvent;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        if (subscribed.getAndSet(true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("This publisher supports a single subscriber only"));
+            return;
+        }
+
+        final var subscription = new StreamSubscription<>(subscriber, decoder);
+        // The subscriber is registered before the call starts so no signal can overtake onSubscribe.
+        // Demand requested before the call has started is buffered and flushed once it is running.
+        subscriber.onSubscribe(subscription);
+        try {
+            apiCall.accept(requestEvent, subscription);
+        } catch (Exception e) {
+            subscription.onError(e);
+            return;
+        }
+        subscription.started();
+    }
+
+    private static final class StreamSubscription<T>
+            implements Flow.Subscription, ClientResponseObserver<CloudEvent, CloudEvent> {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Function<CloudEvent, T> decoder;
+
+        private volatile ClientCallStreamObserver<CloudEvent> requestStream;
+        private volatile boolean terminated;
+        private boolean callStarted;
+        private long pendingDemand;
+
+        private StreamSubscription(
+                final Flow.Subscriber<? super T> subscriber,
+                final Function<CloudEvent, T> decoder
+        ) {
+            this.subscriber = subscriber;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public void beforeStart(final ClientCallStreamObserver<CloudEvent> requestStream) {
+            this.requestStream = requestStream;
+            // Nothing is pulled off the wire until the subscriber asks for it
+            requestStream.disableAutoRequestWithInitial(0);
+        }
+
+        private void started() {
+            final long demand;
+            synchronized (this) {
+                callStarted = true;
+                demand = pendingDemand;
+                pendingDemand = 0;
+            }
+            if (demand > 0 && !terminated) {
+                requestStream.request(toMessageCount(demand));
+            }
+        }
+
+        @Override
+        public void request(final long n) {
+            if (terminated) {
+                return;
+            }
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Requested demand must be positive, was " + n));
+                return;
+            }
+            synchronized (this) {
+                if (!callStarted) {
+                    pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                    return;
+                }
+            }
+            requestStream.request(toMessageCount(n));
+        }
+
+        @Override
+        public void cancel() {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            final var stream = requestStream;
+            if (stream != null) {
+                stream.cancel("Cancelled by subscriber", null);
+            }
+        }
+
+        @Override
+        public void onNext(final CloudEvent value) {
+            if (terminated) {
+                return;
+            }
+            final T item;
+            try {
+                item = decoder.apply(value);
+            } catch (Exception e) {
+                cancel();
+                subscriber.onError(e);
+                return;
+            }
+            if (item == null) {
+                // The skipped message consumed a unit of demand that the subscriber never saw
+                requestStream.request(1);
+                return;
+            }
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            subscriber.onError(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            subscriber.onComplete();
+        }
+
+        private static int toMessageCount(final long demand) {
+            return (int) Math.min(demand, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.java_template.common.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.common.condition.GroupCondition;
+import org.cyoda.cloud.api.event.entity.EntityDeleteAllResponse;
+import org.cyoda.cloud.api.event.entity.EntityDeleteResponse;
+import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+import org.cyoda.cloud.api.event.entity.EntityTransitionResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ABOUTME: CrudRepository decorator that shares one outstanding request among concurrent identical
+ * reads (findById, getEntityCount, findAllByCriteria) so a burst of the same lookup costs a single RPC.
+ * A write through this decorator first detaches the in-flight current-state reads it may affect,
+ * so reads issued after the write starts send a new request instead of joining one from before it.
+ * Nothing is cached: a read issued after the shared request has completed goes to the platform again.
+ * Callers of a shared request receive the same result instances and must not mutate them.
+ */
+public class CoalescingCrudRepository extends ForwardingCrudRepository {
+
+    private static final String METRIC_PREFIX = "cyoda.repository.coalescing.";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private interface ReadKey {
+        @Nullable Date pointInTime();
+    }
+
+    private record FindByIdKey(UUID id, @Nullable Date pointInTime) implements ReadKey {
+    }
+
+    private record EntityCountKey(ModelSpec modelSpec, @Nullable Date pointInTime) implements ReadKey {
+    }
+
+    private record FindAllByCriteriaKey(
+            ModelSpec modelSpec,
+            GroupCondition criteria,
+            int pageSize,
+            int pageNumber,
+            boolean inMemory,
+            @Nullable Date pointInTime
+    ) implements ReadKey {
+    }
+
+    /**
+     * @param hits reads that joined a request already in flight
+     * @param misses reads that were sent to the platform
+     */
+    public record Stats(long hits, long misses) {
+    }
+
+    private final ConcurrentMap<ReadKey, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CoalescingCrudRepository(@NotNull final CrudRepository delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public CompletableFuture<DataPayload> findById(@NotNull final UUID id, @Nullable final Date pointInTime) {
+        return coalesce(new FindByIdKey(id, pointInTime), () -> delegate.findById(id, pointInTime));
+    }
+
+    @Override
+    public CompletableFuture<Long> getEntityCount(@NotNull final ModelSpec modelSpec, @Nullable final Date pointInTime) {
+        return coalesce(new EntityCountKey(modelSpec, pointInTime), () -> delegate.getEntityCount(modelSpec, pointInTime));
+    }
+
+    @Override
+    public CompletableFuture<List<DataPayload>> findAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            final int pageSize,
+            final int pageNumber,
+            final boolean inMemory,
+            @Nullable final Date pointInTime
+    ) {
+        return coalesce(
+                new FindAllByCriteriaKey(modelSpec, criteria, pageSize, pageNumber, inMemory, pointInTime),
+                () -> delegate.findAllByCriteria(modelSpec, criteria, pageSize, pageNumber, inMemory, pointInTime)
+        );
+    }
+
+    @Override
+    public CompletableFuture<EntityDeleteResponse> deleteById(@NotNull final UUID id) {
+        detachCurrentReads(ofEntities(List.of(id)));
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public CompletableFuture<List<EntityDeleteAllResponse>> deleteAll(@NotNull final ModelSpec modelSpec) {
+        // The model of an in-flight findById is unknown, so every one of them may read a deleted entity
+        detachCurrentReads(ofModel(modelSpec).or(FindByIdKey.class::isInstance));
+        return delegate.deleteAll(modelSpec);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> save(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final ENTITY_TYPE entity
+    ) {
+        detachCurrentReads(ofModel(modelSpec));
+        return delegate.save(modelSpec, entity);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> saveAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities
+    ) {
+        detachCurrentReads(ofModel(modelSpec));
+        return delegate.saveAll(modelSpec, entities);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> saveAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        detachCurrentReads(ofModel(modelSpec));
+        return delegate.saveAll(modelSpec, entities, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> saveCollection(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        detachCurrentReads(ofModel(modelSpec));
+        return delegate.saveCollection(modelSpec, entities, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<BulkWriteResult> saveInChunks(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        detachCurrentReads(ofModel(modelSpec));
+        return delegate.saveInChunks(modelSpec, entities, transactionWindow, transactionTimeoutMs, progressListener);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> update(
+            @NotNull final UUID id,
+            @NotNull final ENTITY_TYPE entity,
+            @Nullable final String transition
+    ) {
+        detachCurrentReads(ofEntities(List.of(id)));
+        return delegate.update(id, entity, transition);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateAll(
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final String transition
+    ) {
+        // The entities' IDs are not known here
+        detachCurrentReads(key -> true);
+        return delegate.updateAll(entities, transition);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateAll(
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        detachCurrentReads(key -> true);
+        return delegate.updateAll(entities, transition, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateCollection(
+            @NotNull final Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        detachCurrentReads(ofEntities(entitiesById.keySet()));
+        return delegate.updateCollection(entitiesById, transition, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<BulkWriteResult> updateInChunks(
+            @NotNull final Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        detachCurrentReads(ofEntities(entitiesById.keySet()));
+        return delegate.updateInChunks(entitiesById, transition, transactionWindow, transactionTimeoutMs, progressListener);
+    }
+
+    @Override
+    public CompletableFuture<EntityTransitionResponse> applyTransition(
+            @NotNull final UUID entityId,
+            @NotNull final String transitionName
+    ) {
+        detachCurrentReads(ofEntities(List.of(entityId)));
+        return delegate.applyTransition(entityId, transitionName);
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum());
+    }
+
+    /**
+     * Publishes reads that joined an in-flight request and reads sent to the platform
+     * as cyoda.repository.coalescing.hits and .misses.
+     */
+    public void bindMetrics(@NotNull final MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + "hits", hits, LongAdder::sum)
+                .description("Reads that joined an identical request already in flight")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "misses", misses, LongAdder::sum)
+                .description("Reads sent to the platform")
+                .register(registry);
+    }
+
+    /**
+     * Counts and searches of the model; the ones of other models cannot change.
+     */
+    private static Predicate<ReadKey> ofModel(final ModelSpec modelSpec) {
+        return key -> key instanceof EntityCountKey count ? count.modelSpec().equals(modelSpec)
+                : key instanceof FindAllByCriteriaKey search && search.modelSpec().equals(modelSpec);
+    }
+
+    /**
+     * Lookups of the entities, and every count and search, as their models are not known here.
+     */
+    private static Predicate<ReadKey> ofEntities(final Collection<UUID> ids) {
+        return key -> !(key instanceof FindByIdKey lookup) || ids.contains(lookup.id());
+    }
+
+    /**
+     * Stops later reads joining the affected current-state requests; their callers still get their results.
+     * Point-in-time reads are left shared, as a write cannot change them.
+     */
+    private void detachCurrentReads(final Predicate<ReadKey> affected) {
+        inFlight.keySet().removeIf(key -> key.pointInTime() == null && affected.test(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> coalesce(final ReadKey key, final Supplier<CompletableFuture<T>> call) {
+        final var shared = new CompletableFuture<T>();
+        final var existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            hits.increment();
+            logger.debug("Joined in-flight request for {}", key);
+            // Each caller gets its own copy so cancelling or completing it cannot affect the others
+            return existing.copy();
+        }
+
+        misses.increment();
+        try {
+            call.get().whenComplete((result, ex) -> {
+                // Removed before completion so a read that observes the result has to start a new request
+                inFlight.remove(key, shared);
+                if (ex != null) {
+                    shared.completeExceptionally(ex);
+                } else {
+                    shared.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
+        }
+        return shared.copy();
+    }
+}
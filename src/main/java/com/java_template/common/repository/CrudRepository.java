@@ -9,12 +9,18 @@ import org.cyoda.cloud.api.event.entity.EntityDeleteAllResponse;
 import org.cyoda.cloud.api.event.entity.EntityDeleteResponse;
 import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
 import org.cyoda.cloud.api.event.entity.EntityTransitionResponse;
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 /**
@@ -36,6 +42,17 @@ public interface CrudRepository {
             @Nullable Date pointInTime
     );
 
+    /**
+     * Streams a page of entities, decoding each one as it arrives from the platform.
+     * The call starts on subscription and is paced by the subscriber's demand; one subscriber per publisher.
+     */
+    Flow.Publisher<DataPayload> streamAll(
+            @NotNull ModelSpec modelSpec,
+            int pageSize,
+            int pageNumber,
+            @Nullable Date pointInTime
+    );
+
     CompletableFuture<DataPayload> findById(@NotNull UUID id);
 
     CompletableFuture<DataPayload> findById(@NotNull UUID id, @Nullable Date pointInTime);
@@ -66,6 +83,86 @@ public interface CrudRepository {
             @Nullable Date pointInTime
     );
 
+    /**
+     * Opens a search snapshot for the criteria and completes once it is ready. The snapshot is remembered
+     * per (model, criteria, pointInTime) while it keeps being used, so later pages of the same query reuse it;
+     * snapshots that fall out of use are cancelled on the platform.
+     */
+    CompletableFuture<SearchSnapshotStatus> openSnapshot(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition criteria,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Same as openSnapshot, waiting at most awaitLimit for the snapshot to become ready.
+     */
+    CompletableFuture<SearchSnapshotStatus> openSnapshot(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition criteria,
+            @Nullable Date pointInTime,
+            @NotNull Duration awaitLimit
+    );
+
+    /**
+     * Opens a search snapshot for the criteria that is not shared with other callers, so it holds the entities
+     * matching when it was taken. The caller owns the snapshot and releases it with cancelSnapshot.
+     */
+    CompletableFuture<SearchSnapshotStatus> openUnsharedSnapshot(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition criteria,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Releases a snapshot on the platform without waiting for the outcome.
+     */
+    void cancelSnapshot(@NotNull UUID snapshotId);
+
+    /**
+     * Fetches one page of a ready snapshot. Snapshot pages are numbered from 0.
+     */
+    CompletableFuture<List<DataPayload>> findSnapshotPage(
+            @NotNull UUID snapshotId,
+            int pageSize,
+            int pageNumber
+    );
+
+    /**
+     * Scans every entity matching the criteria through a search snapshot. Once the snapshot is ready,
+     * pages are fetched a bounded window ahead of the consumer and delivered in order.
+     * The returned stream holds in-flight requests and must be closed.
+     */
+    CompletableFuture<Stream<DataPayload>> scanAllByCriteria(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition criteria,
+            int pageSize,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Same as scanAllByCriteria, waiting at most awaitLimit for the snapshot to become ready.
+     * Cancelling the returned future before the stream is handed over cancels the snapshot on the platform.
+     */
+    CompletableFuture<Stream<DataPayload>> scanAllByCriteria(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition criteria,
+            int pageSize,
+            @Nullable Date pointInTime,
+            @NotNull Duration awaitLimit
+    );
+
+    /**
+     * Streams the entities matching the criteria using an in-memory search, decoding each one as it arrives.
+     * The call starts on subscription and is paced by the subscriber's demand; one subscriber per publisher.
+     */
+    Flow.Publisher<DataPayload> streamAllByCriteria(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition criteria,
+            int limit,
+            @Nullable Date pointInTime
+    );
+
     <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> save(
             @NotNull ModelSpec modelSpec,
             @NotNull ENTITY_TYPE entity
@@ -83,6 +180,33 @@ public interface CrudRepository {
             @Nullable Long transactionTimeoutMs
     );
 
+    /**
+     * Creates the entities with collection requests and returns a response per platform transaction,
+     * in request order. The entity IDs of all responses together follow the order of the entities.
+     * Large collections are split into chunks as described for saveInChunks.
+     */
+    <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> saveCollection(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Collection<ENTITY_TYPE> entities,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs
+    );
+
+    /**
+     * Creates the entities with one collection request per chunk, each chunk bounded by entity count and
+     * serialized size, keeping a limited number of chunk requests in flight. Each chunk is committed on
+     * its own: if one fails the result fails and no further chunks are sent, but chunks already committed
+     * stay committed. The listener, if given, is called from the gRPC callback thread once per committed
+     * chunk and must not block.
+     */
+    <ENTITY_TYPE> CompletableFuture<BulkWriteResult> saveInChunks(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Collection<ENTITY_TYPE> entities,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs,
+            @Nullable Consumer<BulkWriteProgress> progressListener
+    );
+
     <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> update(
             @NotNull UUID id,
             @NotNull ENTITY_TYPE entity,
@@ -101,5 +225,28 @@ public interface CrudRepository {
             @Nullable Long transactionTimeoutMs
     );
 
+    /**
+     * Updates the entities with collection requests, taking each entity ID from the map key rather than
+     * from the entity body. Returns a response per platform transaction.
+     */
+    <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateCollection(
+            @NotNull Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable String transition,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs
+    );
+
+    /**
+     * Updates the entities with one collection request per chunk, with the same chunking, pipelining and
+     * failure semantics as saveInChunks.
+     */
+    <ENTITY_TYPE> CompletableFuture<BulkWriteResult> updateInChunks(
+            @NotNull Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable String transition,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs,
+            @Nullable Consumer<BulkWriteProgress> progressListener
+    );
+
     CompletableFuture<EntityTransitionResponse> applyTransition(@NotNull UUID entityId, @NotNull String transitionName);
 }
\ No newline at end of file
@@ -1,15 +1,19 @@
 package com.java_template.common.repository;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Streams;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.java_template.common.grpc.client.event_handling.CloudEventBuilder;
 import com.java_template.common.grpc.client.event_handling.CloudEventParser;
+import com.java_template.common.util.BoundedFutures;
+import com.java_template.common.util.Chunks;
 import io.cloudevents.v1.proto.CloudEvent;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.constraints.NotNull;
 import org.cyoda.cloud.api.event.common.BaseEvent;
 import org.cyoda.cloud.api.event.common.DataPayload;
@@ -22,17 +26,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
-import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static com.java_template.common.config.Config.BULK_WRITE_CHUNK_MAX_BYTES;
+import static com.java_template.common.config.Config.BULK_WRITE_CHUNK_MAX_ENTITIES;
+import static com.java_template.common.config.Config.BULK_WRITE_MAX_IN_FLIGHT;
 import static com.java_template.common.config.Config.GRPC_COMMUNICATION_DATA_FORMAT;
+import static com.java_template.common.config.Config.SNAPSHOT_AWAIT_LIMIT_MS;
+import static com.java_template.common.config.Config.SNAPSHOT_CURSOR_CACHE_MAX_SIZE;
+import static com.java_template.common.config.Config.SNAPSHOT_CURSOR_TTL_MS;
+import static com.java_template.common.config.Config.SNAPSHOT_POLL_INITIAL_DELAY_MS;
+import static com.java_template.common.config.Config.SNAPSHOT_POLL_MAX_DELAY_MS;
+import static com.java_template.common.config.Config.SNAPSHOT_PREFETCH_PAGES;
 
 
 /**
@@ -41,26 +61,47 @@ import static com.java_template.common.config.Config.GRPC_COMMUNICATION_DATA_FOR
  */
 @Repository
 public class CyodaRepository implements CrudRepository {
-    private static final int SNAPSHOT_CREATION_AWAIT_LIMIT_MS = 10_000;
-    private static final int SNAPSHOT_CREATION_POLL_INTERVAL_MS = 500;
+    private static final int FIRST_SNAPSHOT_PAGE = 0;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final ObjectMapper objectMapper;
-    private final CloudEventsServiceGrpc.CloudEventsServiceBlockingStub cloudEventsServiceBlockingStub;
+    private final CloudEventsServiceGrpc.CloudEventsServiceStub cloudEventsServiceStub;
     private final CloudEventBuilder cloudEventBuilder;
     private final CloudEventParser cloudEventParser;
+    private final SnapshotCursorCache snapshotCursorCache;
+    private final ScheduledExecutorService snapshotPollScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("Cyoda-Snapshot-Poller").daemon(true).factory()
+    );
+    private final SnapshotStatusPoller snapshotStatusPoller;
 
     public CyodaRepository(
             final ObjectMapper objectMapper,
-            final CloudEventsServiceGrpc.CloudEventsServiceBlockingStub cloudEventsServiceBlockingStub,
+            final CloudEventsServiceGrpc.CloudEventsServiceStub cloudEventsServiceStub,
             final CloudEventBuilder cloudEventBuilder,
             final CloudEventParser cloudEventParser
     ) {
         this.objectMapper = objectMapper;
-        this.cloudEventsServiceBlockingStub = cloudEventsServiceBlockingStub;
+        this.cloudEventsServiceStub = cloudEventsServiceStub;
         this.cloudEventBuilder = cloudEventBuilder;
         this.cloudEventParser = cloudEventParser;
+        this.snapshotCursorCache = new SnapshotCursorCache(
+                SNAPSHOT_CURSOR_TTL_MS,
+                SNAPSHOT_CURSOR_CACHE_MAX_SIZE,
+                this::cancelSnapshot
+        );
+        this.snapshotStatusPoller = new SnapshotStatusPoller(
+                this::getSnapshotStatus,
+                this::cancelSnapshot,
+                snapshotPollScheduler,
+                SNAPSHOT_POLL_INITIAL_DELAY_MS,
+                SNAPSHOT_POLL_MAX_DELAY_MS
+        );
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        snapshotPollScheduler.shutdownNow();
     }
 
     @Override
@@ -74,13 +115,14 @@ public class CyodaRepository implements CrudRepository {
     }
 
     private CompletableFuture<DataPayload> getById(final UUID entityId, @Nullable final Date pointInTime) {
-        return sendAndGet(
-                cloudEventsServiceBlockingStub::entityManage,
+        final var response = sendAndGet(
+                cloudEventsServiceStub::entityManage,
                 new EntityGetRequest().withId(UUID.randomUUID().toString())
                         .withEntityId(entityId)
                         .withPointInTime(pointInTime),
                 EntityResponse.class
-        ).thenApply(EntityResponse::getPayload);
+        );
+        return cancellingUpstream(response.thenApply(EntityResponse::getPayload), response);
     }
 
     @Override
@@ -115,28 +157,150 @@ public class CyodaRepository implements CrudRepository {
             @NotNull final GroupCondition condition,
             @Nullable final Date pointInTime
     ) {
-        return createSnapshotSearch(modelSpec, condition, pointInTime).thenComposeAsync(snapshotInfo -> {
-                    if (snapshotInfo.getSnapshotId() == null) {
-                        logger.error("Snapshot ID not found in response");
-                        return CompletableFuture.completedFuture(null);
-                    }
-
-                    // NOTE: To avoid redundant polling, if snapshot is already done
-                    if (SearchSnapshotStatus.Status.SUCCESSFUL.equals(snapshotInfo.getStatus())) {
-                        return CompletableFuture.completedFuture(snapshotInfo.getSnapshotId());
-                    }
-
-                    try {
-                        return waitForSearchCompletion(
-                                snapshotInfo.getSnapshotId(),
-                                SNAPSHOT_CREATION_AWAIT_LIMIT_MS,
-                                SNAPSHOT_CREATION_POLL_INTERVAL_MS
-                        ).thenApply(it -> snapshotInfo.getSnapshotId());
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                }).thenCompose(snapshotId -> getSearchResult(snapshotId, pageSize, pageNumber))
-                .exceptionally(this::handleNotFoundOrThrow);
+        // As-at results never change, so their snapshot is shared across pages. Searches of the current
+        // state still get a fresh snapshot so they observe recent writes; cursor paging opts into reuse.
+        final var snapshot = pointInTime != null
+                ? openSnapshot(modelSpec, condition, pointInTime)
+                : awaitSnapshot(modelSpec, condition, null, SNAPSHOT_AWAIT_LIMIT_MS);
+        return cancellingUpstream(
+                snapshot.thenCompose(it -> getSearchResult(it.getSnapshotId(), pageSize, pageNumber))
+                        .exceptionally(this::handleNotFoundOrThrow),
+                snapshot
+        );
+    }
+
+    @Override
+    public CompletableFuture<SearchSnapshotStatus> openSnapshot(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @Nullable final Date pointInTime
+    ) {
+        return openSnapshot(modelSpec, condition, pointInTime, Duration.ofMillis(SNAPSHOT_AWAIT_LIMIT_MS));
+    }
+
+    @Override
+    public CompletableFuture<SearchSnapshotStatus> openSnapshot(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @Nullable final Date pointInTime,
+            @NotNull final Duration awaitLimit
+    ) {
+        // The load is shared with other callers of the same query, so a caller cancelling its copy must not stop it
+        return snapshotCursorCache.get(
+                new SnapshotCursorCache.SnapshotKey(modelSpec, condition, pointInTime),
+                key -> awaitSnapshot(key.modelSpec(), key.condition(), key.pointInTime(), awaitLimit.toMillis())
+        ).copy();
+    }
+
+    @Override
+    public CompletableFuture<SearchSnapshotStatus> openUnsharedSnapshot(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @Nullable final Date pointInTime
+    ) {
+        return awaitSnapshot(modelSpec, condition, pointInTime, SNAPSHOT_AWAIT_LIMIT_MS);
+    }
+
+    @Override
+    public CompletableFuture<List<DataPayload>> findSnapshotPage(
+            @NotNull final UUID snapshotId,
+            final int pageSize,
+            final int pageNumber
+    ) {
+        snapshotCursorCache.touch(snapshotId);
+        final var page = getSearchResult(snapshotId, pageSize, pageNumber);
+        return cancellingUpstream(page.exceptionally(this::handleNotFoundOrThrow), page);
+    }
+
+    @Override
+    public CompletableFuture<Stream<DataPayload>> scanAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            final int pageSize,
+            @Nullable final Date pointInTime
+    ) {
+        return scanAllByCriteria(modelSpec, condition, pageSize, pointInTime, Duration.ofMillis(SNAPSHOT_AWAIT_LIMIT_MS));
+    }
+
+    @Override
+    public CompletableFuture<Stream<DataPayload>> scanAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            final int pageSize,
+            @Nullable final Date pointInTime,
+            @NotNull final Duration awaitLimit
+    ) {
+        final var ready = awaitSnapshot(modelSpec, condition, pointInTime, awaitLimit.toMillis());
+        return cancellingUpstream(ready.thenApply(snapshot -> {
+            final var snapshotId = snapshot.getSnapshotId();
+            final var prefetcher = new SnapshotPagePrefetcher(
+                    pageNumber -> getSearchResult(snapshotId, pageSize, pageNumber),
+                    FIRST_SNAPSHOT_PAGE,
+                    pageSize,
+                    SNAPSHOT_PREFETCH_PAGES,
+                    snapshot.getEntitiesCount()
+            );
+            return StreamSupport.stream(
+                            Spliterators.spliteratorUnknownSize(prefetcher, Spliterator.ORDERED | Spliterator.NONNULL),
+                            false
+                    ).flatMap(List::stream)
+                    .onClose(prefetcher::close);
+        }).exceptionally(ex -> this.<DataPayload>handleNotFoundOrThrow(ex).stream()), ready);
+    }
+
+    /**
+     * Creates a search snapshot and completes with its status once the platform reports it SUCCESSFUL.
+     * Cancelling the returned future stops the wait and cancels the snapshot on the platform.
+     */
+    private CompletableFuture<SearchSnapshotStatus> awaitSnapshot(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @Nullable final Date pointInTime,
+            final long awaitLimitMillis
+    ) {
+        final var result = new CompletableFuture<SearchSnapshotStatus>();
+        createSnapshotSearch(modelSpec, condition, pointInTime).whenComplete((snapshotInfo, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+                return;
+            }
+            if (snapshotInfo.getSnapshotId() == null) {
+                logger.error("Snapshot ID not found in response");
+                result.completeExceptionally(new IllegalStateException("Snapshot ID not found in response"));
+                return;
+            }
+            if (result.isCancelled()) {
+                cancelSnapshot(snapshotInfo.getSnapshotId());
+                return;
+            }
+
+            // NOTE: A snapshot that is already done is returned without polling
+            final var completion = snapshotStatusPoller.await(snapshotInfo, awaitLimitMillis);
+            completion.whenComplete((snapshot, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(snapshot);
+                }
+            });
+            cancellingUpstream(result, completion);
+        });
+        return result;
+    }
+
+    /**
+     * CompletableFuture does not propagate cancellation to the stages it was derived from; this links them.
+     */
+    private static <T> CompletableFuture<T> cancellingUpstream(
+            final CompletableFuture<T> downstream,
+            final CompletableFuture<?> upstream
+    ) {
+        downstream.whenComplete((ignored, ex) -> {
+            if (downstream.isCancelled()) {
+                upstream.cancel(false);
+            }
+        });
+        return downstream;
     }
 
     private CompletableFuture<List<DataPayload>> findAllByConditionInMemory(
@@ -146,7 +310,7 @@ public class CyodaRepository implements CrudRepository {
             @Nullable final Date pointInTime
     ) {
         return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entitySearchCollection,
+                cloudEventsServiceStub::entitySearchCollection,
                 new EntitySearchRequest().withId(generateEventId())
                         .withModel(modelSpec)
                         .withLimit(pageSize)
@@ -174,7 +338,7 @@ public class CyodaRepository implements CrudRepository {
             @Nullable final Date pointInTime
     ) {
         return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entityManageCollection,
+                cloudEventsServiceStub::entityManageCollection,
                 new EntityGetAllRequest().withId(UUID.randomUUID().toString())
                         .withModel(modelSpec)
                         .withPageSize(pageSize)
@@ -184,6 +348,44 @@ public class CyodaRepository implements CrudRepository {
         ).thenApply(entities -> entities.map(EntityResponse::getPayload).toList());
     }
 
+    @Override
+    public Flow.Publisher<DataPayload> streamAll(
+            @NotNull final ModelSpec modelSpec,
+            final int pageSize,
+            final int pageNumber,
+            @Nullable final Date pointInTime
+    ) {
+        return streamCollection(
+                cloudEventsServiceStub::entityManageCollection,
+                new EntityGetAllRequest().withId(generateEventId())
+                        .withModel(modelSpec)
+                        .withPageSize(pageSize)
+                        .withPageNumber(pageNumber)
+                        .withPointInTime(pointInTime),
+                EntityResponse.class,
+                EntityResponse::getPayload
+        );
+    }
+
+    @Override
+    public Flow.Publisher<DataPayload> streamAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            final int limit,
+            @Nullable final Date pointInTime
+    ) {
+        return streamCollection(
+                cloudEventsServiceStub::entitySearchCollection,
+                new EntitySearchRequest().withId(generateEventId())
+                        .withModel(modelSpec)
+                        .withLimit(limit)
+                        .withCondition(condition)
+                        .withPointInTime(pointInTime),
+                EntityResponse.class,
+                EntityResponse::getPayload
+        );
+    }
+
     @Override
     public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> save(
             @NotNull final ModelSpec modelSpec,
@@ -206,17 +408,48 @@ public class CyodaRepository implements CrudRepository {
             @NotNull final Collection<ENTITY_TYPE> entities,
             @Nullable final Integer transactionWindow,
             @Nullable final Long transactionTimeoutMs
+    ) {
+        return saveNewEntitiesWithTransactionParams(modelSpec, entities, transactionWindow, transactionTimeoutMs)
+                .thenApply(responses -> responses.stream().findFirst().orElse(null));
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> saveCollection(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
     ) {
         return saveNewEntitiesWithTransactionParams(modelSpec, entities, transactionWindow, transactionTimeoutMs);
     }
 
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<BulkWriteResult> saveInChunks(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        final List<JsonNode> payloads = entities.stream()
+                .map(entity -> (JsonNode) objectMapper.valueToTree(entity))
+                .toList();
+
+        return sendInChunks(
+                payloads,
+                this::serializedSize,
+                chunk -> sendCreateCollection(modelSpec, chunk, transactionWindow, transactionTimeoutMs),
+                progressListener
+        );
+    }
+
     @Override
     public CompletableFuture<EntityTransitionResponse> applyTransition(
             @NotNull final UUID entityId,
             @NotNull final String transitionName
     ) {
         return sendAndGet(
-                cloudEventsServiceBlockingStub::entityManage,
+                cloudEventsServiceStub::entityManage,
                 new EntityTransitionRequest().withId(generateEventId())
                         .withEntityId(entityId)
                         .withTransition(transitionName),
@@ -231,7 +464,7 @@ public class CyodaRepository implements CrudRepository {
             @Nullable final String transition
     ) {
         return sendAndGet(
-                cloudEventsServiceBlockingStub::entityManage,
+                cloudEventsServiceStub::entityManage,
                 new EntityUpdateRequest().withId(generateEventId())
                         .withDataFormat(GRPC_COMMUNICATION_DATA_FORMAT)
                         .withPayload(
@@ -267,14 +500,72 @@ public class CyodaRepository implements CrudRepository {
                         )
                 );
 
+        return updateEntities(entitiesByIds, transition, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateCollection(
+            @NotNull final Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        final var entitiesByIds = new LinkedHashMap<UUID, JsonNode>();
+        entitiesById.forEach((id, entity) -> entitiesByIds.put(id, objectMapper.valueToTree(entity)));
+        return updateEntities(entitiesByIds, transition, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<BulkWriteResult> updateInChunks(
+            @NotNull final Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        final var entitiesByIds = new LinkedHashMap<UUID, JsonNode>();
+        entitiesById.forEach((id, entity) -> entitiesByIds.put(id, objectMapper.valueToTree(entity)));
+        return updateEntitiesInChunks(entitiesByIds, transition, transactionWindow, transactionTimeoutMs, progressListener);
+    }
+
+    private CompletableFuture<List<EntityTransactionResponse>> updateEntities(
+            @NotNull final Map<UUID, JsonNode> entitiesByIds,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        return updateEntitiesInChunks(entitiesByIds, transition, transactionWindow, transactionTimeoutMs, null)
+                .thenApply(BulkWriteResult::responses);
+    }
+
+    private CompletableFuture<BulkWriteResult> updateEntitiesInChunks(
+            @NotNull final Map<UUID, JsonNode> entitiesByIds,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        return sendInChunks(
+                List.copyOf(entitiesByIds.entrySet()),
+                entity -> serializedSize(entity.getValue()),
+                chunk -> sendUpdateCollection(chunk, transition, transactionWindow, transactionTimeoutMs),
+                progressListener
+        );
+    }
+
+    private CompletableFuture<List<EntityTransactionResponse>> sendUpdateCollection(
+            @NotNull final List<Map.Entry<UUID, JsonNode>> entitiesByIds,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
         return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entityManageCollection,
+                cloudEventsServiceStub::entityManageCollection,
                 new EntityUpdateCollectionRequest().withId(generateEventId())
                         .withDataFormat(GRPC_COMMUNICATION_DATA_FORMAT)
                         .withTransactionWindow(transactionWindow)
                         .withTransactionTimeoutMs(transactionTimeoutMs)
-                        .withPayloads(entitiesByIds.entrySet()
-                                .stream()
+                        .withPayloads(entitiesByIds.stream()
                                 .map(entity -> new EntityUpdatePayload().withTransition(transition)
                                         .withEntityId(entity.getKey())
                                         .withData(entity.getValue()))
@@ -296,34 +587,80 @@ public class CyodaRepository implements CrudRepository {
     }
 
     private <RESPONSE_PAYLOAD_TYPE extends BaseEvent> CompletableFuture<RESPONSE_PAYLOAD_TYPE> sendAndGet(
-            final Function<CloudEvent, CloudEvent> apiCall,
+            final BiConsumer<CloudEvent, StreamObserver<CloudEvent>> apiCall,
             final BaseEvent baseEvent,
             final Class<RESPONSE_PAYLOAD_TYPE> responsePayloadType
     ) {
         try {
             final CloudEvent requestEvent = cloudEventBuilder.buildEvent(baseEvent);
-            return CompletableFuture.supplyAsync(() -> requestAndGetOrThrow(apiCall, requestEvent))
-                    .thenApply(response -> cloudEventParser.parseCloudEvent(response, responsePayloadType))
-                    .thenApply(this::getOrNull);
+            final var responses = call(apiCall, requestEvent);
+            return cancellingUpstream(
+                    responses.thenApply(events -> events.isEmpty() ? null : events.getFirst())
+                            .thenApply(response -> response == null
+                                    ? Optional.<RESPONSE_PAYLOAD_TYPE>empty()
+                                    : cloudEventParser.parseCloudEvent(response, responsePayloadType))
+                            .thenApply(this::getOrNull),
+                    responses
+            );
         } catch (InvalidProtocolBufferException e) {
             throw new RuntimeException(e);
         }
     }
 
     private <RESPONSE_PAYLOAD_TYPE extends BaseEvent> CompletableFuture<Stream<RESPONSE_PAYLOAD_TYPE>> sendAndGetCollection(
-            final Function<CloudEvent, Iterator<CloudEvent>> apiCall,
+            final BiConsumer<CloudEvent, StreamObserver<CloudEvent>> apiCall,
             final BaseEvent baseEvent,
             final Class<RESPONSE_PAYLOAD_TYPE> responsePayloadClass
     ) {
         try {
             final var requestEvent = cloudEventBuilder.buildEvent(baseEvent);
-            return CompletableFuture.supplyAsync(() -> requestAndGetOrThrow(apiCall, requestEvent))
-                    .thenApply(response -> processCollection(Streams.stream(response), responsePayloadClass));
+            final var responses = call(apiCall, requestEvent);
+            return cancellingUpstream(
+                    responses.thenApply(events -> processCollection(events.stream(), responsePayloadClass)),
+                    responses
+            );
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private <RESPONSE_PAYLOAD_TYPE extends BaseEvent, RESULT_TYPE> Flow.Publisher<RESULT_TYPE> streamCollection(
+            final BiConsumer<CloudEvent, StreamObserver<CloudEvent>> apiCall,
+            final BaseEvent baseEvent,
+            final Class<RESPONSE_PAYLOAD_TYPE> responsePayloadClass,
+            final Function<RESPONSE_PAYLOAD_TYPE, RESULT_TYPE> resultExtractor
+    ) {
+        try {
+            final var requestEvent = cloudEventBuilder.buildEvent(baseEvent);
+            return new CloudEventStreamPublisher<>(
+                    apiCall,
+                    requestEvent,
+                    response -> cloudEventParser.parseCloudEvent(response, responsePayloadClass)
+                            .map(resultExtractor)
+                            .orElse(null)
+            );
         } catch (InvalidProtocolBufferException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Starts the call on the async stub. No thread is parked while the call is in flight:
+     * the returned future is completed from the gRPC callback once the server closes the call.
+     */
+    private CompletableFuture<List<CloudEvent>> call(
+            final BiConsumer<CloudEvent, StreamObserver<CloudEvent>> apiCall,
+            final CloudEvent requestEvent
+    ) {
+        final var responseObserver = new CloudEventResponseObserver();
+        try {
+            apiCall.accept(requestEvent, responseObserver);
+        } catch (Exception e) {
+            responseObserver.onError(e);
+        }
+        return responseObserver.result();
+    }
+
     private <RESPONSE_PAYLOAD_TYPE extends BaseEvent> Stream<RESPONSE_PAYLOAD_TYPE> processCollection(
             final Stream<CloudEvent> stream,
             final Class<RESPONSE_PAYLOAD_TYPE> payloadType
@@ -340,23 +677,12 @@ public class CyodaRepository implements CrudRepository {
         return event.orElse(null);
     }
 
-    private <RESPONSE_PAYLOAD_TYPE> RESPONSE_PAYLOAD_TYPE requestAndGetOrThrow(
-            final Function<CloudEvent, RESPONSE_PAYLOAD_TYPE> apiCall,
-            final CloudEvent requestEvent
-    ) {
-        try {
-            return apiCall.apply(requestEvent);
-        } catch (Exception e) {
-            throw new CompletionException(e);
-        }
-    }
-
     private <PAYLOAD_TYPE> CompletableFuture<EntityTransactionResponse> saveNewEntities(
             @NotNull final ModelSpec modelSpec,
             @NotNull final PAYLOAD_TYPE entities
     ) {
         return sendAndGet(
-                cloudEventsServiceBlockingStub::entityManage,
+                cloudEventsServiceStub::entityManage,
                 new EntityCreateRequest().withId(generateEventId())
                         .withDataFormat(GRPC_COMMUNICATION_DATA_FORMAT)
                         .withPayload(new EntityCreatePayload().withData(objectMapper.valueToTree(entities))
@@ -366,7 +692,7 @@ public class CyodaRepository implements CrudRepository {
         );
     }
 
-    private <PAYLOAD_TYPE> CompletableFuture<EntityTransactionResponse> saveNewEntitiesWithTransactionParams(
+    private <PAYLOAD_TYPE> CompletableFuture<List<EntityTransactionResponse>> saveNewEntitiesWithTransactionParams(
             @NotNull final ModelSpec modelSpec,
             @NotNull final PAYLOAD_TYPE entities,
             @Nullable final Integer transactionWindow,
@@ -377,26 +703,100 @@ public class CyodaRepository implements CrudRepository {
                 ? (Collection<?>) entities
                 : List.of(entities);
 
-        List<EntityCreatePayload> payloads = entityCollection.stream()
+        return saveInChunks(modelSpec, entityCollection, transactionWindow, transactionTimeoutMs, null)
+                .thenApply(BulkWriteResult::responses);
+    }
+
+    private CompletableFuture<List<EntityTransactionResponse>> sendCreateCollection(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final List<JsonNode> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        List<EntityCreatePayload> payloads = entities.stream()
                 .map(entity -> new EntityCreatePayload()
-                        .withData(objectMapper.valueToTree(entity))
+                        .withData(entity)
                         .withModel(modelSpec))
                 .toList();
 
         return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entityManageCollection,
+                cloudEventsServiceStub::entityManageCollection,
                 new EntityCreateCollectionRequest().withId(generateEventId())
                         .withDataFormat(GRPC_COMMUNICATION_DATA_FORMAT)
                         .withTransactionWindow(transactionWindow)
                         .withTransactionTimeoutMs(transactionTimeoutMs)
                         .withPayloads(payloads),
                 EntityTransactionResponse.class
-        ).thenApply(stream -> stream.findFirst().orElse(null));
+        ).thenApply(Stream::toList);
+    }
+
+    /**
+     * Splits the payloads into chunks bounded by BULK_WRITE_CHUNK_MAX_ENTITIES and BULK_WRITE_CHUNK_MAX_BYTES
+     * and sends them with at most BULK_WRITE_MAX_IN_FLIGHT requests outstanding, so building the next
+     * request overlaps with the previous ones on the wire.
+     */
+    private <PAYLOAD_TYPE> CompletableFuture<BulkWriteResult> sendInChunks(
+            @NotNull final List<PAYLOAD_TYPE> payloads,
+            @NotNull final ToLongFunction<PAYLOAD_TYPE> sizeOf,
+            @NotNull final Function<List<PAYLOAD_TYPE>, CompletableFuture<List<EntityTransactionResponse>>> sendChunk,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        final var chunks = Chunks.bySizeAndCount(
+                payloads,
+                BULK_WRITE_CHUNK_MAX_ENTITIES,
+                BULK_WRITE_CHUNK_MAX_BYTES,
+                sizeOf
+        );
+        final var completedEntities = new AtomicInteger();
+        final var chunkIndexes = IntStream.range(0, chunks.size()).boxed().toList();
+
+        return BoundedFutures.mapBounded(chunkIndexes, BULK_WRITE_MAX_IN_FLIGHT, index -> {
+            final var chunk = chunks.get(index);
+            return sendChunk.apply(chunk).thenApply(responses -> {
+                final var progress = new BulkWriteProgress(
+                        index,
+                        chunks.size(),
+                        chunk.size(),
+                        completedEntities.addAndGet(chunk.size()),
+                        payloads.size()
+                );
+                logger.debug("Bulk write chunk {}/{} committed ({} of {} entities)",
+                        index + 1, chunks.size(), progress.completedEntities(), progress.totalEntities());
+                notifyProgress(progressListener, progress);
+                return responses;
+            });
+        }).thenApply(perChunk -> new BulkWriteResult(
+                perChunk.stream().flatMap(List::stream).toList(),
+                chunks.size()
+        ));
+    }
+
+    private void notifyProgress(
+            @Nullable final Consumer<BulkWriteProgress> progressListener,
+            final BulkWriteProgress progress
+    ) {
+        if (progressListener == null) {
+            return;
+        }
+        try {
+            progressListener.accept(progress);
+        } catch (RuntimeException e) {
+            // A faulty listener must not turn a committed chunk into a failed write
+            logger.warn("Bulk write progress listener failed", e);
+        }
+    }
+
+    private long serializedSize(final JsonNode entity) {
+        try {
+            return objectMapper.writeValueAsBytes(entity).length;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize entity for bulk write", e);
+        }
     }
 
     private CompletableFuture<EntityDeleteResponse> deleteEntity(@NotNull final UUID id) {
         return sendAndGet(
-                cloudEventsServiceBlockingStub::entityManage,
+                cloudEventsServiceStub::entityManage,
                 new EntityDeleteRequest().withId(generateEventId()).withEntityId(id),
                 EntityDeleteResponse.class
         );
@@ -406,7 +806,7 @@ public class CyodaRepository implements CrudRepository {
             @NotNull final ModelSpec modelSpec
     ) {
         return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entityManageCollection,
+                cloudEventsServiceStub::entityManageCollection,
                 new EntityDeleteAllRequest().withId(generateEventId())
                         .withModel(modelSpec),
                 EntityDeleteAllResponse.class
@@ -423,7 +823,7 @@ public class CyodaRepository implements CrudRepository {
             @Nullable final Date pointInTime
     ) {
         return sendAndGet(
-                cloudEventsServiceBlockingStub::entitySearch,
+                cloudEventsServiceStub::entitySearch,
                 new EntitySnapshotSearchRequest().withId(generateEventId())
                         .withModel(modelSpec)
                         .withCondition(condition)
@@ -432,77 +832,46 @@ public class CyodaRepository implements CrudRepository {
         ).thenApply(EntitySnapshotSearchResponse::getStatus);
     }
 
-    private CompletableFuture<SearchSnapshotStatus.Status> waitForSearchCompletion(
-            @NotNull final UUID snapshotId,
-            final long awaitLimitMillis,
-            final long intervalMillis
-    ) throws IOException {
-        final var startTime = System.currentTimeMillis();
-        return pollSnapshotStatus(snapshotId, startTime, awaitLimitMillis, intervalMillis);
+    private CompletableFuture<SearchSnapshotStatus> getSnapshotStatus(@NotNull final UUID snapshotId) {
+        return sendAndGet(
+                cloudEventsServiceStub::entitySearch,
+                new SnapshotGetStatusRequest().withId(generateEventId()).withSnapshotId(snapshotId),
+                EntitySnapshotSearchResponse.class
+        ).thenApply(EntitySnapshotSearchResponse::getStatus);
     }
 
-    private CompletableFuture<SearchSnapshotStatus.Status> pollSnapshotStatus(
-            @NotNull final UUID snapshotId,
-            final long startTime,
-            final long awaitLimitMillis,
-            final long intervalMillis
-    ) throws IOException {
-        logger.debug("Polling snapshot: {}", snapshotId);
-        return getSnapshotStatus(snapshotId).thenCompose(snapshotStatus -> {
-            if (SearchSnapshotStatus.Status.SUCCESSFUL.equals(snapshotStatus)) {
-                logger.debug("Snapshot is ready!");
-                return CompletableFuture.completedFuture(snapshotStatus);
-            }
-            if (!SearchSnapshotStatus.Status.RUNNING.equals(snapshotStatus)) {
-                return CompletableFuture.failedFuture(
-                        new RuntimeException("Snapshot search failed: " + snapshotStatus)
-                );
-            }
-
-            final var elapsedTime = System.currentTimeMillis() - startTime;
-            if (elapsedTime > awaitLimitMillis) {
-                return CompletableFuture.failedFuture(
-                        new TimeoutException("Timeout exceeded after " + awaitLimitMillis + " ms"));
+    @Override
+    public void cancelSnapshot(@NotNull final UUID snapshotId) {
+        logger.debug("Cancelling snapshot: {}", snapshotId);
+        sendAndGet(
+                cloudEventsServiceStub::entitySearch,
+                new SnapshotCancelRequest().withId(generateEventId()).withSnapshotId(snapshotId),
+                EntitySnapshotSearchResponse.class
+        ).whenComplete((response, ex) -> {
+            if (ex != null) {
+                // Usually the platform has already expired the snapshot; nothing else holds on to it
+                logger.debug("Failed to cancel snapshot {}", snapshotId, ex);
             }
-
-            return CompletableFuture.runAsync(
-                    () -> {},
-                    CompletableFuture.delayedExecutor(intervalMillis, TimeUnit.MILLISECONDS)
-            ).thenCompose(ignored -> {
-                try {
-                    return pollSnapshotStatus(snapshotId, startTime, awaitLimitMillis, intervalMillis);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            });
         });
     }
 
-    private CompletableFuture<SearchSnapshotStatus.Status> getSnapshotStatus(@NotNull final UUID snapshotId) {
-        return sendAndGet(
-                cloudEventsServiceBlockingStub::entitySearch,
-                new SnapshotGetStatusRequest().withId(generateEventId()).withSnapshotId(snapshotId),
-                EntitySnapshotSearchResponse.class
-        ).thenApply(EntitySnapshotSearchResponse::getStatus)
-                .thenApply(SearchSnapshotStatus::getStatus);
-    }
-
     private CompletableFuture<List<DataPayload>> getSearchResult(
             @NotNull final UUID snapshotId,
             final int pageSize,
             final int pageNumber
     ) {
-        return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entitySearchCollection,
+        final var page = sendAndGetCollection(
+                cloudEventsServiceStub::entitySearchCollection,
                 new SnapshotGetRequest().withId(generateEventId())
                         .withSnapshotId(snapshotId)
                         .withPageSize(pageSize)
                         .withPageNumber(pageNumber),
                 EntityResponse.class
-        ).thenApply(entities -> entities
+        );
+        return cancellingUpstream(page.thenApply(entities -> entities
                 .map(EntityResponse::getPayload)
                 .toList()
-        );
+        ), page);
     }
 
     private <ENTITY_TYPE> List<ENTITY_TYPE> handleNotFoundOrThrow(final Throwable exception) {
@@ -515,7 +884,8 @@ public class CyodaRepository implements CrudRepository {
     }
 
     private boolean isNotFound(final Throwable exception) {
-        return exception instanceof StatusRuntimeException ex && ex.getStatus().getCode().equals(Status.Code.NOT_FOUND);
+        final var cause = exception instanceof CompletionException ? exception.getCause() : exception;
+        return cause instanceof StatusRuntimeException ex && ex.getStatus().getCode().equals(Status.Code.NOT_FOUND);
     }
 
     @Override
@@ -526,7 +896,7 @@ public class CyodaRepository implements CrudRepository {
     @Override
     public CompletableFuture<Long> getEntityCount(@NotNull final ModelSpec modelSpec, @Nullable final Date pointInTime) {
         return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entitySearchCollection,
+                cloudEventsServiceStub::entitySearchCollection,
                 new EntityStatsGetRequest()
                         .withId(generateEventId())
                         .withPointInTime(pointInTime)
@@ -551,7 +921,7 @@ public class CyodaRepository implements CrudRepository {
             @Nullable final Date pointInTime
     ) {
         return sendAndGetCollection(
-                cloudEventsServiceBlockingStub::entitySearchCollection,
+                cloudEventsServiceStub::entitySearchCollection,
                 new EntityChangesMetadataGetRequest()
                         .withId(generateEventId())
                         .withEntityId(entityId)
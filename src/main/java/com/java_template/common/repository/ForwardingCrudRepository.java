@@ -0,0 +1,294 @@
+package com.java_template.common.repository;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.EntityChangeMeta;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.common.condition.GroupCondition;
+import org.cyoda.cloud.api.event.entity.EntityDeleteAllResponse;
+import org.cyoda.cloud.api.event.entity.EntityDeleteResponse;
+import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+import org.cyoda.cloud.api.event.entity.EntityTransitionResponse;
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * ABOUTME: Base class for CrudRepository decorators that forwards every call to a delegate,
+ * so a decorator only overrides the operations it changes.
+ */
+public abstract class ForwardingCrudRepository implements CrudRepository {
+
+    protected final CrudRepository delegate;
+
+    protected ForwardingCrudRepository(@NotNull final CrudRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CompletableFuture<EntityDeleteResponse> deleteById(@NotNull final UUID id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public CompletableFuture<List<EntityDeleteAllResponse>> deleteAll(@NotNull final ModelSpec modelSpec) {
+        return delegate.deleteAll(modelSpec);
+    }
+
+    @Override
+    public CompletableFuture<List<DataPayload>> findAll(
+            @NotNull final ModelSpec modelSpec,
+            final int pageSize,
+            final int pageNumber,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.findAll(modelSpec, pageSize, pageNumber, pointInTime);
+    }
+
+    @Override
+    public Flow.Publisher<DataPayload> streamAll(
+            @NotNull final ModelSpec modelSpec,
+            final int pageSize,
+            final int pageNumber,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.streamAll(modelSpec, pageSize, pageNumber, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<DataPayload> findById(@NotNull final UUID id) {
+        return findById(id, null);
+    }
+
+    @Override
+    public CompletableFuture<DataPayload> findById(@NotNull final UUID id, @Nullable final Date pointInTime) {
+        return delegate.findById(id, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<Long> getEntityCount(@NotNull final ModelSpec modelSpec) {
+        return getEntityCount(modelSpec, null);
+    }
+
+    @Override
+    public CompletableFuture<Long> getEntityCount(@NotNull final ModelSpec modelSpec, @Nullable final Date pointInTime) {
+        return delegate.getEntityCount(modelSpec, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<List<EntityChangeMeta>> getEntityChangesMetadata(
+            @NotNull final UUID entityId,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.getEntityChangesMetadata(entityId, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<List<DataPayload>> findAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            final int pageSize,
+            final int pageNumber,
+            final boolean inMemory
+    ) {
+        return findAllByCriteria(modelSpec, criteria, pageSize, pageNumber, inMemory, null);
+    }
+
+    @Override
+    public CompletableFuture<List<DataPayload>> findAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            final int pageSize,
+            final int pageNumber,
+            final boolean inMemory,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.findAllByCriteria(modelSpec, criteria, pageSize, pageNumber, inMemory, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<SearchSnapshotStatus> openSnapshot(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.openSnapshot(modelSpec, criteria, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<SearchSnapshotStatus> openSnapshot(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            @Nullable final Date pointInTime,
+            @NotNull final Duration awaitLimit
+    ) {
+        return delegate.openSnapshot(modelSpec, criteria, pointInTime, awaitLimit);
+    }
+
+    @Override
+    public CompletableFuture<SearchSnapshotStatus> openUnsharedSnapshot(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.openUnsharedSnapshot(modelSpec, criteria, pointInTime);
+    }
+
+    @Override
+    public void cancelSnapshot(@NotNull final UUID snapshotId) {
+        delegate.cancelSnapshot(snapshotId);
+    }
+
+    @Override
+    public CompletableFuture<List<DataPayload>> findSnapshotPage(
+            @NotNull final UUID snapshotId,
+            final int pageSize,
+            final int pageNumber
+    ) {
+        return delegate.findSnapshotPage(snapshotId, pageSize, pageNumber);
+    }
+
+    @Override
+    public CompletableFuture<Stream<DataPayload>> scanAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            final int pageSize,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.scanAllByCriteria(modelSpec, criteria, pageSize, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<Stream<DataPayload>> scanAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            final int pageSize,
+            @Nullable final Date pointInTime,
+            @NotNull final Duration awaitLimit
+    ) {
+        return delegate.scanAllByCriteria(modelSpec, criteria, pageSize, pointInTime, awaitLimit);
+    }
+
+    @Override
+    public Flow.Publisher<DataPayload> streamAllByCriteria(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition criteria,
+            final int limit,
+            @Nullable final Date pointInTime
+    ) {
+        return delegate.streamAllByCriteria(modelSpec, criteria, limit, pointInTime);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> save(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final ENTITY_TYPE entity
+    ) {
+        return delegate.save(modelSpec, entity);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> saveAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities
+    ) {
+        return delegate.saveAll(modelSpec, entities);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> saveAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        return delegate.saveAll(modelSpec, entities, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> saveCollection(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        return delegate.saveCollection(modelSpec, entities, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<BulkWriteResult> saveInChunks(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        return delegate.saveInChunks(modelSpec, entities, transactionWindow, transactionTimeoutMs, progressListener);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<EntityTransactionResponse> update(
+            @NotNull final UUID id,
+            @NotNull final ENTITY_TYPE entity,
+            @Nullable final String transition
+    ) {
+        return delegate.update(id, entity, transition);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateAll(
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final String transition
+    ) {
+        return delegate.updateAll(entities, transition);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateAll(
+            @NotNull final Collection<ENTITY_TYPE> entities,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        return delegate.updateAll(entities, transition, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<List<EntityTransactionResponse>> updateCollection(
+            @NotNull final Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs
+    ) {
+        return delegate.updateCollection(entitiesById, transition, transactionWindow, transactionTimeoutMs);
+    }
+
+    @Override
+    public <ENTITY_TYPE> CompletableFuture<BulkWriteResult> updateInChunks(
+            @NotNull final Map<UUID, ENTITY_TYPE> entitiesById,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @Nullable final Consumer<BulkWriteProgress> progressListener
+    ) {
+        return delegate.updateInChunks(entitiesById, transition, transactionWindow, transactionTimeoutMs, progressListener);
+    }
+
+    @Override
+    public CompletableFuture<EntityTransitionResponse> applyTransition(
+            @NotNull final UUID entityId,
+            @NotNull final String transitionName
+    ) {
+        return delegate.applyTransition(entityId, transitionName);
+    }
+}
@@ -0,0 +1,92 @@
+package com.java_template.common.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ABOUTME: CrudRepository decorator caching findById results read as of a point in time in the past,
+ * which can never change. The cache is bounded by the serialized size of the entities it holds.
+ * Reads of the current version, or as of a time that has not passed yet, always go to the platform.
+ * Callers of a cached entity receive the same DataPayload instance and must not mutate it.
+ */
+public class PointInTimeCachingCrudRepository extends ForwardingCrudRepository {
+
+    private static final String CACHE_NAME = "cyoda.entity.point-in-time";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    // Date is mutable, so the key holds the instant rather than the caller's Date
+    private record PointInTimeKey(UUID id, long pointInTimeMillis) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<PointInTimeKey, DataPayload> entities;
+
+    /**
+     * @param maximumWeightBytes upper bound on the summed serialized size of the cached entities
+     */
+    public PointInTimeCachingCrudRepository(
+            @NotNull final CrudRepository delegate,
+            @NotNull final ObjectMapper objectMapper,
+            final long maximumWeightBytes
+    ) {
+        super(delegate);
+        this.objectMapper = objectMapper;
+        this.entities = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((PointInTimeKey key, DataPayload payload) -> weigh(payload))
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public CompletableFuture<DataPayload> findById(@NotNull final UUID id, @Nullable final Date pointInTime) {
+        if (pointInTime == null || pointInTime.getTime() > System.currentTimeMillis()) {
+            return delegate.findById(id, pointInTime);
+        }
+        // Concurrent misses share one load; failed loads are not cached.
+        // Each caller gets its own copy so cancelling it cannot affect the cached entry
+        return entities.get(
+                new PointInTimeKey(id, pointInTime.getTime()),
+                (key, executor) -> delegate.findById(id, pointInTime)
+        ).copy();
+    }
+
+    /**
+     * Hit, miss and eviction counts, including the evicted weight, since the cache was created.
+     */
+    public CacheStats stats() {
+        return entities.synchronous().stats();
+    }
+
+    /**
+     * Publishes the cache statistics as cache metrics named cyoda.entity.point-in-time.
+     */
+    public void bindMetrics(@NotNull final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entities, CACHE_NAME);
+    }
+
+    private int weigh(final DataPayload payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload).length;
+        } catch (JsonProcessingException e) {
+            // Cannot happen for a payload that was just deserialized; weigh it as too large to keep
+            logger.warn("Failed to weigh cached entity", e);
+            return Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.java_template.common.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import jakarta.annotation.Nullable;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.common.condition.GroupCondition;
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ABOUTME: Cache of ready search snapshots keyed by query, so paging through the same search
+ * reuses one snapshot; snapshots are dropped after a period without use and cancelled on the platform.
+ */
+class SnapshotCursorCache {
+
+    // Dropped slightly before the platform expires the snapshot so a cached id is never dead on arrival
+    private static final long EXPIRATION_SAFETY_MARGIN_MS = 1_000;
+
+    /**
+     * Identity of a snapshot search. The condition must not be mutated once it has been used as a key.
+     */
+    record SnapshotKey(ModelSpec modelSpec, GroupCondition condition, @Nullable Date pointInTime) {
+    }
+
+    @Nullable
+    private final AsyncCache<SnapshotKey, SearchSnapshotStatus> snapshots;
+    // Pages are requested by snapshot id, so reading a page can keep its cached snapshot alive
+    private final Map<UUID, SnapshotKey> keysBySnapshotId = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttlMillis how long a snapshot is kept after its last use; zero or less disables caching
+     * @param maximumSize maximum number of snapshots kept
+     * @param snapshotCanceller invoked with the id of every snapshot dropped from the cache
+     */
+    SnapshotCursorCache(final long ttlMillis, final long maximumSize, final Consumer<UUID> snapshotCanceller) {
+        if (ttlMillis <= 0) {
+            this.snapshots = null;
+            return;
+        }
+        final long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<SnapshotKey, SearchSnapshotStatus>() {
+                    @Override
+                    public long expireAfterCreate(final SnapshotKey key, final SearchSnapshotStatus snapshot, final long currentTime) {
+                        return lifetimeNanos(snapshot, ttlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            final SnapshotKey key,
+                            final SearchSnapshotStatus snapshot,
+                            final long currentTime,
+                            final long currentDuration
+                    ) {
+                        return lifetimeNanos(snapshot, ttlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                            final SnapshotKey key,
+                            final SearchSnapshotStatus snapshot,
+                            final long currentTime,
+                            final long currentDuration
+                    ) {
+                        return lifetimeNanos(snapshot, ttlNanos);
+                    }
+                })
+                // Expire promptly rather than on the next cache access so abandoned snapshots get cancelled
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((SnapshotKey key, SearchSnapshotStatus snapshot, RemovalCause cause) -> {
+                    if (snapshot != null && snapshot.getSnapshotId() != null) {
+                        keysBySnapshotId.remove(snapshot.getSnapshotId(), key);
+                        snapshotCanceller.accept(snapshot.getSnapshotId());
+                    }
+                })
+                .buildAsync();
+    }
+
+    /**
+     * Returns the cached snapshot for the key, or the one produced by the loader. Concurrent callers
+     * for the same key share a single load; failed loads are not cached.
+     */
+    CompletableFuture<SearchSnapshotStatus> get(
+            final SnapshotKey key,
+            final Function<SnapshotKey, CompletableFuture<SearchSnapshotStatus>> loader
+    ) {
+        if (snapshots == null) {
+            return loader.apply(key);
+        }
+        return snapshots.get(key, (k, executor) -> loader.apply(k).thenApply(snapshot -> {
+            if (snapshot.getSnapshotId() != null) {
+                keysBySnapshotId.put(snapshot.getSnapshotId(), k);
+            }
+            return snapshot;
+        }));
+    }
+
+    /**
+     * Counts as a use of the cached snapshot with this id, if any, so it is not dropped while being paged.
+     */
+    void touch(final UUID snapshotId) {
+        if (snapshots == null) {
+            return;
+        }
+        final SnapshotKey key = keysBySnapshotId.get(snapshotId);
+        if (key != null) {
+            snapshots.getIfPresent(key);
+        }
+    }
+
+    private static long lifetimeNanos(final SearchSnapshotStatus snapshot, final long ttlNanos) {
+        final Date expirationDate = snapshot.getExpirationDate();
+        if (expirationDate == null) {
+            return ttlNanos;
+        }
+        final long untilExpiration = expirationDate.getTime() - System.currentTimeMillis() - EXPIRATION_SAFETY_MARGIN_MS;
+        return Math.max(0, Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(untilExpiration)));
+    }
+}
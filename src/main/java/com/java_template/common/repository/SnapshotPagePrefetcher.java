@@ -0,0 +1,94 @@
+package com.java_template.common.repository;
+
+import jakarta.annotation.Nullable;
+import org.cyoda.cloud.api.event.common.DataPayload;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+/**
+ * ABOUTME: Iterator over the pages of a completed search snapshot that keeps a bounded window
+ * of page requests in flight ahead of the consumer and hands pages back strictly in order.
+ */
+class SnapshotPagePrefetcher implements Iterator<List<DataPayload>>, AutoCloseable {
+
+    private final IntFunction<CompletableFuture<List<DataPayload>>> pageFetcher;
+    private final int pageSize;
+    private final int prefetchWindow;
+    private final int lastPageNumber;
+    private final Deque<CompletableFuture<List<DataPayload>>> inFlight = new ArrayDeque<>();
+
+    private int nextPageNumber;
+    private boolean exhausted;
+
+    /**
+     * @param pageFetcher fetches the page with the given number
+     * @param firstPageNumber number of the first page of the snapshot
+     * @param pageSize number of entities requested per page
+     * @param prefetchWindow maximum number of page requests in flight at once
+     * @param totalCount number of entities in the snapshot, or null if unknown; when unknown
+     *                   the scan ends at the first page holding fewer than pageSize entities
+     */
+    SnapshotPagePrefetcher(
+            final IntFunction<CompletableFuture<List<DataPayload>>> pageFetcher,
+            final int firstPageNumber,
+            final int pageSize,
+            final int prefetchWindow,
+            @Nullable final Long totalCount
+    ) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive, was " + pageSize);
+        }
+        this.pageFetcher = pageFetcher;
+        this.pageSize = pageSize;
+        this.prefetchWindow = Math.max(1, prefetchWindow);
+        this.nextPageNumber = firstPageNumber;
+        this.lastPageNumber = totalCount == null
+                ? Integer.MAX_VALUE
+                : firstPageNumber + (int) ((totalCount + pageSize - 1) / pageSize) - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        fillWindow();
+        return !inFlight.isEmpty();
+    }
+
+    @Override
+    public List<DataPayload> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final var page = inFlight.poll().join();
+        if (page.size() < pageSize) {
+            // A short page is the last one; anything fetched speculatively past it is empty
+            exhausted = true;
+            cancelInFlight();
+        }
+        fillWindow();
+        return page;
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        cancelInFlight();
+    }
+
+    private void fillWindow() {
+        while (!exhausted && inFlight.size() < prefetchWindow && nextPageNumber <= lastPageNumber) {
+            inFlight.add(pageFetcher.apply(nextPageNumber++));
+        }
+    }
+
+    private void cancelInFlight() {
+        inFlight.forEach(page -> page.cancel(true));
+        inFlight.clear();
+    }
+}
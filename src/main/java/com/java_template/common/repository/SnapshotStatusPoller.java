@@ -0,0 +1,131 @@
+package com.java_template.common.repository;
+
+import jakarta.validation.constraints.NotNull;
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * ABOUTME: Waits for a search snapshot to become ready by polling its status with exponentially
+ * growing delays up to a deadline, cancelling the snapshot when the wait times out or is cancelled.
+ */
+class SnapshotStatusPoller {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Function<UUID, CompletableFuture<SearchSnapshotStatus>> statusFetcher;
+    private final Consumer<UUID> snapshotCanceller;
+    private final ScheduledExecutorService scheduler;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * @param statusFetcher requests the current status of a snapshot
+     * @param snapshotCanceller cancels a snapshot on the platform
+     * @param scheduler runs the delayed status requests; only schedules them, responses arrive on gRPC threads
+     * @param initialDelayMillis delay before the first status request, doubled after every RUNNING answer
+     * @param maxDelayMillis upper bound for the delay between status requests
+     */
+    SnapshotStatusPoller(
+            final Function<UUID, CompletableFuture<SearchSnapshotStatus>> statusFetcher,
+            final Consumer<UUID> snapshotCanceller,
+            final ScheduledExecutorService scheduler,
+            final long initialDelayMillis,
+            final long maxDelayMillis
+    ) {
+        this.statusFetcher = statusFetcher;
+        this.snapshotCanceller = snapshotCanceller;
+        this.scheduler = scheduler;
+        this.initialDelayMillis = Math.max(1, initialDelayMillis);
+        this.maxDelayMillis = Math.max(this.initialDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * Completes with the snapshot status once it is SUCCESSFUL. Fails with a TimeoutException once
+     * awaitLimitMillis has passed, or with the failed status. Cancelling the returned future stops polling.
+     * The snapshot is cancelled on the platform whenever the caller stops waiting for it.
+     */
+    CompletableFuture<SearchSnapshotStatus> await(@NotNull final SearchSnapshotStatus snapshot, final long awaitLimitMillis) {
+        final var snapshotId = snapshot.getSnapshotId();
+        final var result = new CompletableFuture<SearchSnapshotStatus>();
+        result.whenComplete((ignored, ex) -> {
+            if (ex instanceof TimeoutException || ex instanceof CancellationException) {
+                logger.debug("Gave up waiting for snapshot {}", snapshotId);
+                snapshotCanceller.accept(snapshotId);
+            }
+        });
+
+        if (!complete(result, snapshot)) {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(awaitLimitMillis);
+            scheduleNext(snapshotId, deadline, awaitLimitMillis, initialDelayMillis, result);
+        }
+        return result;
+    }
+
+    private void scheduleNext(
+            final UUID snapshotId,
+            final long deadline,
+            final long awaitLimitMillis,
+            final long delayMillis,
+            final CompletableFuture<SearchSnapshotStatus> result
+    ) {
+        if (result.isDone()) {
+            return;
+        }
+        final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            result.completeExceptionally(new TimeoutException("Timeout exceeded after " + awaitLimitMillis + " ms"));
+            return;
+        }
+        scheduler.schedule(
+                () -> poll(snapshotId, deadline, awaitLimitMillis, delayMillis, result),
+                Math.min(delayMillis, remainingMillis),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void poll(
+            final UUID snapshotId,
+            final long deadline,
+            final long awaitLimitMillis,
+            final long delayMillis,
+            final CompletableFuture<SearchSnapshotStatus> result
+    ) {
+        if (result.isDone()) {
+            return;
+        }
+        logger.debug("Polling snapshot: {}", snapshotId);
+        statusFetcher.apply(snapshotId).whenComplete((status, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+            } else if (!complete(result, status)) {
+                scheduleNext(snapshotId, deadline, awaitLimitMillis, Math.min(delayMillis * 2, maxDelayMillis), result);
+            }
+        });
+    }
+
+    /**
+     * @return false if the snapshot is still running and needs to be polled again
+     */
+    private boolean complete(final CompletableFuture<SearchSnapshotStatus> result, final SearchSnapshotStatus status) {
+        if (SearchSnapshotStatus.Status.SUCCESSFUL.equals(status.getStatus())) {
+            logger.debug("Snapshot is ready!");
+            result.complete(status);
+            return true;
+        }
+        if (!SearchSnapshotStatus.Status.RUNNING.equals(status.getStatus())) {
+            result.completeExceptionally(new RuntimeException("Snapshot search failed: " + status.getStatus()));
+            return true;
+        }
+        return false;
+    }
+}
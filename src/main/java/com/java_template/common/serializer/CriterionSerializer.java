@@ -2,6 +2,7 @@ package com.java_template.common.serializer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.dto.LazyEntityWithMetadata;
 import com.java_template.common.workflow.CyodaEntity;
 import org.cyoda.cloud.api.event.processing.EntityCriteriaCalculationRequest;
 import org.cyoda.cloud.api.event.processing.EntityCriteriaCalculationResponse;
@@ -33,6 +34,12 @@ public interface CriterionSerializer {
      */
     <T extends CyodaEntity> EntityWithMetadata<T> extractEntityWithMetadata(EntityCriteriaCalculationRequest request, Class<T> clazz);
 
+    /**
+     * Wraps the request payload in a LazyEntityWithMetadata, which binds the entity and metadata only when accessed.
+     * Cheaper than extractEntityWithMetadata() for criteria that only check the state, id or a single field.
+     */
+    <T extends CyodaEntity> LazyEntityWithMetadata<T> extractLazyEntityWithMetadata(EntityCriteriaCalculationRequest request, Class<T> clazz);
+
     /**
      * Extracts raw JSON payload from the request.
      */
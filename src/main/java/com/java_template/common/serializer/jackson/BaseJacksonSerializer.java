@@ -18,9 +18,11 @@ public abstract class BaseJacksonSerializer<TRequest> {
 
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
     protected final ObjectMapper objectMapper;
+    protected final EntityCodecRegistry codecs;
 
     protected BaseJacksonSerializer(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.codecs = EntityCodecRegistry.forMapper(objectMapper);
     }
 
     protected <T extends CyodaEntity> T extractEntity(
@@ -31,7 +33,7 @@ public abstract class BaseJacksonSerializer<TRequest> {
             validateRequest(request);
 
             JsonNode payload = payloadExtractor.apply(request);
-            T entity = objectMapper.treeToValue(payload, clazz);
+            T entity = codecs.treeToValue(payload, clazz);
 
             logger.debug("Successfully extracted entity of type {} from request", clazz.getSimpleName());
             return entity;
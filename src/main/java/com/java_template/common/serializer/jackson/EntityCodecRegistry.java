@@ -0,0 +1,100 @@
+package com.java_template.common.serializer.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ABOUTME: Per-ObjectMapper registry of ObjectReaders for entity, metadata and event classes.
+ * Each reader is created once per class and reads JSON trees directly, instead of resolving the
+ * target type and round-tripping the tree through a TokenBuffer on every call as convertValue does.
+ */
+public final class EntityCodecRegistry {
+
+    // Weak keys compare by identity, so each mapper gets its own registry. A registry and its readers refer to
+    // their mapper, so values are weak as well: the entry goes once neither is referenced outside this cache
+    private static final Cache<ObjectMapper, EntityCodecRegistry> REGISTRIES = Caffeine.newBuilder()
+            .weakKeys()
+            .weakValues()
+            .build();
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private EntityCodecRegistry(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the registry of the given mapper, creating it on first use. The registry is kept while
+     * it is referenced, as by the EntityCodecRegistry bean for the application mapper.
+     */
+    public static EntityCodecRegistry forMapper(@NotNull final ObjectMapper objectMapper) {
+        return REGISTRIES.get(objectMapper, EntityCodecRegistry::new);
+    }
+
+    /**
+     * Creates the reader of the class ahead of its first use.
+     */
+    public void register(@NotNull final Class<?> type) {
+        reader(type);
+    }
+
+    public boolean isRegistered(@NotNull final Class<?> type) {
+        return readers.containsKey(type);
+    }
+
+    public ObjectReader reader(@NotNull final Class<?> type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * Reads a JSON tree as the given class, as ObjectMapper.treeToValue().
+     *
+     * @return the value, or null for a null tree
+     */
+    public <T> @Nullable T treeToValue(
+            @Nullable final JsonNode tree,
+            @NotNull final Class<T> type
+    ) throws JsonProcessingException {
+        if (tree == null) {
+            return null;
+        }
+        try {
+            return reader(type).readValue(tree);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected I/O error reading a JSON tree", e);
+        }
+    }
+
+    /**
+     * Reads a JSON tree as the given class, failing with an IllegalArgumentException as ObjectMapper.convertValue().
+     *
+     * @return the value, or null for a null tree
+     */
+    public <T> @Nullable T convertTree(@Nullable final JsonNode tree, @NotNull final Class<T> type) {
+        try {
+            return treeToValue(tree, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses JSON text as the given class, as ObjectMapper.readValue().
+     */
+    public <T> T readValue(@NotNull final String json, @NotNull final Class<T> type) throws JsonProcessingException {
+        return reader(type).readValue(json);
+    }
+}
@@ -3,6 +3,7 @@ package com.java_template.common.serializer.jackson;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.dto.LazyEntityWithMetadata;
 import com.java_template.common.serializer.SerializerEnum;
 import com.java_template.common.serializer.ResponseBuilder;
 import com.java_template.common.serializer.CriterionSerializer;
@@ -36,6 +37,19 @@ public class JacksonCriterionSerializer extends BaseJacksonSerializer<EntityCrit
         return EntityWithMetadata.fromDataPayload(request.getPayload(), clazz, objectMapper);
     }
 
+    /**
+     * Wraps the request payload without binding it; the entity and metadata are bound on first access.
+     * @param <T> the entity type
+     * @param request the criterion calculation request
+     * @param clazz the entity class for deserialization
+     * @return LazyEntityWithMetadata over the request payload
+     */
+    @Override
+    public <T extends CyodaEntity> LazyEntityWithMetadata<T> extractLazyEntityWithMetadata(EntityCriteriaCalculationRequest request, Class<T> clazz) {
+        validateRequest(request);
+        return LazyEntityWithMetadata.fromDataPayload(request.getPayload(), clazz, objectMapper);
+    }
+
     /**
      * Extracts raw JSON payload from the request.
      * @param request the criterion calculation request
@@ -0,0 +1,292 @@
+package com.java_template.common.service;
+
+import com.java_template.common.dto.BulkDeleteResult;
+import com.java_template.common.dto.BusinessIdUpdateResult;
+import com.java_template.common.dto.EntityBatch;
+import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.dto.LazyEntityWithMetadata;
+import com.java_template.common.dto.SearchCursorPage;
+import com.java_template.common.workflow.CyodaEntity;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.cyoda.cloud.api.event.common.EntityChangeMeta;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.common.condition.GroupCondition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ABOUTME: Non-blocking counterpart of EntityService. Every operation returns a CompletableFuture composed
+ * from the platform calls it needs, so independent lookups can be started together and combined, e.g.
+ * with CompletableFuture.allOf, instead of waiting for each in turn.
+
+ * The operations, their arguments and their caching behave as in EntityService, of which the blocking
+ * implementation is built on this one. Only the fullest overload of each operation is offered: pass null
+ * for an optional argument to get the default. Futures complete on the threads that deliver platform
+ * responses, so dependent stages should not block; use the async variants of CompletableFuture with an
+ * executor for slow work.
+
+ * Failures complete the future exceptionally. A failed platform call surfaces as its StatusRuntimeException
+ * (usually wrapped in a CompletionException); use CyodaExceptionUtil to inspect it.
+ */
+public interface AsyncEntityService {
+
+    // ========================================
+    // RETRIEVAL
+    // ========================================
+
+    /**
+     * Get entity by technical UUID
+     *
+     * @param pointInTime Point in time to retrieve the entity as-at (null for current state)
+     */
+    <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> getById(
+            @NotNull UUID entityId,
+            @NotNull ModelSpec modelSpec,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Get many entities by technical UUID, read concurrently (bounded by ENTITY_FETCH_MAX_IN_FLIGHT)
+     *
+     * @return Found entities in input order, plus the IDs that do not exist
+     */
+    <T extends CyodaEntity> CompletableFuture<EntityBatch<T>> getByIds(
+            @NotNull Collection<UUID> entityIds,
+            @NotNull ModelSpec modelSpec,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Find entity by business identifier
+     *
+     * @return Future of the entity, or of null when no entity has the business ID
+     */
+    <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> findByBusinessId(
+            @NotNull ModelSpec modelSpec,
+            @NotNull String businessId,
+            @NotNull String businessIdField,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Get the first page of all entities of a type (use sparingly, can be slow)
+     */
+    <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> findAll(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Get a page of entities; the page and the total count are requested concurrently
+     */
+    <T extends CyodaEntity> CompletableFuture<Page<EntityWithMetadata<T>>> findAll(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Pageable pageable,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    CompletableFuture<Long> getEntityCount(@NotNull ModelSpec modelSpec, @Nullable Date pointInTime);
+
+    /**
+     * Search entities matching the condition (first page of results)
+     */
+    <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> search(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Get the first page of all entities of a type, each bound only when its entity or metadata is accessed
+     */
+    <T extends CyodaEntity> CompletableFuture<List<LazyEntityWithMetadata<T>>> findAllLazy(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Search entities (first page of results), each bound only when its entity or metadata is accessed
+     */
+    <T extends CyodaEntity> CompletableFuture<List<LazyEntityWithMetadata<T>>> searchLazy(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Search entities with pagination support, reusing the search snapshot across pages of the same query
+     */
+    <T extends CyodaEntity> CompletableFuture<Page<EntityWithMetadata<T>>> search(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Pageable pageable,
+            @NotNull Class<T> entityClass,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Search entities page by page with an opaque cursor, as EntityService.searchWithCursor()
+     */
+    <T extends CyodaEntity> CompletableFuture<SearchCursorPage<T>> searchWithCursor(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Class<T> entityClass,
+            int pageSize,
+            @Nullable String cursor,
+            @Nullable Date pointInTime
+    );
+
+    // ========================================
+    // MUTATIONS
+    // ========================================
+
+    /**
+     * Save a new entity
+     *
+     * @param writeMode RELOAD to return the stored entity, FAST to return the submitted entity with its new UUID
+     */
+    <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> create(
+            @NotNull T entity,
+            @NotNull WriteMode writeMode
+    );
+
+    /**
+     * Update existing entity by technical UUID
+     *
+     * @param transition Optional workflow transition name (null to stay in same state)
+     * @param writeMode RELOAD to return the stored entity, FAST to return the submitted entity
+     */
+    <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> update(
+            @NotNull UUID entityId,
+            @NotNull T entity,
+            @Nullable String transition,
+            @NotNull WriteMode writeMode
+    );
+
+    /**
+     * Update existing entity by business identifier, using the default write mode
+     *
+     * @param transition Optional workflow transition name (null to stay in same state)
+     */
+    <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> updateByBusinessId(
+            @NotNull T entity,
+            @NotNull String businessIdField,
+            @Nullable String transition
+    );
+
+    /**
+     * Update many entities of one model by business identifier, resolving the IDs in bulk, using the default write mode
+     *
+     * @return Future of the updated entities in input order, plus the business IDs that could not be resolved
+     */
+    <T extends CyodaEntity> CompletableFuture<BusinessIdUpdateResult<T>> updateAllByBusinessId(
+            @NotNull Collection<T> entities,
+            @NotNull String businessIdField,
+            @Nullable String transition
+    );
+
+    /**
+     * Delete entity by technical UUID
+     *
+     * @return Future of the UUID of the deleted entity
+     */
+    CompletableFuture<UUID> deleteById(@NotNull UUID entityId);
+
+    /**
+     * Delete entity by business identifier
+     *
+     * @return Future of true if deleted, false if not found
+     */
+    <T extends CyodaEntity> CompletableFuture<Boolean> deleteByBusinessId(
+            @NotNull ModelSpec modelSpec,
+            @NotNull String businessId,
+            @NotNull String businessIdField,
+            @NotNull Class<T> entityClass
+    );
+
+    /**
+     * Save multiple entities in size-bounded chunks
+     *
+     * @param transactionWindow Maximum number of entities per transaction (null for default)
+     * @param transactionTimeoutMs Transaction timeout in milliseconds (null for default)
+     * @return Future of the saved entities, in the order of the entities
+     */
+    <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> save(
+            @NotNull Collection<T> entities,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs,
+            @NotNull WriteMode writeMode
+    );
+
+    /**
+     * Update multiple entities (each must have an id field) in size-bounded chunks
+     */
+    <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> updateAll(
+            @NotNull Collection<T> entities,
+            @Nullable String transition,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs,
+            @NotNull WriteMode writeMode
+    );
+
+    /**
+     * Delete all entities of a type (DANGEROUS - use with caution)
+     *
+     * @return Future of the number of entities deleted
+     */
+    CompletableFuture<Integer> deleteAll(@NotNull ModelSpec modelSpec);
+
+    /**
+     * Delete every entity matching the condition, reading IDs from a search snapshot and deleting them
+     * with bounded concurrency (DANGEROUS - use with caution)
+     *
+     * @return Future of the delete counts and per-entity failures; individual failures do not fail the future
+     */
+    CompletableFuture<BulkDeleteResult> deleteByCondition(@NotNull ModelSpec modelSpec, @NotNull GroupCondition condition);
+
+    /**
+     * Delete many entities by business identifier, resolving the IDs in bulk
+     *
+     * @return Future of the delete counts and per-entity failures; individual failures do not fail the future
+     */
+    CompletableFuture<BulkDeleteResult> deleteAllByBusinessId(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Collection<String> businessIds,
+            @NotNull String businessIdField
+    );
+
+    // ========================================
+    // METADATA
+    // ========================================
+
+    CompletableFuture<List<EntityChangeMeta>> getEntityChangesMetadata(
+            @NotNull UUID entityId,
+            @Nullable Date pointInTime
+    );
+
+    /**
+     * Get change history metadata for many entities, fetched concurrently (bounded by ENTITY_FETCH_MAX_IN_FLIGHT)
+     *
+     * @return Future of the change history per entity, in input order; entities that do not exist are left out
+     */
+    CompletableFuture<Map<UUID, List<EntityChangeMeta>>> getEntityChangesMetadata(
+            @NotNull Collection<UUID> entityIds,
+            @Nullable Date pointInTime
+    );
+}
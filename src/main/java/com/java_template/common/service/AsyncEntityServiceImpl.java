@@ -0,0 +1,1087 @@
+package com.java_template.common.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.dto.BulkDeleteResult;
+import com.java_template.common.dto.BusinessIdUpdateResult;
+import com.java_template.common.dto.EntityBatch;
+import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.dto.LazyEntityWithMetadata;
+import com.java_template.common.dto.SearchCursorPage;
+import com.java_template.common.repository.CrudRepository;
+import com.java_template.common.serializer.jackson.EntityCodecRegistry;
+import com.java_template.common.util.BoundedFutures;
+import com.java_template.common.util.Chunks;
+import com.java_template.common.util.CyodaExceptionUtil;
+import com.java_template.common.workflow.CyodaEntity;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.EntityChangeMeta;
+import org.cyoda.cloud.api.event.common.EntityMetadata;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.common.condition.GroupCondition;
+import org.cyoda.cloud.api.event.common.condition.Operation;
+import org.cyoda.cloud.api.event.common.condition.QueryCondition;
+import org.cyoda.cloud.api.event.common.condition.SimpleCondition;
+import org.cyoda.cloud.api.event.entity.EntityDeleteAllResponse;
+import org.cyoda.cloud.api.event.entity.EntityDeleteResponse;
+import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.java_template.common.config.Config.BUSINESS_ID_INDEX_MAX_SIZE;
+import static com.java_template.common.config.Config.ENTITY_COUNT_CACHE_TTL_MS;
+import static com.java_template.common.config.Config.ENTITY_DELETE_MAX_IN_FLIGHT;
+import static com.java_template.common.config.Config.ENTITY_FETCH_MAX_IN_FLIGHT;
+import static com.java_template.common.config.Config.ENTITY_WRITE_MODE;
+import static com.java_template.common.config.Config.LATEST_ENTITY_CACHE_MAX_SIZE;
+import static com.java_template.common.config.Config.LATEST_ENTITY_CACHE_MAX_STALENESS_MS;
+import static com.java_template.common.config.Config.LATEST_ENTITY_CACHE_MODELS;
+import static com.java_template.common.config.Config.LATEST_ENTITY_CACHE_REFRESH_MS;
+
+/**
+ * ABOUTME: Implementation of AsyncEntityService composing CrudRepository futures without blocking.
+ * Owns the entity caches and the business-ID index, so EntityServiceImpl, which waits on these
+ * futures, shares them.
+ */
+@Service
+public class AsyncEntityServiceImpl implements AsyncEntityService {
+
+    static final WriteMode DEFAULT_WRITE_MODE = WriteMode.valueOf(ENTITY_WRITE_MODE.trim().toUpperCase(Locale.ROOT));
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int FIRST_PAGE = 1;
+    private static final int FIRST_SNAPSHOT_PAGE = 0;
+    private static final int BUSINESS_ID_SEARCH_CHUNK_SIZE = 50;
+    private static final int BUSINESS_ID_SEARCH_PAGE_SIZE = 2 * BUSINESS_ID_SEARCH_CHUNK_SIZE;
+    private static final int BULK_DELETE_PAGE_SIZE = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final CrudRepository repository;
+    private final ObjectMapper objectMapper;
+    private final LatestEntityCache latestEntityCache;
+    private final BusinessIdIndex businessIdIndex;
+    private final EntityCountCache entityCountCache;
+
+    public AsyncEntityServiceImpl(
+            final CrudRepository repository,
+            final ObjectMapper objectMapper
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.latestEntityCache = new LatestEntityCache(
+                repository,
+                LATEST_ENTITY_CACHE_MODELS,
+                LATEST_ENTITY_CACHE_MAX_STALENESS_MS,
+                LATEST_ENTITY_CACHE_REFRESH_MS,
+                LATEST_ENTITY_CACHE_MAX_SIZE
+        );
+        this.businessIdIndex = new BusinessIdIndex(BUSINESS_ID_INDEX_MAX_SIZE);
+        this.entityCountCache = new EntityCountCache(repository, ENTITY_COUNT_CACHE_TTL_MS);
+    }
+
+    // ========================================
+    // RETRIEVAL
+    // ========================================
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> getById(
+            @NotNull final UUID entityId,
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return findPayload(entityId, modelSpec, pointInTime)
+                .thenApply(payload -> EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper));
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<EntityBatch<T>> getByIds(
+            @NotNull final Collection<UUID> entityIds,
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(entityIds));
+        return findPayloads(
+                distinctIds,
+                entityId -> findPayload(entityId, modelSpec, pointInTime)
+        ).thenApply(payloads -> {
+            List<EntityWithMetadata<T>> entities = new ArrayList<>(payloads.size());
+            List<UUID> missingIds = new ArrayList<>();
+            for (UUID entityId : distinctIds) {
+                DataPayload payload = payloads.get(entityId);
+                if (payload == null) {
+                    missingIds.add(entityId);
+                } else {
+                    entities.add(EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper));
+                }
+            }
+            return new EntityBatch<>(entities, missingIds);
+        });
+    }
+
+    /**
+     * Current versions of opted-in models come from the latest-entity cache; everything else from the repository.
+     */
+    private CompletableFuture<DataPayload> findPayload(
+            final UUID entityId,
+            final ModelSpec modelSpec,
+            @Nullable final Date pointInTime
+    ) {
+        return pointInTime == null
+                ? latestEntityCache.get(entityId, modelSpec)
+                : repository.findById(entityId, pointInTime);
+    }
+
+    /**
+     * Reads the entities with at most ENTITY_FETCH_MAX_IN_FLIGHT requests outstanding.
+     * Entities the platform does not know are left out of the resulting map.
+     */
+    private CompletableFuture<Map<UUID, DataPayload>> findPayloads(
+            final List<UUID> entityIds,
+            final Function<UUID, CompletableFuture<DataPayload>> read
+    ) {
+        return BoundedFutures.mapBounded(
+                entityIds,
+                ENTITY_FETCH_MAX_IN_FLIGHT,
+                entityId -> nullIfNotFound(read.apply(entityId))
+        ).thenApply(payloads -> {
+            Map<UUID, DataPayload> payloadsById = new HashMap<>();
+            for (int i = 0; i < entityIds.size(); i++) {
+                if (payloads.get(i) != null) {
+                    payloadsById.put(entityIds.get(i), payloads.get(i));
+                }
+            }
+            return payloadsById;
+        });
+    }
+
+    private static <V> CompletableFuture<V> nullIfNotFound(final CompletableFuture<V> future) {
+        return future.handle((value, ex) -> {
+            if (ex == null) {
+                return value;
+            }
+            if (CyodaExceptionUtil.isNotFound(ex)) {
+                return null;
+            }
+            throw ex instanceof CompletionException completion ? completion : new CompletionException(ex);
+        });
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> findByBusinessId(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final String businessId,
+            @NotNull final String businessIdField,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        if (pointInTime != null) {
+            return searchByBusinessId(modelSpec, businessId, businessIdField, entityClass, pointInTime);
+        }
+        return findIndexedByBusinessId(modelSpec, businessId, businessIdField, entityClass)
+                .thenCompose(indexed -> indexed != null
+                        ? CompletableFuture.completedFuture(indexed)
+                        : searchByBusinessId(modelSpec, businessId, businessIdField, entityClass, null));
+    }
+
+    private <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> searchByBusinessId(
+            final ModelSpec modelSpec,
+            final String businessId,
+            final String businessIdField,
+            final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        SimpleCondition simpleCondition = new SimpleCondition()
+                .withJsonPath("$." + businessIdField)
+                .withOperation(Operation.EQUALS)
+                .withValue(objectMapper.valueToTree(businessId));
+
+        GroupCondition condition = new GroupCondition()
+                .withOperator(GroupCondition.Operator.AND)
+                .withConditions(List.of(simpleCondition));
+
+        return repository.findAllByCriteria(modelSpec, condition, 1, 1, true, pointInTime)
+                .thenApply(payloads -> {
+                    if (payloads.isEmpty()) {
+                        return null;
+                    }
+                    EntityWithMetadata<T> found = EntityWithMetadata.fromDataPayload(payloads.getFirst(), entityClass, objectMapper);
+                    if (pointInTime == null && found.metadata().getId() != null) {
+                        businessIdIndex.put(modelSpec, businessIdField, businessId, found.metadata().getId());
+                    }
+                    return found;
+                });
+    }
+
+    /**
+     * Reads the entity the business-ID index resolves the business ID to, or completes with null when the index
+     * has no entry. An entry whose entity is gone or no longer carries the business ID is dropped.
+     */
+    private <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> findIndexedByBusinessId(
+            final ModelSpec modelSpec,
+            final String businessId,
+            final String businessIdField,
+            final Class<T> entityClass
+    ) {
+        UUID entityId = businessIdIndex.get(modelSpec, businessIdField, businessId);
+        if (entityId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return nullIfNotFound(findPayload(entityId, modelSpec, null)).thenApply(payload -> {
+            if (payload == null || !businessId.equals(BusinessIdIndex.businessIdOf(payload.getData(), businessIdField))) {
+                businessIdIndex.invalidate(modelSpec, businessIdField, businessId);
+                return null;
+            }
+            return EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper);
+        });
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> findAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return repository.findAll(modelSpec, DEFAULT_PAGE_SIZE, FIRST_PAGE, pointInTime)
+                .thenApply(payloads -> toEntities(payloads, entityClass));
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<Page<EntityWithMetadata<T>>> findAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Pageable pageable,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        // Request the total count for pagination metadata alongside the page rather than after it
+        CompletableFuture<Long> totalElements = entityCountCache.get(modelSpec, pointInTime);
+
+        // Convert Spring's 0-based page number to Cyoda's 1-based page number
+        return repository.findAll(
+                modelSpec,
+                pageable.getPageSize(),
+                pageable.getPageNumber() + 1,
+                pointInTime
+        ).thenCombine(totalElements, (payloads, total) -> new PageImpl<>(toEntities(payloads, entityClass), pageable, total));
+    }
+
+    @Override
+    public CompletableFuture<Long> getEntityCount(@NotNull final ModelSpec modelSpec, @Nullable final Date pointInTime) {
+        return repository.getEntityCount(modelSpec, pointInTime);
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> search(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return repository.findAllByCriteria(modelSpec, condition, DEFAULT_PAGE_SIZE, FIRST_PAGE, true, pointInTime)
+                .thenApply(payloads -> toEntities(payloads, entityClass));
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<Page<EntityWithMetadata<T>>> search(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Pageable pageable,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return repository.openSnapshot(modelSpec, condition, pointInTime).thenCompose(snapshot ->
+                // Snapshot pages are 0-based like Spring's, so the page number is passed through unchanged
+                repository.findSnapshotPage(
+                        snapshot.getSnapshotId(),
+                        pageable.getPageSize(),
+                        pageable.getPageNumber()
+                ).thenApply(payloads -> {
+                    List<EntityWithMetadata<T>> entities = toEntities(payloads, entityClass);
+                    long totalElements = snapshot.getEntitiesCount() != null
+                            ? snapshot.getEntitiesCount()
+                            : pageable.getOffset() + entities.size();
+                    return new PageImpl<>(entities, pageable, totalElements);
+                }));
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<SearchCursorPage<T>> searchWithCursor(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Class<T> entityClass,
+            final int pageSize,
+            @Nullable final String cursor,
+            @Nullable final Date pointInTime
+    ) {
+        if (cursor != null) {
+            // Later pages are read straight from the cursor's snapshot; reopening the query could give a new one
+            return CompletableFuture.completedFuture(cursor)
+                    .thenApply(SearchCursor::decode)
+                    .thenCompose(position -> findCursorPage(position, entityClass));
+        }
+        return repository.openSnapshot(modelSpec, condition, pointInTime).thenCompose(snapshot -> findCursorPage(
+                new SearchCursor(snapshot.getSnapshotId(), pageSize, FIRST_SNAPSHOT_PAGE, snapshot.getEntitiesCount()),
+                entityClass
+        ));
+    }
+
+    private <T extends CyodaEntity> CompletableFuture<SearchCursorPage<T>> findCursorPage(
+            final SearchCursor position,
+            final Class<T> entityClass
+    ) {
+        return repository.findSnapshotPage(
+                position.snapshotId(),
+                position.pageSize(),
+                position.pageNumber()
+        ).thenApply(payloads -> {
+            final Long totalElements = position.totalElements();
+            final long offset = (long) position.pageNumber() * position.pageSize();
+            if (payloads.isEmpty() && totalElements != null && offset < totalElements) {
+                // The platform no longer knows the snapshot
+                throw ServiceExceptions.illegalState("Search cursor has expired, restart the search without a cursor");
+            }
+            List<EntityWithMetadata<T>> entities = toEntities(payloads, entityClass);
+            boolean hasNext = totalElements != null
+                    ? offset + position.pageSize() < totalElements
+                    : entities.size() == position.pageSize();
+            return new SearchCursorPage<>(entities, hasNext ? position.next().encode() : null, totalElements);
+        });
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<List<LazyEntityWithMetadata<T>>> findAllLazy(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return repository.findAll(modelSpec, DEFAULT_PAGE_SIZE, FIRST_PAGE, pointInTime)
+                .thenApply(payloads -> toLazyEntities(payloads, entityClass));
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<List<LazyEntityWithMetadata<T>>> searchLazy(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return repository.findAllByCriteria(modelSpec, condition, DEFAULT_PAGE_SIZE, FIRST_PAGE, true, pointInTime)
+                .thenApply(payloads -> toLazyEntities(payloads, entityClass));
+    }
+
+    private <T extends CyodaEntity> List<LazyEntityWithMetadata<T>> toLazyEntities(
+            @NotNull final List<DataPayload> payloads,
+            @NotNull final Class<T> entityClass
+    ) {
+        return payloads.stream()
+                .filter(Objects::nonNull)
+                .map(payload -> LazyEntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper))
+                .toList();
+    }
+
+    private <T extends CyodaEntity> List<EntityWithMetadata<T>> toEntities(
+            @NotNull final List<DataPayload> payloads,
+            @NotNull final Class<T> entityClass
+    ) {
+        return payloads.stream()
+                .filter(Objects::nonNull)
+                .map(payload -> EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper))
+                .toList();
+    }
+
+    // ========================================
+    // MUTATIONS
+    // ========================================
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> create(
+            @NotNull final T entity,
+            @NotNull final WriteMode writeMode
+    ) {
+        ModelSpec modelSpec = entity.getModelKey().modelKey();
+        JsonNode data = objectMapper.valueToTree(entity);
+
+        return repository.save(modelSpec, data).thenCompose(response -> {
+            // Extract entity ID and transaction ID from response
+            UUID entityId = response.getTransactionInfo().getEntityIds().getFirst();
+            businessIdIndex.putWritten(modelSpec, data, entityId);
+            entityCountCache.invalidateModel(modelSpec);
+            if (writeMode == WriteMode.FAST) {
+                return CompletableFuture.completedFuture(EntityWithMetadata.fromWrite(entity, entityId, null));
+            }
+            UUID transactionId = response.getTransactionInfo().getTransactionId();
+
+            // Get entity changes metadata to find the exact timeOfChange for this transaction
+            return getEntityChangesMetadata(entityId, null).thenCompose(changes -> {
+                // Find the change metadata for this specific transaction
+                EntityChangeMeta changeMeta = changes.stream()
+                        .filter(meta -> transactionId.equals(meta.getTransactionId()))
+                        .findFirst()
+                        .orElseThrow(() -> ServiceExceptions.failure("Transaction metadata not found for transaction: " + transactionId));
+
+                // Reload entity at the exact point in time when it was saved
+                @SuppressWarnings("unchecked")
+                Class<T> entityClass = (Class<T>) entity.getClass();
+                return getById(entityId, modelSpec, entityClass, changeMeta.getTimeOfChange());
+            });
+        });
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> update(
+            @NotNull final UUID entityId,
+            @NotNull final T entity,
+            @Nullable final String transition,
+            @NotNull final WriteMode writeMode
+    ) {
+        ModelSpec modelSpec = entity.getModelKey().modelKey();
+        JsonNode data = objectMapper.valueToTree(entity);
+
+        // Invalidated even if the call fails, since the update may still have been applied
+        return repository.update(entityId, data, transition)
+                .whenComplete((result, ex) -> latestEntityCache.invalidate(entityId))
+                .thenCompose(response -> {
+                    businessIdIndex.putWritten(modelSpec, data, entityId);
+                    if (writeMode == WriteMode.FAST) {
+                        return CompletableFuture.completedFuture(EntityWithMetadata.fromWrite(entity, entityId, transition));
+                    }
+
+                    // Extract transaction ID from response
+                    UUID transactionId = response.getTransactionInfo().getTransactionId();
+
+                    // Get entity changes metadata to find the exact timeOfChange for this transaction
+                    return getEntityChangesMetadata(entityId, null).thenCompose(changes -> {
+                        // Find the change metadata for this specific transaction
+                        EntityChangeMeta changeMeta = changes.stream()
+                                .filter(meta -> transactionId.equals(meta.getTransactionId()))
+                                .findFirst()
+                                .orElseGet(() -> {
+                                    logger.warn("Transaction metadata not found for transaction: {}. " +
+                                            "The entity is unchanged. Falling back to last change metadata.", transactionId);
+
+                                    // Sanity check: verify that the last element has the maximum transactionId
+                                    return getLatestChange(changes);
+                                });
+
+                        // Reload entity at the exact point in time when it was updated
+                        @SuppressWarnings("unchecked")
+                        Class<T> entityClass = (Class<T>) entity.getClass();
+                        return getById(entityId, modelSpec, entityClass, changeMeta.getTimeOfChange());
+                    });
+                });
+    }
+
+    @NotNull
+    private EntityChangeMeta getLatestChange(List<EntityChangeMeta> changes) {
+        return changes.stream()
+                .max((c1, c2) -> {
+                    UUID id1 = c1.getTransactionId();
+                    UUID id2 = c2.getTransactionId();
+                    if (id1 == null && id2 == null) return 0;
+                    if (id1 == null) return -1;
+                    if (id2 == null) return 1;
+                    return id1.compareTo(id2);
+                })
+                .orElseGet(changes::getFirst);
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<EntityWithMetadata<T>> updateByBusinessId(
+            @NotNull final T entity,
+            @NotNull final String businessIdField,
+            @Nullable final String transition
+    ) {
+        // First find the entity by business ID to get its technical UUID
+        @SuppressWarnings("unchecked")
+        Class<T> entityClass = (Class<T>) entity.getClass();
+
+        // Get business ID value from entity using reflection-like approach
+        String businessIdValue = getBusinessIdValue(entity, businessIdField);
+
+        // Extract model info from entity
+        ModelSpec modelSpec = entity.getModelKey().modelKey();
+
+        return findByBusinessId(modelSpec, businessIdValue, businessIdField, entityClass, null)
+                .thenCompose(existingEntity -> {
+                    if (existingEntity == null) {
+                        throw ServiceExceptions.failure("Entity not found with business ID: " + businessIdValue);
+                    }
+
+                    // Now update using technical ID
+                    return update(existingEntity.metadata().getId(), entity, transition, DEFAULT_WRITE_MODE);
+                });
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<BusinessIdUpdateResult<T>> updateAllByBusinessId(
+            @NotNull final Collection<T> entities,
+            @NotNull final String businessIdField,
+            @Nullable final String transition
+    ) {
+        if (entities.isEmpty()) {
+            return CompletableFuture.completedFuture(new BusinessIdUpdateResult<>(List.of(), List.of()));
+        }
+
+        T firstEntity = entities.iterator().next();
+        ModelSpec modelSpec = firstEntity.getModelKey().modelKey();
+        @SuppressWarnings("unchecked")
+        Class<T> entityClass = (Class<T>) firstEntity.getClass();
+
+        Map<String, T> entitiesByBusinessId = new LinkedHashMap<>();
+        for (T entity : entities) {
+            String businessId = getBusinessIdValue(entity, businessIdField);
+            if (businessId == null) {
+                return CompletableFuture.failedFuture(ServiceExceptions.illegalArgument(
+                        "Entity has no value for business ID field: " + businessIdField));
+            }
+            if (entitiesByBusinessId.putIfAbsent(businessId, entity) != null) {
+                return CompletableFuture.failedFuture(ServiceExceptions.illegalArgument(
+                        "Business ID given more than once: " + businessId));
+            }
+        }
+
+        return resolveBusinessIds(modelSpec, businessIdField, List.copyOf(entitiesByBusinessId.keySet()))
+                .thenCompose(idsByBusinessId -> {
+                    Map<UUID, T> entitiesById = new LinkedHashMap<>();
+                    List<String> unresolved = new ArrayList<>();
+                    entitiesByBusinessId.forEach((businessId, entity) -> {
+                        UUID entityId = idsByBusinessId.get(businessId);
+                        if (entityId == null) {
+                            unresolved.add(businessId);
+                        } else {
+                            entitiesById.put(entityId, entity);
+                        }
+                    });
+                    if (entitiesById.isEmpty()) {
+                        return CompletableFuture.completedFuture(
+                                new BusinessIdUpdateResult<T>(List.of(), List.copyOf(unresolved)));
+                    }
+
+                    return updateResolved(modelSpec, entitiesById, entityClass, transition)
+                            .thenApply(updated -> new BusinessIdUpdateResult<>(updated, List.copyOf(unresolved)));
+                });
+    }
+
+    /**
+     * Looks up the technical IDs of the business IDs with one OR search per chunk, indexing what it finds.
+     * Business IDs that match no entity are absent from the result; when several entities match, the first wins.
+     */
+    private CompletableFuture<Map<String, UUID>> resolveBusinessIds(
+            final ModelSpec modelSpec,
+            final String businessIdField,
+            final List<String> businessIds
+    ) {
+        List<List<String>> chunks = Chunks.bySizeAndCount(
+                businessIds,
+                BUSINESS_ID_SEARCH_CHUNK_SIZE,
+                Long.MAX_VALUE,
+                businessId -> 1
+        );
+
+        return BoundedFutures.mapBounded(chunks, ENTITY_FETCH_MAX_IN_FLIGHT, chunk -> {
+            List<QueryCondition> conditions = new ArrayList<>(chunk.size());
+            for (String businessId : chunk) {
+                conditions.add(new SimpleCondition()
+                        .withJsonPath("$." + businessIdField)
+                        .withOperation(Operation.EQUALS)
+                        .withValue(objectMapper.valueToTree(businessId)));
+            }
+            GroupCondition condition = new GroupCondition()
+                    .withOperator(GroupCondition.Operator.OR)
+                    .withConditions(conditions);
+
+            // Leave room in the page for business IDs that more than one entity carries
+            return repository.findAllByCriteria(modelSpec, condition, BUSINESS_ID_SEARCH_PAGE_SIZE, FIRST_PAGE, true, null)
+                    .thenCompose(page -> page.size() < BUSINESS_ID_SEARCH_PAGE_SIZE
+                            ? CompletableFuture.completedFuture(page)
+                            // A full page may have cut off matches; read them all from a snapshot instead
+                            : findAllMatching(modelSpec, condition, BUSINESS_ID_SEARCH_PAGE_SIZE));
+        }).thenApply(pages -> {
+            Set<String> requested = Set.copyOf(businessIds);
+            Map<String, UUID> idsByBusinessId = new HashMap<>();
+            pages.stream().flatMap(List::stream).filter(Objects::nonNull).forEach(payload -> {
+                String businessId = BusinessIdIndex.businessIdOf(payload.getData(), businessIdField);
+                UUID entityId = entityIdOf(payload);
+                if (businessId != null && entityId != null && requested.contains(businessId)
+                        && idsByBusinessId.putIfAbsent(businessId, entityId) == null) {
+                    businessIdIndex.put(modelSpec, businessIdField, businessId, entityId);
+                }
+            });
+            return idsByBusinessId;
+        });
+    }
+
+    /**
+     * Reads every entity matching the condition now, page by page from a snapshot taken for this call alone.
+     */
+    private CompletableFuture<List<DataPayload>> findAllMatching(
+            final ModelSpec modelSpec,
+            final GroupCondition condition,
+            final int pageSize
+    ) {
+        return repository.openUnsharedSnapshot(modelSpec, condition, null).thenCompose(snapshot ->
+                findSnapshotPagesFrom(snapshot, pageSize, FIRST_SNAPSHOT_PAGE, new ArrayList<>())
+                        .whenComplete((result, ex) -> repository.cancelSnapshot(snapshot.getSnapshotId())));
+    }
+
+    private CompletableFuture<List<DataPayload>> findSnapshotPagesFrom(
+            final SearchSnapshotStatus snapshot,
+            final int pageSize,
+            final int pageNumber,
+            final List<DataPayload> collected
+    ) {
+        return repository.findSnapshotPage(snapshot.getSnapshotId(), pageSize, pageNumber).thenCompose(payloads -> {
+            collected.addAll(payloads);
+            Long totalElements = snapshot.getEntitiesCount();
+            boolean hasNext = totalElements != null
+                    ? (long) (pageNumber + 1) * pageSize < totalElements
+                    : payloads.size() == pageSize;
+            return hasNext
+                    ? findSnapshotPagesFrom(snapshot, pageSize, pageNumber + 1, collected)
+                    : CompletableFuture.completedFuture(collected);
+        });
+    }
+
+    /**
+     * Updates the entities by technical ID with collection requests and returns them in the given order,
+     * reloaded or as written depending on the default write mode.
+     */
+    private <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> updateResolved(
+            final ModelSpec modelSpec,
+            final Map<UUID, T> entitiesById,
+            final Class<T> entityClass,
+            @Nullable final String transition
+    ) {
+        return repository.updateCollection(entitiesById, transition, null, null)
+                .whenComplete((result, ex) -> {
+                    if (result != null) {
+                        latestEntityCache.invalidateAll(writtenEntityIds(result));
+                    } else {
+                        // Some chunks may have been applied before the failure
+                        latestEntityCache.invalidateModel(modelSpec);
+                    }
+                }).thenCompose(responses -> {
+                    Set<UUID> updatedIds = Set.copyOf(writtenEntityIds(responses));
+                    if (DEFAULT_WRITE_MODE == WriteMode.FAST) {
+                        List<EntityWithMetadata<T>> written = new ArrayList<>();
+                        entitiesById.forEach((entityId, entity) -> {
+                            if (updatedIds.contains(entityId)) {
+                                written.add(EntityWithMetadata.fromWrite(entity, entityId, transition));
+                            }
+                        });
+                        return CompletableFuture.completedFuture(written);
+                    }
+
+                    return reloadWritten(responses, entityClass, true).thenApply(reloaded -> {
+                        Map<UUID, EntityWithMetadata<T>> reloadedById = new HashMap<>();
+                        reloaded.forEach(entity -> reloadedById.put(entity.getId(), entity));
+                        return entitiesById.keySet().stream()
+                                .map(reloadedById::get)
+                                .filter(Objects::nonNull)
+                                .toList();
+                    });
+                });
+    }
+
+    @Nullable
+    private UUID entityIdOf(final DataPayload payload) {
+        EntityMetadata meta = EntityCodecRegistry.forMapper(objectMapper)
+                .convertTree(payload.getMeta(), EntityMetadata.class);
+        return meta != null ? meta.getId() : null;
+    }
+
+    private <T extends CyodaEntity> String getBusinessIdValue(T entity, String businessIdField) {
+        // Use Jackson to convert entity to JsonNode and extract the field
+        var entityNode = objectMapper.valueToTree(entity);
+        var fieldValue = entityNode.get(businessIdField);
+        return fieldValue != null ? fieldValue.asText() : null;
+    }
+
+    @Override
+    public CompletableFuture<UUID> deleteById(@NotNull final UUID entityId) {
+        return repository.deleteById(entityId)
+                .whenComplete((result, ex) -> {
+                    latestEntityCache.invalidate(entityId);
+                    // The entity's model is not known here, so every count is dropped
+                    entityCountCache.invalidateAll();
+                })
+                .thenApply(EntityDeleteResponse::getEntityId);
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<Boolean> deleteByBusinessId(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final String businessId,
+            @NotNull final String businessIdField,
+            @NotNull final Class<T> entityClass
+    ) {
+        // First find the entity to get its technical ID
+        return findByBusinessId(modelSpec, businessId, businessIdField, entityClass, null)
+                .thenCompose(entityResponse -> {
+                    if (entityResponse == null) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    return deleteById(entityResponse.metadata().getId())
+                            .whenComplete((result, ex) -> {
+                                businessIdIndex.invalidate(modelSpec, businessIdField, businessId);
+                                entityCountCache.invalidateModel(modelSpec);
+                            })
+                            .thenApply(deletedId -> true);
+                });
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> save(
+            @NotNull final Collection<T> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @NotNull final WriteMode writeMode
+    ) {
+        if (entities.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        T firstEntity = entities.iterator().next();
+        ModelSpec modelSpec = firstEntity.getModelKey().modelKey();
+        @SuppressWarnings("unchecked")
+        Class<T> entityClass = (Class<T>) firstEntity.getClass();
+
+        // Large collections are split into several requests, each committed in its own transactions
+        return repository.saveCollection(modelSpec, entities, transactionWindow, transactionTimeoutMs)
+                .thenCompose(responses -> {
+                    indexSaved(modelSpec, entities, responses);
+                    entityCountCache.invalidateModel(modelSpec);
+
+                    if (writeMode == WriteMode.FAST) {
+                        return CompletableFuture.completedFuture(fromSaveResponses(responses, entities));
+                    }
+
+                    // Reload every entity at the exact point in time it was saved
+                    return reloadWritten(responses, entityClass, false);
+                });
+    }
+
+    @Override
+    public <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> updateAll(
+            @NotNull final Collection<T> entities,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @NotNull final WriteMode writeMode
+    ) {
+        if (entities.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        T firstEntity = entities.iterator().next();
+        ModelSpec modelSpec = firstEntity.getModelKey().modelKey();
+        @SuppressWarnings("unchecked")
+        Class<T> entityClass = (Class<T>) firstEntity.getClass();
+
+        return repository.updateAll(
+                objectMapper.convertValue(entities, new TypeReference<>() {}),
+                transition,
+                transactionWindow,
+                transactionTimeoutMs
+        ).whenComplete((result, ex) -> {
+            if (result != null) {
+                latestEntityCache.invalidateAll(writtenEntityIds(result));
+            } else {
+                // Some chunks may have been applied before the failure
+                latestEntityCache.invalidateModel(modelSpec);
+            }
+        }).thenCompose(responses -> {
+            if (writeMode == WriteMode.FAST) {
+                return CompletableFuture.completedFuture(fromUpdateResponses(responses, entities, transition));
+            }
+
+            // Reload every entity at the exact point in time it was updated
+            return reloadWritten(responses, entityClass, true);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> deleteAll(@NotNull final ModelSpec modelSpec) {
+        return repository.deleteAll(modelSpec)
+                .whenComplete((result, ex) -> {
+                    latestEntityCache.invalidateModel(modelSpec);
+                    businessIdIndex.invalidateModel(modelSpec);
+                    entityCountCache.invalidateModel(modelSpec);
+                })
+                .thenApply(results -> results.stream()
+                        .map(EntityDeleteAllResponse::getNumDeleted)
+                        .reduce(0, Integer::sum));
+    }
+
+    @Override
+    public CompletableFuture<BulkDeleteResult> deleteByCondition(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition
+    ) {
+        DeleteTally tally = new DeleteTally();
+        // A snapshot of its own, so matches are those of now rather than of a search made up to the TTL earlier
+        return repository.openUnsharedSnapshot(modelSpec, condition, null)
+                .thenCompose(snapshot -> deleteSnapshotPages(
+                        snapshot,
+                        FIRST_SNAPSHOT_PAGE,
+                        repository.findSnapshotPage(snapshot.getSnapshotId(), BULK_DELETE_PAGE_SIZE, FIRST_SNAPSHOT_PAGE),
+                        tally
+                ).whenComplete((result, ex) -> repository.cancelSnapshot(snapshot.getSnapshotId())))
+                .whenComplete((result, ex) -> {
+                    // The business IDs of the deleted entities are unknown, so forget those of the whole model
+                    businessIdIndex.invalidateModel(modelSpec);
+                    entityCountCache.invalidateModel(modelSpec);
+                });
+    }
+
+    /**
+     * Deletes the entities of one snapshot page while the next page is fetched, then moves on to that page.
+     * The snapshot was taken before the first delete, so deleting does not shift later pages.
+     */
+    private CompletableFuture<BulkDeleteResult> deleteSnapshotPages(
+            final SearchSnapshotStatus snapshot,
+            final int pageNumber,
+            final CompletableFuture<List<DataPayload>> page,
+            final DeleteTally tally
+    ) {
+        return page.thenCompose(payloads -> {
+            Long totalElements = snapshot.getEntitiesCount();
+            boolean hasNext = totalElements != null
+                    ? (long) (pageNumber + 1) * BULK_DELETE_PAGE_SIZE < totalElements
+                    : payloads.size() == BULK_DELETE_PAGE_SIZE;
+            CompletableFuture<List<DataPayload>> nextPage = hasNext
+                    ? repository.findSnapshotPage(snapshot.getSnapshotId(), BULK_DELETE_PAGE_SIZE, pageNumber + 1)
+                    : null;
+
+            List<UUID> entityIds = payloads.stream()
+                    .filter(Objects::nonNull)
+                    .map(this::entityIdOf)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return deleteEach(entityIds, tally).thenCompose(ignored -> nextPage != null
+                    ? deleteSnapshotPages(snapshot, pageNumber + 1, nextPage, tally)
+                    : CompletableFuture.completedFuture(tally.result()));
+        });
+    }
+
+    @Override
+    public CompletableFuture<BulkDeleteResult> deleteAllByBusinessId(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<String> businessIds,
+            @NotNull final String businessIdField
+    ) {
+        List<String> distinctIds = List.copyOf(new LinkedHashSet<>(businessIds));
+        DeleteTally tally = new DeleteTally();
+        return resolveBusinessIds(modelSpec, businessIdField, distinctIds)
+                .thenCompose(idsByBusinessId -> {
+                    tally.notFound.addAndGet(distinctIds.size() - idsByBusinessId.size());
+                    return deleteEach(List.copyOf(idsByBusinessId.values()), tally);
+                })
+                .thenApply(ignored -> tally.result())
+                .whenComplete((result, ex) -> {
+                    distinctIds.forEach(businessId -> businessIdIndex.invalidate(modelSpec, businessIdField, businessId));
+                    entityCountCache.invalidateModel(modelSpec);
+                });
+    }
+
+    /**
+     * Deletes the entities with at most ENTITY_DELETE_MAX_IN_FLIGHT requests outstanding. Each outcome is
+     * counted in the tally, so one failed delete does not stop the others.
+     */
+    private CompletableFuture<List<Void>> deleteEach(final List<UUID> entityIds, final DeleteTally tally) {
+        return BoundedFutures.mapBounded(
+                entityIds,
+                ENTITY_DELETE_MAX_IN_FLIGHT,
+                entityId -> deleteById(entityId).handle((deletedId, ex) -> {
+                    if (ex == null) {
+                        tally.deleted.incrementAndGet();
+                    } else if (CyodaExceptionUtil.isNotFound(ex)) {
+                        tally.notFound.incrementAndGet();
+                    } else {
+                        tally.failures.put(entityId, ex instanceof CompletionException && ex.getCause() != null
+                                ? ex.getCause()
+                                : ex);
+                    }
+                    return null;
+                })
+        );
+    }
+
+    private static final class DeleteTally {
+        private final AtomicLong deleted = new AtomicLong();
+        private final AtomicLong notFound = new AtomicLong();
+        private final Map<UUID, Throwable> failures = new ConcurrentHashMap<>();
+
+        private BulkDeleteResult result() {
+            return new BulkDeleteResult(deleted.get(), notFound.get(), Map.copyOf(failures));
+        }
+    }
+
+    /**
+     * Reloads every entity of the responses as of its own transaction. Change metadata and entities are
+     * read with bounded concurrency rather than one entity after the other.
+     * @param fallBackToLatestChange use the latest change when the transaction left no change behind,
+     *                               as happens when an update does not modify the entity
+     */
+    private <T extends CyodaEntity> CompletableFuture<List<EntityWithMetadata<T>>> reloadWritten(
+            final List<EntityTransactionResponse> responses,
+            final Class<T> entityClass,
+            final boolean fallBackToLatestChange
+    ) {
+        Map<UUID, UUID> transactionByEntity = new LinkedHashMap<>();
+        responses.stream()
+                .map(EntityTransactionResponse::getTransactionInfo)
+                .filter(Objects::nonNull)
+                .forEach(info -> info.getEntityIds().forEach(entityId -> transactionByEntity.put(entityId, info.getTransactionId())));
+        List<UUID> entityIds = List.copyOf(transactionByEntity.keySet());
+
+        // Get entity changes metadata to find the exact timeOfChange for each transaction
+        return getEntityChangesMetadata(entityIds, null).thenCompose(changesByEntity -> {
+            Map<UUID, Date> timeOfChangeByEntity = new HashMap<>();
+            transactionByEntity.forEach((entityId, transactionId) -> {
+                List<EntityChangeMeta> changes = changesByEntity.getOrDefault(entityId, List.of());
+                EntityChangeMeta changeMeta = changes.stream()
+                        .filter(meta -> transactionId.equals(meta.getTransactionId()))
+                        .findFirst()
+                        .orElseGet(() -> {
+                            if (!fallBackToLatestChange || changes.isEmpty()) {
+                                throw ServiceExceptions.failure("Transaction metadata not found for transaction: " + transactionId);
+                            }
+                            logger.warn("Transaction metadata not found for transaction: {}. " +
+                                    "The entity is unchanged. Falling back to last change metadata.", transactionId);
+                            return getLatestChange(changes);
+                        });
+                timeOfChangeByEntity.put(entityId, changeMeta.getTimeOfChange());
+            });
+
+            return findPayloads(
+                    entityIds,
+                    entityId -> repository.findById(entityId, timeOfChangeByEntity.get(entityId))
+            );
+        }).thenApply(payloads -> entityIds.stream()
+                .map(entityId -> {
+                    DataPayload payload = payloads.get(entityId);
+                    if (payload == null) {
+                        throw ServiceExceptions.failure("Entity not found after write: " + entityId);
+                    }
+                    return EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper);
+                })
+                .toList());
+    }
+
+    /**
+     * Pairs the saved entities with the entity IDs of the responses, which follow the order of the entities.
+     */
+    private <T extends CyodaEntity> List<EntityWithMetadata<T>> fromSaveResponses(
+            final List<EntityTransactionResponse> responses,
+            final Collection<T> entities
+    ) {
+        List<UUID> entityIds = writtenEntityIds(responses);
+        if (entityIds.size() != entities.size()) {
+            throw ServiceExceptions.illegalState("Expected " + entities.size() + " entity IDs for saved entities but received " + entityIds.size());
+        }
+
+        Iterator<UUID> ids = entityIds.iterator();
+        return entities.stream()
+                .map(entity -> EntityWithMetadata.fromWrite(entity, ids.next(), null))
+                .toList();
+    }
+
+    /**
+     * Indexes saved entities under their business IDs when business IDs of the model have been looked up.
+     * Entity IDs of the responses follow the order of the entities.
+     */
+    private <T extends CyodaEntity> void indexSaved(
+            final ModelSpec modelSpec,
+            final Collection<T> entities,
+            final List<EntityTransactionResponse> responses
+    ) {
+        if (!businessIdIndex.isIndexed(modelSpec)) {
+            return;
+        }
+        List<UUID> entityIds = writtenEntityIds(responses);
+        if (entityIds.size() != entities.size()) {
+            return;
+        }
+        Iterator<UUID> ids = entityIds.iterator();
+        entities.forEach(entity -> businessIdIndex.putWritten(modelSpec, objectMapper.valueToTree(entity), ids.next()));
+    }
+
+    private static List<UUID> writtenEntityIds(final List<EntityTransactionResponse> responses) {
+        return responses.stream()
+                .map(EntityTransactionResponse::getTransactionInfo)
+                .filter(Objects::nonNull)
+                .flatMap(info -> info.getEntityIds().stream())
+                .toList();
+    }
+
+    /**
+     * Returns the updated entities that appear in the responses, in the order they were given. Update responses
+     * are not ordered like the entities, so entities are matched by their id field.
+     */
+    private <T extends CyodaEntity> List<EntityWithMetadata<T>> fromUpdateResponses(
+            final List<EntityTransactionResponse> responses,
+            final Collection<T> entities,
+            @Nullable final String transition
+    ) {
+        Set<UUID> updatedIds = Set.copyOf(writtenEntityIds(responses));
+
+        return entities.stream()
+                .map(entity -> {
+                    JsonNode entityNode = objectMapper.valueToTree(entity);
+                    return EntityWithMetadata.fromWrite(entity, UUID.fromString(entityNode.get("id").asText()), transition);
+                })
+                .filter(written -> updatedIds.contains(written.getId()))
+                .toList();
+    }
+
+    // ========================================
+    // METADATA
+    // ========================================
+
+    @Override
+    public CompletableFuture<List<EntityChangeMeta>> getEntityChangesMetadata(
+            @NotNull final UUID entityId,
+            @Nullable final Date pointInTime
+    ) {
+        return repository.getEntityChangesMetadata(entityId, pointInTime);
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, List<EntityChangeMeta>>> getEntityChangesMetadata(
+            @NotNull final Collection<UUID> entityIds,
+            @Nullable final Date pointInTime
+    ) {
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(entityIds));
+        return BoundedFutures.mapBounded(
+                distinctIds,
+                ENTITY_FETCH_MAX_IN_FLIGHT,
+                entityId -> nullIfNotFound(repository.getEntityChangesMetadata(entityId, pointInTime))
+        ).thenApply(changes -> {
+            Map<UUID, List<EntityChangeMeta>> changesByEntity = new LinkedHashMap<>();
+            for (int i = 0; i < distinctIds.size(); i++) {
+                if (changes.get(i) != null) {
+                    changesByEntity.put(distinctIds.get(i), changes.get(i));
+                }
+            }
+            return changesByEntity;
+        });
+    }
+}
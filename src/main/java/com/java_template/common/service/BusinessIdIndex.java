@@ -0,0 +1,100 @@
+package com.java_template.common.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.Nullable;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ABOUTME: Bounded local index from business IDs to the technical IDs of current entities, per model and
+ * business ID field. Entries are hints: writes made elsewhere are not seen, so a resolved entity must be
+ * checked to still carry the business ID before it is used.
+ */
+class BusinessIdIndex {
+
+    // ModelSpec is mutable, so keys hold a copy of its name and version
+    private record Model(String name, Integer version) {
+        static Model of(final ModelSpec modelSpec) {
+            return new Model(modelSpec.getName(), modelSpec.getVersion());
+        }
+    }
+
+    private record Key(Model model, String field, String businessId) {
+    }
+
+    @Nullable
+    private final Cache<Key, UUID> entityIds;
+    // Fields looked up per model, so that written entities can be indexed under each of them
+    private final Map<Model, Set<String>> indexedFields = new ConcurrentHashMap<>();
+
+    /**
+     * @param maximumSize maximum number of business IDs kept; 0 disables the index
+     */
+    BusinessIdIndex(final long maximumSize) {
+        this.entityIds = maximumSize > 0
+                ? Caffeine.newBuilder().maximumSize(maximumSize).build()
+                : null;
+    }
+
+    @Nullable
+    UUID get(final ModelSpec modelSpec, final String field, final String businessId) {
+        return entityIds == null ? null : entityIds.getIfPresent(new Key(Model.of(modelSpec), field, businessId));
+    }
+
+    void put(final ModelSpec modelSpec, final String field, final String businessId, final UUID entityId) {
+        if (entityIds == null) {
+            return;
+        }
+        final Model model = Model.of(modelSpec);
+        indexedFields.computeIfAbsent(model, m -> ConcurrentHashMap.newKeySet()).add(field);
+        entityIds.put(new Key(model, field, businessId), entityId);
+    }
+
+    /**
+     * Indexes a written entity under every field of its model that has been looked up before.
+     */
+    void putWritten(final ModelSpec modelSpec, final JsonNode data, final UUID entityId) {
+        if (entityIds == null) {
+            return;
+        }
+        final Model model = Model.of(modelSpec);
+        for (final String field : indexedFields.getOrDefault(model, Set.of())) {
+            final String businessId = businessIdOf(data, field);
+            if (businessId != null) {
+                entityIds.put(new Key(model, field, businessId), entityId);
+            }
+        }
+    }
+
+    boolean isIndexed(final ModelSpec modelSpec) {
+        return entityIds != null && indexedFields.containsKey(Model.of(modelSpec));
+    }
+
+    void invalidate(final ModelSpec modelSpec, final String field, final String businessId) {
+        if (entityIds != null) {
+            entityIds.invalidate(new Key(Model.of(modelSpec), field, businessId));
+        }
+    }
+
+    void invalidateModel(final ModelSpec modelSpec) {
+        if (entityIds != null) {
+            final Model model = Model.of(modelSpec);
+            entityIds.asMap().keySet().removeIf(key -> model.equals(key.model()));
+        }
+    }
+
+    /**
+     * Returns the business ID held in the field of the entity data, or null when the field is absent.
+     */
+    @Nullable
+    static String businessIdOf(@Nullable final JsonNode data, final String field) {
+        final JsonNode value = data != null ? data.get(field) : null;
+        return value != null && value.isValueNode() && !value.isNull() ? value.asText() : null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.java_template.common.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.java_template.common.repository.CrudRepository;
+import jakarta.annotation.Nullable;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ABOUTME: Short-lived cache of entity counts per model and point in time, so that paging through a
+ * model reuses the total instead of counting the entities again for every page. A cached count can lag
+ * behind writes by up to the configured time to live.
+ */
+class EntityCountCache {
+
+    private static final long MAXIMUM_SIZE = 1_000;
+
+    // ModelSpec and Date are mutable, so keys hold copies of their values
+    private record CountKey(String model, Integer version, @Nullable Long pointInTimeMillis) {
+    }
+
+    private final CrudRepository repository;
+    @Nullable
+    private final AsyncCache<CountKey, Long> counts;
+
+    /**
+     * @param timeToLiveMillis how long a count is reused; 0 disables the cache
+     */
+    EntityCountCache(final CrudRepository repository, final long timeToLiveMillis) {
+        this.repository = repository;
+        this.counts = timeToLiveMillis > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(MAXIMUM_SIZE)
+                        .expireAfterWrite(Duration.ofMillis(timeToLiveMillis))
+                        .buildAsync()
+                : null;
+    }
+
+    CompletableFuture<Long> get(final ModelSpec modelSpec, @Nullable final Date pointInTime) {
+        if (counts == null) {
+            return repository.getEntityCount(modelSpec, pointInTime);
+        }
+        final var key = new CountKey(
+                modelSpec.getName(),
+                modelSpec.getVersion(),
+                pointInTime != null ? pointInTime.getTime() : null
+        );
+        // Concurrent misses share one count request; failed requests are not cached
+        return counts.get(key, (k, executor) -> repository.getEntityCount(modelSpec, pointInTime)).copy();
+    }
+
+    void invalidateModel(final ModelSpec modelSpec) {
+        if (counts != null) {
+            counts.synchronous().asMap().keySet().removeIf(key ->
+                    key.model().equals(modelSpec.getName()) && key.version().equals(modelSpec.getVersion()));
+        }
+    }
+
+    /**
+     * Drops the counts of every model, for writes that do not say which model they touched.
+     */
+    void invalidateAll() {
+        if (counts != null) {
+            counts.synchronous().invalidateAll();
+        }
+    }
+}
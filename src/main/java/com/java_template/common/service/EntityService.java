@@ -1,6 +1,11 @@
 package com.java_template.common.service;
 
+import com.java_template.common.dto.BulkDeleteResult;
+import com.java_template.common.dto.BusinessIdUpdateResult;
+import com.java_template.common.dto.EntityBatch;
 import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.dto.LazyEntityWithMetadata;
+import com.java_template.common.dto.SearchCursorPage;
 import com.java_template.common.workflow.CyodaEntity;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
@@ -12,7 +17,10 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 /**
  * ABOUTME: Core entity service interface providing CRUD operations and search capabilities
@@ -22,20 +30,35 @@ import java.util.UUID;
 
  * FOR RETRIEVAL:
  * - Use getById() when you have the technical UUID (fastest, most efficient)
+ * - Use getByIds() for many technical UUIDs instead of calling getById() in a loop
  * - Use findByBusinessId() when you have a business identifier (e.g., "CART-123", "PAY-456")
  * - Use findAll() to get all entities of a type (use sparingly, can be slow)
  * - Use search() for complex queries with multiple conditions
+ * - Use findAllLazy() / searchLazy() when results are mostly filtered or counted by metadata or one field
+ * - Use search() with a Pageable, or searchWithCursor(), to page through search results from one snapshot
+ * - Use streamAll() / streamSearch() for large result sets that should be consumed as they arrive
+ * - Use searchAll() to scan every match of a snapshot search without paging by hand
 
  * FOR MUTATIONS:
  * - Use create() for new entities
  * - Use update() for existing entities with technical UUID
  * - Use updateByBusinessId() for existing entities with business identifier
+ * - Use updateAllByBusinessId() for many existing entities with business identifiers
+ * - Use deleteByCondition() / deleteAllByBusinessId() to delete many entities instead of deleting them one by one
+ * - Pass WriteMode.FAST when the caller does not need the stored entity back (see PERFORMANCE NOTES)
 
  * PERFORMANCE NOTES:
  * - Technical UUID operations are fastest (direct lookup)
- * - Business ID operations require field search (slower)
+ * - getById() without a point in time can be served from a short-lived cache for models listed in
+ *   LATEST_ENTITY_CACHE_MODELS; updates and deletes made through this service invalidate it
+ * - Business ID operations require field search (slower); business IDs already seen by this service are
+ *   resolved through a local index and a read by UUID instead (see BUSINESS_ID_INDEX_MAX_SIZE)
  * - Complex search operations are slowest but most flexible
+ * - Mutations reload each written entity by default (WriteMode.RELOAD, two extra round trips per entity);
+ *   WriteMode.FAST skips the reload, and ENTITY_WRITE_MODE sets the default for calls without a mode
  * - Always set inMemory=true for better performance in development
+ * - Every call blocks until the platform answers; to overlap independent calls, use AsyncEntityService,
+ *   which offers the same operations as CompletableFutures
  */
 public interface EntityService {
 
@@ -73,6 +96,22 @@ public interface EntityService {
             @Nullable java.util.Date pointInTime
     );
 
+    /**
+     * Get many entities by technical UUID, fetched concurrently (bounded by ENTITY_FETCH_MAX_IN_FLIGHT)
+     *
+     * @param entityIds Technical UUIDs to load; duplicates are fetched and returned once
+     * @param modelSpec Model specification containing name and version
+     * @param entityClass Entity class type for deserialization
+     * @param pointInTime Point in time to retrieve the entities as-at (null for current state)
+     * @return EntityBatch with the entities found in input order and the IDs that do not exist
+     */
+    <T extends CyodaEntity> EntityBatch<T> getByIds(
+            @NotNull Collection<UUID> entityIds,
+            @NotNull ModelSpec modelSpec,
+            @NotNull Class<T> entityClass,
+            @Nullable java.util.Date pointInTime
+    );
+
     /**
      * Find entity by business identifier (MEDIUM SPEED - use for user-facing IDs)
      * Examples: cartId="CART-123", paymentId="PAY-456", orderId="ORD-789"
@@ -155,7 +194,8 @@ public interface EntityService {
 
     /**
      * Get entities with pagination support (RECOMMENDED for large datasets)
-     * Uses Cyoda's native pagination API for efficient data retrieval.
+     * Uses Cyoda's native pagination API for efficient data retrieval. The page and the total count are
+     * requested concurrently; with ENTITY_COUNT_CACHE_TTL_MS set, the total may be reused across pages.
      *
      * @param modelSpec Model specification containing name and version
      * @param pageable Spring Pageable containing page number, size, and sort
@@ -236,6 +276,163 @@ public interface EntityService {
             @Nullable java.util.Date pointInTime
     );
 
+    /**
+     * Get all entities of a type without binding them (SLOW - use sparingly)
+     * Each result binds its entity and metadata only when they are first accessed, so results that are
+     * filtered or counted by id, state or a single field skip full deserialization.
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param entityClass Entity class type used when an entity is accessed
+     * @param pointInTime Point in time to retrieve entities as-at (null for current state)
+     * @return List of LazyEntityWithMetadata over the raw results
+     */
+    <T extends CyodaEntity> List<LazyEntityWithMetadata<T>> findAllLazy(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Class<T> entityClass,
+            @Nullable java.util.Date pointInTime
+    );
+
+    /**
+     * Search entities without binding them, as findAllLazy() (SLOWEST - most flexible)
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param condition Search condition (use SearchConditionBuilder.group())
+     * @param entityClass Entity class type used when an entity is accessed
+     * @param pointInTime Point in time to search entities as-at (null for current state)
+     * @return List of LazyEntityWithMetadata over the raw results
+     */
+    <T extends CyodaEntity> List<LazyEntityWithMetadata<T>> searchLazy(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Class<T> entityClass,
+            @Nullable java.util.Date pointInTime
+    );
+
+    /**
+     * Search entities with pagination support (RECOMMENDED for paging through large search results)
+     * The search snapshot is reused for later pages of the same query while it keeps being requested,
+     * so only the first page pays for snapshot creation. Pages therefore reflect the state at the time
+     * the snapshot was taken.
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param condition Search condition (use SearchConditionBuilder.group())
+     * @param pageable Spring Pageable containing page number and size
+     * @param entityClass Entity class type for deserialization
+     * @return Page of EntityWithMetadata with entities, metadata, and pagination info
+     */
+    <T extends CyodaEntity> Page<EntityWithMetadata<T>> search(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Pageable pageable,
+            @NotNull Class<T> entityClass
+    );
+
+    /**
+     * Search entities with pagination support at a specific point in time
+     * Same snapshot reuse as search(modelSpec, condition, pageable, entityClass).
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param condition Search condition (use SearchConditionBuilder.group())
+     * @param pageable Spring Pageable containing page number and size
+     * @param entityClass Entity class type for deserialization
+     * @param pointInTime Point in time to search entities as-at (null for current state)
+     * @return Page of EntityWithMetadata with entities, metadata, and pagination info
+     */
+    <T extends CyodaEntity> Page<EntityWithMetadata<T>> search(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Pageable pageable,
+            @NotNull Class<T> entityClass,
+            @Nullable java.util.Date pointInTime
+    );
+
+    /**
+     * Search entities page by page using an opaque continuation token
+     * Pass a null cursor for the first page, then the nextCursor of each returned page with the same
+     * modelSpec, condition and pointInTime. All pages are served from the snapshot opened for the first page,
+     * which is released once it has not been used for a while; resuming after that fails with IllegalStateException.
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param condition Search condition (use SearchConditionBuilder.group())
+     * @param entityClass Entity class type for deserialization
+     * @param pageSize Number of entities per page (ignored when resuming, the cursor keeps its own)
+     * @param cursor Token from a previous page, or null to start the search
+     * @param pointInTime Point in time to search entities as-at (null for current state)
+     * @return Page of results with the token for the next page
+     */
+    <T extends CyodaEntity> SearchCursorPage<T> searchWithCursor(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Class<T> entityClass,
+            int pageSize,
+            @Nullable String cursor,
+            @Nullable java.util.Date pointInTime
+    );
+
+    // ========================================
+    // STREAMING RETRIEVAL METHODS
+    // ========================================
+
+    /**
+     * Stream entities of a type (RECOMMENDED for very large result sets)
+     * Each entity is decoded and delivered as soon as it arrives, so no intermediate list is built
+     * and the first result does not wait for the last one. Items are pulled from the platform only
+     * as fast as the subscriber requests them. Nothing is sent until the publisher is subscribed to,
+     * and each publisher supports a single subscriber.
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param entityClass Entity class type for deserialization
+     * @param pageSize Maximum number of entities to stream
+     * @param pointInTime Point in time to retrieve entities as-at (null for current state)
+     * @return Publisher of EntityWithMetadata with entities and metadata
+     */
+    <T extends CyodaEntity> Flow.Publisher<EntityWithMetadata<T>> streamAll(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Class<T> entityClass,
+            int pageSize,
+            @Nullable java.util.Date pointInTime
+    );
+
+    /**
+     * Stream entities matching complex conditions (RECOMMENDED for very large result sets)
+     * Same delivery and backpressure semantics as streamAll().
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param condition Search condition (use SearchConditionBuilder.group())
+     * @param entityClass Entity class type for deserialization
+     * @param limit Maximum number of entities to stream
+     * @param pointInTime Point in time to retrieve entities as-at (null for current state)
+     * @return Publisher of EntityWithMetadata with entities and metadata
+     */
+    <T extends CyodaEntity> Flow.Publisher<EntityWithMetadata<T>> streamSearch(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Class<T> entityClass,
+            int limit,
+            @Nullable java.util.Date pointInTime
+    );
+
+    /**
+     * Scan every entity matching the conditions through a search snapshot
+     * Once the snapshot is ready, the next pages are fetched concurrently ahead of the consumer
+     * and delivered in order. Blocks until the snapshot is ready; the returned stream must be
+     * closed (e.g. try-with-resources) to release pages still in flight.
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param condition Search condition (use SearchConditionBuilder.group())
+     * @param entityClass Entity class type for deserialization
+     * @param pageSize Number of entities fetched per page
+     * @param pointInTime Point in time to retrieve entities as-at (null for current state)
+     * @return Ordered stream of EntityWithMetadata over all matching entities
+     */
+    <T extends CyodaEntity> Stream<EntityWithMetadata<T>> searchAll(
+            @NotNull ModelSpec modelSpec,
+            @NotNull GroupCondition condition,
+            @NotNull Class<T> entityClass,
+            int pageSize,
+            @Nullable java.util.Date pointInTime
+    );
+
     // ========================================
     // PRIMARY MUTATION METHODS (Use These)
     // ========================================
@@ -248,6 +445,15 @@ public interface EntityService {
      */
     <T extends CyodaEntity> EntityWithMetadata<T> create(@NotNull T entity);
 
+    /**
+     * Save a new entity (CREATE operation) choosing how the result is built
+     *
+     * @param entity New entity to save
+     * @param writeMode RELOAD to return the stored entity, FAST to return the submitted entity with its new UUID
+     * @return EntityWithMetadata with saved entity and metadata (including technical UUID)
+     */
+    <T extends CyodaEntity> EntityWithMetadata<T> create(@NotNull T entity, @NotNull WriteMode writeMode);
+
     /**
      * Update existing entity by technical UUID (FASTEST - use when you have UUID)
      *
@@ -262,6 +468,22 @@ public interface EntityService {
             @Nullable String transition
     );
 
+    /**
+     * Update existing entity by technical UUID choosing how the result is built
+     *
+     * @param entityId Technical UUID from EntityWithMetadata.getMetadata().getId()
+     * @param entity Updated entity data
+     * @param transition Optional workflow transition name (null to stay in same state)
+     * @param writeMode RELOAD to return the stored entity, FAST to return the submitted entity
+     * @return EntityWithMetadata with updated entity and metadata
+     */
+    <T extends CyodaEntity> EntityWithMetadata<T> update(
+            @NotNull UUID entityId,
+            @NotNull T entity,
+            @Nullable String transition,
+            @NotNull WriteMode writeMode
+    );
+
     /**
      * Update existing entity by business identifier (MEDIUM SPEED)
      *
@@ -276,6 +498,22 @@ public interface EntityService {
             @Nullable String transition
     );
 
+    /**
+     * Update many existing entities of one model by business identifier (FASTER than updateByBusinessId() in a loop)
+     * All business IDs are resolved with OR searches of up to 50 IDs each, then the resolved entities are
+     * written with collection update requests. Entities whose business ID matches no entity are skipped.
+     *
+     * @param entities Updated entity data (each must contain a distinct business ID)
+     * @param businessIdField Field name containing the business ID (e.g., "cartId")
+     * @param transition Optional workflow transition name (null to stay in same state)
+     * @return Updated entities in input order, plus the business IDs that could not be resolved
+     */
+    <T extends CyodaEntity> BusinessIdUpdateResult<T> updateAllByBusinessId(
+            @NotNull Collection<T> entities,
+            @NotNull String businessIdField,
+            @Nullable String transition
+    );
+
     /**
      * Delete entity by technical UUID (FASTEST)
      *
@@ -326,6 +564,22 @@ public interface EntityService {
             @Nullable Long transactionTimeoutMs
     );
 
+    /**
+     * Save multiple entities in batch with transaction control parameters, choosing how the results are built
+     *
+     * @param entities Collection of entities to save
+     * @param transactionWindow Maximum number of entities per transaction (null for default)
+     * @param transactionTimeoutMs Transaction timeout in milliseconds (null for default)
+     * @param writeMode RELOAD to return the stored entities, FAST to return the submitted entities with their new UUIDs
+     * @return List of EntityWithMetadata with saved entities and metadata, in the order of the entities
+     */
+    <T extends CyodaEntity> List<EntityWithMetadata<T>> save(
+            @NotNull Collection<T> entities,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs,
+            @NotNull WriteMode writeMode
+    );
+
     /**
      * Update multiple entities in batch
      *
@@ -354,6 +608,24 @@ public interface EntityService {
             @Nullable Long transactionTimeoutMs
     );
 
+    /**
+     * Update multiple entities in batch with transaction control parameters, choosing how the results are built
+     *
+     * @param entities Collection of entities to update (must have id field)
+     * @param transition Optional workflow transition name (null to stay in same state)
+     * @param transactionWindow Maximum number of entities per transaction (null for default)
+     * @param transactionTimeoutMs Transaction timeout in milliseconds (null for default)
+     * @param writeMode RELOAD to return the stored entities, FAST to return the submitted entities
+     * @return List of EntityWithMetadata with updated entities and metadata
+     */
+    <T extends CyodaEntity> List<EntityWithMetadata<T>> updateAll(
+            @NotNull Collection<T> entities,
+            @Nullable String transition,
+            @Nullable Integer transactionWindow,
+            @Nullable Long transactionTimeoutMs,
+            @NotNull WriteMode writeMode
+    );
+
     /**
      * Delete all entities of a type (DANGEROUS - use with caution)
      *
@@ -362,6 +634,33 @@ public interface EntityService {
      */
     Integer deleteAll(@NotNull ModelSpec modelSpec);
 
+    /**
+     * Delete every entity matching the condition (DANGEROUS - use with caution)
+     * Matching IDs are read page by page from a search snapshot; each page is deleted with up to
+     * ENTITY_DELETE_MAX_IN_FLIGHT concurrent requests while the next page is fetched.
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param condition Search condition (use SearchConditionBuilder.group())
+     * @return Counts of deleted and already missing entities, and the failure of each delete that did not succeed
+     */
+    BulkDeleteResult deleteByCondition(@NotNull ModelSpec modelSpec, @NotNull GroupCondition condition);
+
+    /**
+     * Delete many entities by business identifier
+     * Business IDs are resolved with OR searches of up to 50 IDs each, then deleted with up to
+     * ENTITY_DELETE_MAX_IN_FLIGHT concurrent requests.
+     *
+     * @param modelSpec Model specification containing name and version
+     * @param businessIds Business ID values to delete
+     * @param businessIdField Field name containing the business ID
+     * @return Counts of deleted entities and unknown business IDs, and the failure of each delete that did not succeed
+     */
+    BulkDeleteResult deleteAllByBusinessId(
+            @NotNull ModelSpec modelSpec,
+            @NotNull Collection<String> businessIds,
+            @NotNull String businessIdField
+    );
+
     // ========================================
     // METADATA OPERATIONS
     // ========================================
@@ -388,4 +687,16 @@ public interface EntityService {
             @Nullable java.util.Date pointInTime
     );
 
+    /**
+     * Get change history metadata for many entities, fetched concurrently (bounded by ENTITY_FETCH_MAX_IN_FLIGHT)
+     *
+     * @param entityIds Technical UUIDs of the entities; duplicates are fetched once
+     * @param pointInTime Point in time to retrieve changes up to (null for all changes)
+     * @return Change history per entity, iterating in input order; entities that do not exist are left out
+     */
+    Map<UUID, List<EntityChangeMeta>> getEntityChangesMetadata(
+            @NotNull Collection<UUID> entityIds,
+            @Nullable java.util.Date pointInTime
+    );
+
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package com.java_template.common.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.java_template.common.dto.BulkDeleteResult;
+import com.java_template.common.dto.BusinessIdUpdateResult;
+import com.java_template.common.dto.EntityBatch;
 import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.dto.LazyEntityWithMetadata;
+import com.java_template.common.dto.SearchCursorPage;
 import com.java_template.common.repository.CrudRepository;
+import com.java_template.common.util.MappingPublisher;
 import com.java_template.common.workflow.CyodaEntity;
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
@@ -13,42 +18,59 @@ import org.cyoda.cloud.api.event.common.DataPayload;
 import org.cyoda.cloud.api.event.common.EntityChangeMeta;
 import org.cyoda.cloud.api.event.common.ModelSpec;
 import org.cyoda.cloud.api.event.common.condition.GroupCondition;
-import org.cyoda.cloud.api.event.common.condition.Operation;
-import org.cyoda.cloud.api.event.common.condition.SimpleCondition;
-import org.cyoda.cloud.api.event.entity.EntityDeleteAllResponse;
-import org.cyoda.cloud.api.event.entity.EntityDeleteResponse;
 import org.cyoda.cloud.api.event.entity.EntityTransactionInfo;
 import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 /**
  * ABOUTME: Implementation of EntityService providing concrete CRUD operations
  * and search functionality backed by CrudRepository and Cyoda platform integration.
+ * Operations wait on the futures of AsyncEntityService, which holds the shared logic and caches.
  */
 @Service
 public class EntityServiceImpl implements EntityService {
 
     private static final int DEFAULT_PAGE_SIZE = 100;
     private static final int FIRST_PAGE = 1;
-
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private static final WriteMode DEFAULT_WRITE_MODE = AsyncEntityServiceImpl.DEFAULT_WRITE_MODE;
 
     private final CrudRepository repository;
     private final ObjectMapper objectMapper;
+    private final AsyncEntityService asyncEntityService;
 
     public EntityServiceImpl(
             final CrudRepository repository,
-            final ObjectMapper objectMapper
+            final ObjectMapper objectMapper,
+            final AsyncEntityService asyncEntityService
     ) {
         this.repository = repository;
         this.objectMapper = objectMapper;
+        this.asyncEntityService = asyncEntityService;
+    }
+
+    /**
+     * Waits for an operation of the asynchronous service. Exceptions raised by the service itself, such as an
+     * expired search cursor or an unknown business ID, are rethrown unwrapped as they were before the service
+     * was asynchronous; failures of the repository, failed gRPC calls included, surface as the CompletionException
+     * of join().
+     */
+    private static <V> V await(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause && ServiceExceptions.isRaisedByService(cause)) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     // ========================================
@@ -71,8 +93,17 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final Class<T> entityClass,
             @Nullable final Date pointInTime
     ) {
-        DataPayload payload = repository.findById(entityId, pointInTime).join();
-        return EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper);
+        return await(asyncEntityService.getById(entityId, modelSpec, entityClass, pointInTime));
+    }
+
+    @Override
+    public <T extends CyodaEntity> EntityBatch<T> getByIds(
+            @NotNull final Collection<UUID> entityIds,
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return await(asyncEntityService.getByIds(entityIds, modelSpec, entityClass, pointInTime));
     }
 
     @Override
@@ -93,19 +124,7 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final Class<T> entityClass,
             @Nullable final Date pointInTime
     ) {
-        SimpleCondition simpleCondition = new SimpleCondition()
-                .withJsonPath("$." + businessIdField)
-                .withOperation(Operation.EQUALS)
-                .withValue(objectMapper.valueToTree(businessId));
-
-        GroupCondition condition = new GroupCondition()
-                .withOperator(GroupCondition.Operator.AND)
-                .withConditions(List.of(simpleCondition));
-
-        Optional<EntityWithMetadata<T>> result = getFirstItemByCondition(
-                entityClass, modelSpec, condition, true, pointInTime);
-
-        return result.orElse(null);
+        return await(asyncEntityService.findByBusinessId(modelSpec, businessId, businessIdField, entityClass, pointInTime));
     }
 
     @Override
@@ -136,7 +155,7 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final Class<T> entityClass,
             @Nullable final Date pointInTime
     ) {
-        return getItems(entityClass, modelSpec, null, null, pointInTime);
+        return await(asyncEntityService.findAll(modelSpec, entityClass, pointInTime));
     }
 
     @Override
@@ -155,24 +174,7 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final Class<T> entityClass,
             @Nullable final Date pointInTime
     ) {
-        // Convert Spring's 0-based page number to Cyoda's 1-based page number
-        int cyodaPageNumber = pageable.getPageNumber() + 1;
-        int pageSize = pageable.getPageSize();
-
-        // Get the entities for the requested page
-        List<EntityWithMetadata<T>> entities = getItems(
-                entityClass,
-                modelSpec,
-                pageSize,
-                cyodaPageNumber,
-                pointInTime
-        );
-
-        // Get total count for pagination metadata
-        long totalElements = getEntityCount(modelSpec, pointInTime);
-
-        // Return Spring Page object
-        return new PageImpl<>(entities, pageable, totalElements);
+        return await(asyncEntityService.findAll(modelSpec, pageable, entityClass, pointInTime));
     }
 
     @Override
@@ -182,7 +184,7 @@ public class EntityServiceImpl implements EntityService {
 
     @Override
     public long getEntityCount(@NotNull final ModelSpec modelSpec, @Nullable final Date pointInTime) {
-        return repository.getEntityCount(modelSpec, pointInTime).join();
+        return await(asyncEntityService.getEntityCount(modelSpec, pointInTime));
     }
 
     @Override
@@ -201,7 +203,59 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final Class<T> entityClass,
             @Nullable final Date pointInTime
     ) {
-        return getItemsByCondition(entityClass, modelSpec, condition, true, pointInTime);
+        return await(asyncEntityService.search(modelSpec, condition, entityClass, pointInTime));
+    }
+
+    @Override
+    public <T extends CyodaEntity> List<LazyEntityWithMetadata<T>> findAllLazy(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return await(asyncEntityService.findAllLazy(modelSpec, entityClass, pointInTime));
+    }
+
+    @Override
+    public <T extends CyodaEntity> List<LazyEntityWithMetadata<T>> searchLazy(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return await(asyncEntityService.searchLazy(modelSpec, condition, entityClass, pointInTime));
+    }
+
+    @Override
+    public <T extends CyodaEntity> Page<EntityWithMetadata<T>> search(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Pageable pageable,
+            @NotNull final Class<T> entityClass
+    ) {
+        return search(modelSpec, condition, pageable, entityClass, null);
+    }
+
+    @Override
+    public <T extends CyodaEntity> Page<EntityWithMetadata<T>> search(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Pageable pageable,
+            @NotNull final Class<T> entityClass,
+            @Nullable final Date pointInTime
+    ) {
+        return await(asyncEntityService.search(modelSpec, condition, pageable, entityClass, pointInTime));
+    }
+
+    @Override
+    public <T extends CyodaEntity> SearchCursorPage<T> searchWithCursor(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Class<T> entityClass,
+            final int pageSize,
+            @Nullable final String cursor,
+            @Nullable final Date pointInTime
+    ) {
+        return await(asyncEntityService.searchWithCursor(modelSpec, condition, entityClass, pageSize, cursor, pointInTime));
     }
 
     public <T extends CyodaEntity> List<EntityWithMetadata<T>> getItems(
@@ -285,32 +339,64 @@ public class EntityServiceImpl implements EntityService {
     }
 
     // ========================================
-    // PRIMARY MUTATION METHODS IMPLEMENTATION
+    // STREAMING RETRIEVAL METHODS IMPLEMENTATION
     // ========================================
 
     @Override
-    public <T extends CyodaEntity> EntityWithMetadata<T> create(@NotNull final T entity) {
-        ModelSpec modelSpec = entity.getModelKey().modelKey();
+    public <T extends CyodaEntity> Flow.Publisher<EntityWithMetadata<T>> streamAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Class<T> entityClass,
+            final int pageSize,
+            @Nullable final Date pointInTime
+    ) {
+        return MappingPublisher.map(
+                repository.streamAll(modelSpec, pageSize, FIRST_PAGE, pointInTime),
+                payload -> EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper)
+        );
+    }
 
-        EntityTransactionResponse response = repository.save(modelSpec, objectMapper.valueToTree(entity)).join();
+    @Override
+    public <T extends CyodaEntity> Flow.Publisher<EntityWithMetadata<T>> streamSearch(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Class<T> entityClass,
+            final int limit,
+            @Nullable final Date pointInTime
+    ) {
+        return MappingPublisher.map(
+                repository.streamAllByCriteria(modelSpec, condition, limit, pointInTime),
+                payload -> EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper)
+        );
+    }
 
-        // Extract entity ID and transaction ID from response
-        UUID entityId = response.getTransactionInfo().getEntityIds().getFirst();
-        UUID transactionId = response.getTransactionInfo().getTransactionId();
+    @Override
+    public <T extends CyodaEntity> Stream<EntityWithMetadata<T>> searchAll(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final GroupCondition condition,
+            @NotNull final Class<T> entityClass,
+            final int pageSize,
+            @Nullable final Date pointInTime
+    ) {
+        return repository.scanAllByCriteria(modelSpec, condition, pageSize, pointInTime).join()
+                .filter(Objects::nonNull)
+                .map(payload -> EntityWithMetadata.fromDataPayload(payload, entityClass, objectMapper));
+    }
 
-        // Get entity changes metadata to find the exact timeOfChange for this transaction
-        List<EntityChangeMeta> changes = getEntityChangesMetadata(entityId);
+    // ========================================
+    // PRIMARY MUTATION METHODS IMPLEMENTATION
+    // ========================================
 
-        // Find the change metadata for this specific transaction
-        EntityChangeMeta changeMeta = changes.stream()
-                .filter(meta -> transactionId.equals(meta.getTransactionId()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Transaction metadata not found for transaction: " + transactionId));
+    @Override
+    public <T extends CyodaEntity> EntityWithMetadata<T> create(@NotNull final T entity) {
+        return create(entity, DEFAULT_WRITE_MODE);
+    }
 
-        // Reload entity at the exact point in time when it was saved
-        @SuppressWarnings("unchecked")
-        Class<T> entityClass = (Class<T>) entity.getClass();
-        return getById(entityId, modelSpec, entityClass, changeMeta.getTimeOfChange());
+    @Override
+    public <T extends CyodaEntity> EntityWithMetadata<T> create(
+            @NotNull final T entity,
+            @NotNull final WriteMode writeMode
+    ) {
+        return await(asyncEntityService.create(entity, writeMode));
     }
 
     @Override
@@ -319,37 +405,21 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final String businessIdField,
             @Nullable final String transition
     ) {
-        // First find the entity by business ID to get its technical UUID
-        Class<? extends CyodaEntity> entityClass = entity.getClass();
-
-        // Get business ID value from entity using reflection-like approach
-        String businessIdValue = getBusinessIdValue(entity, businessIdField);
-
-        // Extract model info from entity
-        ModelSpec modelSpec = entity.getModelKey().modelKey();
-
-        EntityWithMetadata<? extends CyodaEntity> existingEntity = findByBusinessId(modelSpec, businessIdValue, businessIdField, entityClass);
-        if (existingEntity == null) {
-            throw new RuntimeException("Entity not found with business ID: " + businessIdValue);
-        }
-
-        UUID technicalId = existingEntity.metadata().getId();
-
-        // Now update using technical ID
-        return update(technicalId, entity, transition);
+        return await(asyncEntityService.updateByBusinessId(entity, businessIdField, transition));
     }
 
-    private <T extends CyodaEntity> String getBusinessIdValue(T entity, String businessIdField) {
-        // Use Jackson to convert entity to JsonNode and extract the field
-        var entityNode = objectMapper.valueToTree(entity);
-        var fieldValue = entityNode.get(businessIdField);
-        return fieldValue != null ? fieldValue.asText() : null;
+    @Override
+    public <T extends CyodaEntity> BusinessIdUpdateResult<T> updateAllByBusinessId(
+            @NotNull final Collection<T> entities,
+            @NotNull final String businessIdField,
+            @Nullable final String transition
+    ) {
+        return await(asyncEntityService.updateAllByBusinessId(entities, businessIdField, transition));
     }
 
     @Override
     public UUID deleteById(@NotNull final UUID entityId) {
-        EntityDeleteResponse response = repository.deleteById(entityId).join();
-        return response.getEntityId();
+        return await(asyncEntityService.deleteById(entityId));
     }
 
     @Override
@@ -359,23 +429,26 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final String businessIdField,
             @NotNull final Class<T> entityClass
     ) {
-        // First find the entity to get its technical ID
-        EntityWithMetadata<T> entityResponse = findByBusinessId(modelSpec, businessId, businessIdField, entityClass);
-        if (entityResponse == null) {
-            return false;
-        }
-
-        UUID entityId = entityResponse.metadata().getId();
-        deleteById(entityId);
-        return true;
+        return await(asyncEntityService.deleteByBusinessId(modelSpec, businessId, businessIdField, entityClass));
     }
 
     @Override
     public Integer deleteAll(@NotNull final ModelSpec modelSpec) {
-        List<EntityDeleteAllResponse> results = repository.deleteAll(modelSpec).join();
-        return results.stream()
-                .map(EntityDeleteAllResponse::getNumDeleted)
-                .reduce(0, Integer::sum);
+        return await(asyncEntityService.deleteAll(modelSpec));
+    }
+
+    @Override
+    public BulkDeleteResult deleteByCondition(@NotNull final ModelSpec modelSpec, @NotNull final GroupCondition condition) {
+        return await(asyncEntityService.deleteByCondition(modelSpec, condition));
+    }
+
+    @Override
+    public BulkDeleteResult deleteAllByBusinessId(
+            @NotNull final ModelSpec modelSpec,
+            @NotNull final Collection<String> businessIds,
+            @NotNull final String businessIdField
+    ) {
+        return await(asyncEntityService.deleteAllByBusinessId(modelSpec, businessIds, businessIdField));
     }
 
     public <T extends CyodaEntity> ObjectNode saveAndReturnTransactionInfo(@NotNull final T entity) {
@@ -396,41 +469,17 @@ public class EntityServiceImpl implements EntityService {
             @Nullable final Integer transactionWindow,
             @Nullable final Long transactionTimeoutMs
     ) {
-        if (entities.isEmpty()) {
-            return List.of();
-        }
-
-        T firstEntity = entities.iterator().next();
-        ModelSpec modelSpec = firstEntity.getModelKey().modelKey();
+        return save(entities, transactionWindow, transactionTimeoutMs, DEFAULT_WRITE_MODE);
+    }
 
-        EntityTransactionResponse response = repository.saveAll(
-                modelSpec, entities, transactionWindow, transactionTimeoutMs).join();
-
-        // Extract entity IDs and transaction ID from response
-        List<UUID> entityIds = response.getTransactionInfo() != null
-                ? response.getTransactionInfo().getEntityIds()
-                : List.of();
-        UUID transactionId = response.getTransactionInfo().getTransactionId();
-
-        @SuppressWarnings("unchecked")
-        Class<T> entityClass = (Class<T>) firstEntity.getClass();
-
-        // For each entity, get its change metadata and reload at the exact point in time
-        return entityIds.stream()
-                .map(entityId -> {
-                    // Get entity changes metadata to find the exact timeOfChange for this transaction
-                    List<EntityChangeMeta> changes = getEntityChangesMetadata(entityId);
-
-                    // Find the change metadata for this specific transaction
-                    EntityChangeMeta changeMeta = changes.stream()
-                            .filter(meta -> transactionId.equals(meta.getTransactionId()))
-                            .findFirst()
-                            .orElseThrow(() -> new RuntimeException("Transaction metadata not found for transaction: " + transactionId));
-
-                    // Reload entity at the exact point in time when it was saved
-                    return getById(entityId, modelSpec, entityClass, changeMeta.getTimeOfChange());
-                })
-                .toList();
+    @Override
+    public <T extends CyodaEntity> List<EntityWithMetadata<T>> save(
+            @NotNull final Collection<T> entities,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @NotNull final WriteMode writeMode
+    ) {
+        return await(asyncEntityService.save(entities, transactionWindow, transactionTimeoutMs, writeMode));
     }
 
     public <T extends CyodaEntity> EntityTransactionInfo saveAllAndReturnTransactionInfo(@NotNull final Collection<T> entities) {
@@ -460,46 +509,17 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final T entity,
             @Nullable final String transition
     ) {
-        ModelSpec modelSpec = entity.getModelKey().modelKey();
-
-        EntityTransactionResponse response = repository.update(entityId, objectMapper.valueToTree(entity), transition).join();
-
-        // Extract transaction ID from response
-        UUID transactionId = response.getTransactionInfo().getTransactionId();
-
-        // Get entity changes metadata to find the exact timeOfChange for this transaction
-        List<EntityChangeMeta> changes = getEntityChangesMetadata(entityId);
-
-        // Find the change metadata for this specific transaction
-        EntityChangeMeta changeMeta = changes.stream()
-                .filter(meta -> transactionId.equals(meta.getTransactionId()))
-                .findFirst()
-                .orElseGet(() -> {
-                    logger.warn("Transaction metadata not found for transaction: {}. " +
-                            "The entity is unchanged. Falling back to last change metadata.", transactionId);
-
-                    // Sanity check: verify that the last element has the maximum transactionId
-                    return getLatestChange(changes);
-                });
-
-        // Reload entity at the exact point in time when it was updated
-        @SuppressWarnings("unchecked")
-        Class<T> entityClass = (Class<T>) entity.getClass();
-        return getById(entityId, modelSpec, entityClass, changeMeta.getTimeOfChange());
+        return update(entityId, entity, transition, DEFAULT_WRITE_MODE);
     }
 
-    @NotNull
-    private EntityChangeMeta getLatestChange(List<EntityChangeMeta> changes) {
-        return changes.stream()
-                .max((c1, c2) -> {
-                    UUID id1 = c1.getTransactionId();
-                    UUID id2 = c2.getTransactionId();
-                    if (id1 == null && id2 == null) return 0;
-                    if (id1 == null) return -1;
-                    if (id2 == null) return 1;
-                    return id1.compareTo(id2);
-                })
-                .orElseGet(changes::getFirst);
+    @Override
+    public <T extends CyodaEntity> EntityWithMetadata<T> update(
+            @NotNull final UUID entityId,
+            @NotNull final T entity,
+            @Nullable final String transition,
+            @NotNull final WriteMode writeMode
+    ) {
+        return await(asyncEntityService.update(entityId, entity, transition, writeMode));
     }
 
     @Override
@@ -517,52 +537,18 @@ public class EntityServiceImpl implements EntityService {
             @Nullable final Integer transactionWindow,
             @Nullable final Long transactionTimeoutMs
     ) {
-        if (entities.isEmpty()) {
-            return List.of();
-        }
-
-        T firstEntity = entities.iterator().next();
-        ModelSpec modelSpec = firstEntity.getModelKey().modelKey();
-
-        List<EntityTransactionResponse> responses = repository.updateAll(
-                objectMapper.convertValue(entities, new TypeReference<>() {}),
-                transition,
-                transactionWindow,
-                transactionTimeoutMs
-        ).join();
+        return updateAll(entities, transition, transactionWindow, transactionTimeoutMs, DEFAULT_WRITE_MODE);
+    }
 
-        @SuppressWarnings("unchecked")
-        Class<T> entityClass = (Class<T>) firstEntity.getClass();
-
-        // For each response, extract entity IDs and transaction ID, then reload at exact point in time
-        return responses.stream()
-                .filter(response -> response.getTransactionInfo() != null)
-                .flatMap(response -> {
-                    UUID transactionId = response.getTransactionInfo().getTransactionId();
-                    List<UUID> entityIds = response.getTransactionInfo().getEntityIds();
-
-                    return entityIds.stream()
-                            .map(entityId -> {
-                                // Get entity changes metadata to find the exact timeOfChange for this transaction
-                                List<EntityChangeMeta> changes = getEntityChangesMetadata(entityId);
-
-                                // Find the change metadata for this specific transaction
-                                EntityChangeMeta changeMeta = changes.stream()
-                                        .filter(meta -> transactionId.equals(meta.getTransactionId()))
-                                        .findFirst()
-                                        .orElseGet(() -> {
-                                            logger.warn("Transaction metadata not found for transaction: {}. " +
-                                                    "The entity is unchanged. Falling back to last change metadata.", transactionId);
-
-                                            // Sanity check: verify that the last element has the maximum transactionId
-                                            return getLatestChange(changes);
-                                        });
-
-                                // Reload entity at the exact point in time when it was updated
-                                return getById(entityId, modelSpec, entityClass, changeMeta.getTimeOfChange());
-                            });
-                })
-                .toList();
+    @Override
+    public <T extends CyodaEntity> List<EntityWithMetadata<T>> updateAll(
+            @NotNull final Collection<T> entities,
+            @Nullable final String transition,
+            @Nullable final Integer transactionWindow,
+            @Nullable final Long transactionTimeoutMs,
+            @NotNull final WriteMode writeMode
+    ) {
+        return await(asyncEntityService.updateAll(entities, transition, transactionWindow, transactionTimeoutMs, writeMode));
     }
 
     // ========================================
@@ -579,7 +565,15 @@ public class EntityServiceImpl implements EntityService {
             @NotNull final UUID entityId,
             @Nullable final Date pointInTime
     ) {
-        return repository.getEntityChangesMetadata(entityId, pointInTime).join();
+        return await(asyncEntityService.getEntityChangesMetadata(entityId, pointInTime));
+    }
+
+    @Override
+    public Map<UUID, List<EntityChangeMeta>> getEntityChangesMetadata(
+            @NotNull final Collection<UUID> entityIds,
+            @Nullable final Date pointInTime
+    ) {
+        return await(asyncEntityService.getEntityChangesMetadata(entityIds, pointInTime));
     }
 
-}
\ No newline at end of file
+}
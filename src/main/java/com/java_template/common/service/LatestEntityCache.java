@@ -0,0 +1,135 @@
+package com.java_template.common.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.java_template.common.repository.CrudRepository;
+import jakarta.annotation.Nullable;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ABOUTME: Short-lived cache of the current version of entities of opted-in models, refreshed in the
+ * background while in use and invalidated by writes issued through EntityService in this JVM.
+ * Writes made elsewhere become visible once the cached entry is refreshed or expires.
+ */
+class LatestEntityCache {
+
+    private record CachedEntity(ModelSpec modelSpec, DataPayload payload, long loadedAtNanos) {
+    }
+
+    private final CrudRepository repository;
+    private final Set<String> cachedModels;
+    @Nullable
+    private final AsyncCache<UUID, CachedEntity> entities;
+    // Zero when refresh is off
+    private final long refreshAfterNanos;
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param cachedModels comma-separated models to cache, each as "name" (every version) or "name:version";
+     *                     empty disables the cache
+     * @param maxStalenessMillis an entry is dropped this long after it was loaded or last refreshed
+     * @param refreshAfterMillis an entry read after this long is reloaded in the background while the
+     *                           cached version is returned; refresh is off unless below maxStalenessMillis
+     * @param maximumSize maximum number of entities kept
+     */
+    LatestEntityCache(
+            final CrudRepository repository,
+            final String cachedModels,
+            final long maxStalenessMillis,
+            final long refreshAfterMillis,
+            final long maximumSize
+    ) {
+        this.repository = repository;
+        this.cachedModels = Arrays.stream(cachedModels.split(","))
+                .map(String::trim)
+                .filter(model -> !model.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.refreshAfterNanos = refreshAfterMillis > 0 && refreshAfterMillis < maxStalenessMillis
+                ? TimeUnit.MILLISECONDS.toNanos(refreshAfterMillis)
+                : 0;
+        if (this.cachedModels.isEmpty() || maxStalenessMillis <= 0) {
+            this.entities = null;
+            return;
+        }
+        // A loader would need the model, which the entity ID alone does not give, so loads and refreshes are explicit
+        this.entities = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(maxStalenessMillis))
+                .buildAsync();
+    }
+
+    boolean isCached(final ModelSpec modelSpec) {
+        return entities != null
+                && (cachedModels.contains(modelSpec.getName())
+                || cachedModels.contains(modelSpec.getName() + ":" + modelSpec.getVersion()));
+    }
+
+    /**
+     * Returns the current version of the entity, from the cache when the model is opted in.
+     */
+    CompletableFuture<DataPayload> get(final UUID entityId, final ModelSpec modelSpec) {
+        if (!isCached(modelSpec)) {
+            return repository.findById(entityId, null);
+        }
+        final var cached = entities.get(entityId, (id, executor) -> load(id, modelSpec));
+        refreshIfDue(entityId, cached);
+        // The dependent future handed out cannot cancel the cached one
+        return cached.thenApply(CachedEntity::payload);
+    }
+
+    void invalidate(final UUID entityId) {
+        if (entities != null) {
+            entities.synchronous().invalidate(entityId);
+        }
+    }
+
+    void invalidateAll(final Collection<UUID> entityIds) {
+        if (entities != null) {
+            entities.synchronous().invalidateAll(entityIds);
+        }
+    }
+
+    void invalidateModel(final ModelSpec modelSpec) {
+        if (entities != null) {
+            entities.synchronous().asMap().values().removeIf(cached -> modelSpec.equals(cached.modelSpec()));
+        }
+    }
+
+    /**
+     * Reloads an entry read after refreshAfterMillis in the background; the cached version is returned meanwhile.
+     * The reload only replaces the entry it was started from, so an invalidation in between is not undone.
+     */
+    private void refreshIfDue(final UUID entityId, final CompletableFuture<CachedEntity> cached) {
+        if (refreshAfterNanos == 0 || !cached.isDone() || cached.isCompletedExceptionally()) {
+            return;
+        }
+        final CachedEntity entry = cached.join();
+        if (entry == null || System.nanoTime() - entry.loadedAtNanos() < refreshAfterNanos || !refreshing.add(entityId)) {
+            return;
+        }
+        load(entityId, entry.modelSpec()).whenComplete((fresh, ex) -> {
+            refreshing.remove(entityId);
+            // A failed reload keeps the cached version until it expires
+            if (fresh != null) {
+                entities.asMap().replace(entityId, cached, CompletableFuture.completedFuture(fresh));
+            }
+        });
+    }
+
+    private CompletableFuture<CachedEntity> load(final UUID entityId, final ModelSpec modelSpec) {
+        // A null result is not cached
+        return repository.findById(entityId, null)
+                .thenApply(payload -> payload == null ? null : new CachedEntity(modelSpec, payload, System.nanoTime()));
+    }
+}
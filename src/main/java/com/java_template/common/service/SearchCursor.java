@@ -0,0 +1,51 @@
+package com.java_template.common.service;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * ABOUTME: Position within a search snapshot, carried between calls as an opaque URL-safe token
+ * so a client can resume paging without the service keeping per-client state.
+ * The snapshot's entity count travels with it, so later pages need no further snapshot lookups.
+ */
+record SearchCursor(@NotNull UUID snapshotId, int pageSize, int pageNumber, @Nullable Long totalElements) {
+
+    private static final String SEPARATOR = ":";
+
+    String encode() {
+        final var raw = snapshotId + SEPARATOR + pageSize + SEPARATOR + pageNumber
+                + SEPARATOR + (totalElements != null ? totalElements : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    SearchCursor next() {
+        return new SearchCursor(snapshotId, pageSize, pageNumber + 1, totalElements);
+    }
+
+    static SearchCursor decode(@NotNull final String token) {
+        final SearchCursor cursor;
+        try {
+            final var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, -1);
+            cursor = parts.length == 4
+                    ? new SearchCursor(
+                            UUID.fromString(parts[0]),
+                            Integer.parseInt(parts[1]),
+                            Integer.parseInt(parts[2]),
+                            parts[3].isEmpty() ? null : Long.valueOf(parts[3]))
+                    : null;
+        } catch (IllegalArgumentException e) {
+            // Malformed Base64, UUID or number
+            throw ServiceExceptions.illegalArgument("Invalid search cursor: " + token, e);
+        }
+        if (cursor == null || cursor.pageSize <= 0 || cursor.pageNumber < 0
+                || (cursor.totalElements != null && cursor.totalElements < 0)) {
+            throw ServiceExceptions.illegalArgument("Invalid search cursor: " + token);
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,54 @@
+package com.java_template.common.service;
+
+/**
+ * ABOUTME: Exceptions raised by the entity service itself rather than by the repository below it.
+ * They keep their familiar types, so callers catching RuntimeException, IllegalStateException or
+ * IllegalArgumentException are unaffected, but can be told apart from repository failures: the blocking
+ * EntityServiceImpl rethrows only these unwrapped, as it did before it delegated to AsyncEntityServiceImpl.
+ */
+final class ServiceExceptions {
+
+    private interface RaisedByService {
+    }
+
+    private static final class ServiceFailure extends RuntimeException implements RaisedByService {
+        ServiceFailure(final String message) {
+            super(message);
+        }
+    }
+
+    private static final class ServiceIllegalState extends IllegalStateException implements RaisedByService {
+        ServiceIllegalState(final String message) {
+            super(message);
+        }
+    }
+
+    private static final class ServiceIllegalArgument extends IllegalArgumentException implements RaisedByService {
+        ServiceIllegalArgument(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private ServiceExceptions() {
+    }
+
+    static RuntimeException failure(final String message) {
+        return new ServiceFailure(message);
+    }
+
+    static IllegalStateException illegalState(final String message) {
+        return new ServiceIllegalState(message);
+    }
+
+    static IllegalArgumentException illegalArgument(final String message) {
+        return new ServiceIllegalArgument(message, null);
+    }
+
+    static IllegalArgumentException illegalArgument(final String message, final Throwable cause) {
+        return new ServiceIllegalArgument(message, cause);
+    }
+
+    static boolean isRaisedByService(final Throwable exception) {
+        return exception instanceof RaisedByService;
+    }
+}
@@ -0,0 +1,21 @@
+package com.java_template.common.service;
+
+/**
+ * ABOUTME: Selects how EntityService mutations build the EntityWithMetadata they return:
+ * by reloading the stored entity, or directly from the transaction response and the submitted entity.
+ */
+public enum WriteMode {
+
+    /**
+     * Reload every written entity as of its transaction, costing two extra round trips per entity.
+     * The result reflects changes made by workflow processors and carries the full metadata.
+     */
+    RELOAD,
+
+    /**
+     * Return the submitted entity together with the entity ID from the transaction response, without
+     * further requests. Metadata holds only the ID, model and transition; state and dates are not known,
+     * and changes made by workflow processors are not reflected.
+     */
+    FAST
+}
@@ -0,0 +1,113 @@
+package com.java_template.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * ABOUTME: Helpers for running many asynchronous calls with a cap on how many are in flight at once,
+ * collecting the results in input order.
+ */
+public final class BoundedFutures {
+
+    private BoundedFutures() {
+    }
+
+    /**
+     * Applies call to every item, starting the next call as soon as one completes so that at most
+     * maxInFlight calls are outstanding. The returned list follows the order of items. The first failure
+     * fails the result and stops further calls from starting; calls already in flight are left to finish.
+     */
+    public static <I, O> CompletableFuture<List<O>> mapBounded(
+            final List<I> items,
+            final int maxInFlight,
+            final Function<I, CompletableFuture<O>> call
+    ) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("In-flight limit must be positive, was " + maxInFlight);
+        }
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return new BoundedRun<>(items, maxInFlight, call).start();
+    }
+
+    private static final class BoundedRun<I, O> {
+        private final List<I> items;
+        private final int maxInFlight;
+        private final Function<I, CompletableFuture<O>> call;
+        private final List<O> results;
+        private final CompletableFuture<List<O>> result = new CompletableFuture<>();
+        // Calls that complete synchronously re-enter drain(); the counter turns that into another loop pass
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private int nextIndex;
+        private int inFlight;
+        private int completed;
+
+        private BoundedRun(
+                final List<I> items,
+                final int maxInFlight,
+                final Function<I, CompletableFuture<O>> call
+        ) {
+            this.items = items;
+            this.maxInFlight = maxInFlight;
+            this.call = call;
+            this.results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        }
+
+        private CompletableFuture<List<O>> start() {
+            drain();
+            return result;
+        }
+
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                int index;
+                while ((index = claimNext()) >= 0) {
+                    launch(index);
+                }
+            } while (drainRequests.decrementAndGet() != 0);
+        }
+
+        private synchronized int claimNext() {
+            if (result.isDone() || nextIndex == items.size() || inFlight == maxInFlight) {
+                return -1;
+            }
+            inFlight++;
+            return nextIndex++;
+        }
+
+        private void launch(final int index) {
+            final CompletableFuture<O> future;
+            try {
+                future = call.apply(items.get(index));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            future.whenComplete((value, ex) -> {
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                    return;
+                }
+                final boolean allDone;
+                synchronized (this) {
+                    results.set(index, value);
+                    inFlight--;
+                    allDone = ++completed == items.size();
+                }
+                if (allDone) {
+                    result.complete(Collections.unmodifiableList(results));
+                } else {
+                    drain();
+                }
+            });
+        }
+    }
+}
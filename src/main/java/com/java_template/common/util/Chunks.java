@@ -0,0 +1,47 @@
+package com.java_template.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * ABOUTME: Splits lists into consecutive chunks bounded both by element count and by the summed size
+ * of the elements, e.g. to keep bulk requests under a message size limit.
+ */
+public final class Chunks {
+
+    private Chunks() {
+    }
+
+    /**
+     * Splits items into consecutive chunks holding at most maxCount items whose sizes add up to at most
+     * maxSize. An item larger than maxSize on its own still forms a chunk of one. Order is preserved.
+     */
+    public static <T> List<List<T>> bySizeAndCount(
+            final List<T> items,
+            final int maxCount,
+            final long maxSize,
+            final ToLongFunction<? super T> sizeOf
+    ) {
+        if (maxCount <= 0) {
+            throw new IllegalArgumentException("Chunk count limit must be positive, was " + maxCount);
+        }
+        final var chunks = new ArrayList<List<T>>();
+        var current = new ArrayList<T>();
+        long currentSize = 0;
+        for (final T item : items) {
+            final long itemSize = sizeOf.applyAsLong(item);
+            if (!current.isEmpty() && (current.size() == maxCount || currentSize + itemSize > maxSize)) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentSize = 0;
+            }
+            current.add(item);
+            currentSize += itemSize;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+}
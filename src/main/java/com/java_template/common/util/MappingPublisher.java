@@ -0,0 +1,73 @@
+package com.java_template.common.util;
+
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * ABOUTME: Flow.Publisher decorator that applies a mapping function to every item
+ * while passing demand and cancellation straight through to the upstream publisher.
+ */
+public final class MappingPublisher<S, T> implements Flow.Publisher<T> {
+
+    private final Flow.Publisher<S> upstream;
+    private final Function<? super S, ? extends T> mapper;
+
+    private MappingPublisher(final Flow.Publisher<S> upstream, final Function<? super S, ? extends T> mapper) {
+        this.upstream = upstream;
+        this.mapper = mapper;
+    }
+
+    public static <S, T> Flow.Publisher<T> map(
+            final Flow.Publisher<S> upstream,
+            final Function<? super S, ? extends T> mapper
+    ) {
+        return new MappingPublisher<>(upstream, mapper);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        upstream.subscribe(new Flow.Subscriber<S>() {
+            private Flow.Subscription subscription;
+            private boolean done;
+
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(final S item) {
+                if (done) {
+                    return;
+                }
+                final T mapped;
+                try {
+                    mapped = mapper.apply(item);
+                } catch (Exception e) {
+                    done = true;
+                    subscription.cancel();
+                    subscriber.onError(e);
+                    return;
+                }
+                subscriber.onNext(mapped);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(throwable);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package com.java_template.common.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * ABOUTME: Groups items submitted concurrently under the same key into batches that are handed to a
+ * batch handler once they reach a maximum size or have waited a maximum delay, whichever comes first.
+ * @param <K> key identifying which items may share a batch
+ * @param <I> submitted item
+ * @param <O> per-item result
+ */
+public final class MicroBatcher<K, I, O> implements AutoCloseable {
+
+    /**
+     * An item waiting in a batch together with the future its submitter is waiting on.
+     */
+    public record Entry<I, O>(I item, CompletableFuture<O> result) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService scheduler;
+    private final BiConsumer<K, List<Entry<I, O>>> batchHandler;
+    private final Map<K, Batch> pending = new HashMap<>();
+
+    private final class Batch {
+        private final List<Entry<I, O>> entries = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+    }
+
+    /**
+     * @param maxBatchSize a batch is dispatched as soon as it holds this many items
+     * @param maxDelayMillis a batch is dispatched at the latest this long after its first item arrived
+     * @param scheduler runs the delayed dispatches; may be shared between batchers
+     * @param batchHandler sends a batch and must eventually complete the result of every entry.
+     *                     It runs on the submitting thread or the scheduler, so it must not block.
+     */
+    public MicroBatcher(
+            final int maxBatchSize,
+            final long maxDelayMillis,
+            final ScheduledExecutorService scheduler,
+            final BiConsumer<K, List<Entry<I, O>>> batchHandler
+    ) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, was " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMillis = Math.max(0, maxDelayMillis);
+        this.scheduler = scheduler;
+        this.batchHandler = batchHandler;
+    }
+
+    public CompletableFuture<O> submit(final K key, final I item) {
+        final var result = new CompletableFuture<O>();
+        final Batch full;
+        synchronized (this) {
+            final var batch = pending.computeIfAbsent(key, this::openBatch);
+            batch.entries.add(new Entry<>(item, result));
+            if (batch.entries.size() < maxBatchSize) {
+                return result;
+            }
+            pending.remove(key);
+            batch.timer.cancel(false);
+            full = batch;
+        }
+        dispatch(key, full);
+        return result;
+    }
+
+    /**
+     * Dispatches every pending batch immediately.
+     */
+    public void flush() {
+        final Map<K, Batch> batches;
+        synchronized (this) {
+            batches = new HashMap<>(pending);
+            pending.clear();
+        }
+        batches.forEach((key, batch) -> {
+            batch.timer.cancel(false);
+            dispatch(key, batch);
+        });
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private Batch openBatch(final K key) {
+        final var batch = new Batch();
+        batch.timer = scheduler.schedule(() -> expire(key, batch), maxDelayMillis, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    private void expire(final K key, final Batch batch) {
+        synchronized (this) {
+            if (!pending.remove(key, batch)) {
+                // Already dispatched because it filled up
+                return;
+            }
+        }
+        dispatch(key, batch);
+    }
+
+    private void dispatch(final K key, final Batch batch) {
+        logger.debug("Dispatching batch of {} for {}", batch.entries.size(), key);
+        try {
+            batchHandler.accept(key, batch.entries);
+        } catch (RuntimeException e) {
+            batch.entries.forEach(entry -> entry.result().completeExceptionally(e));
+        }
+    }
+}
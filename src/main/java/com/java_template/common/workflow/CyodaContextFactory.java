@@ -2,6 +2,7 @@ package com.java_template.common.workflow;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.serializer.jackson.EntityCodecRegistry;
 import io.cloudevents.v1.proto.CloudEvent;
 import org.cyoda.cloud.api.event.common.BaseEvent;
 import org.jetbrains.annotations.NotNull;
@@ -14,17 +15,17 @@ import org.springframework.stereotype.Component;
 @Component
 public class CyodaContextFactory {
 
-    private final ObjectMapper objectMapper;
+    private final EntityCodecRegistry codecs;
 
     public CyodaContextFactory(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.codecs = EntityCodecRegistry.forMapper(objectMapper);
     }
 
     public <T extends BaseEvent> CyodaEventContext<T> createCyodaEventContext(
             CloudEvent cloudEvent,
             Class<T> eventClass
     )  throws JsonProcessingException {
-        T event = objectMapper.readValue(cloudEvent.getTextData(), eventClass);
+        T event = codecs.readValue(cloudEvent.getTextData(), eventClass);
 
         return new CyodaEventContext<T>() {
             @Override
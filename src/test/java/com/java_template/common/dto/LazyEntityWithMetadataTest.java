@@ -0,0 +1,99 @@
+package com.java_template.common.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.workflow.CyodaEntity;
+import com.java_template.common.workflow.OperationSpecification;
+import lombok.Getter;
+import lombok.Setter;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.EntityMetadata;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for LazyEntityWithMetadata verifying that id, state and field reads leave the payload
+ * unbound and that the entity and metadata are bound once, on first access.
+ */
+class LazyEntityWithMetadataTest {
+
+    private static final ModelSpec MODEL_SPEC = new ModelSpec().withName("test-entity").withVersion(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setter
+    @Getter
+    static class TestEntity implements CyodaEntity {
+        private String name;
+
+        @Override
+        public OperationSpecification getModelKey() {
+            return new OperationSpecification.Entity(MODEL_SPEC, MODEL_SPEC.getName());
+        }
+
+        @Override
+        public boolean isValid(EntityMetadata metadata) {
+            return name != null;
+        }
+    }
+
+    private DataPayload payload(final String name, final UUID entityId, final String state) {
+        final var entity = new TestEntity();
+        entity.setName(name);
+        DataPayload payload = new DataPayload();
+        payload.setData(objectMapper.valueToTree(entity));
+        payload.setMeta(objectMapper.valueToTree(new EntityMetadata().withId(entityId).withState(state)));
+        return payload;
+    }
+
+    @Test
+    @DisplayName("id, state and single fields should be read without binding the payload")
+    void testReadsWithoutBinding() {
+        final var entityId = UUID.randomUUID();
+        final var lazy = LazyEntityWithMetadata.fromDataPayload(payload("a", entityId, "ACTIVE"), TestEntity.class, objectMapper);
+
+        assertEquals(entityId, lazy.getId());
+        assertEquals("ACTIVE", lazy.getState());
+        assertEquals("a", lazy.field("name").asText());
+        assertNull(lazy.field("missing"));
+        assertFalse(lazy.isEntityBound());
+        assertFalse(lazy.isMetadataBound());
+    }
+
+    @Test
+    @DisplayName("entity and metadata should be bound independently and memoized")
+    void testBindingMemoized() {
+        final var entityId = UUID.randomUUID();
+        final var lazy = LazyEntityWithMetadata.fromDataPayload(payload("a", entityId, "ACTIVE"), TestEntity.class, objectMapper);
+
+        final var metadata = lazy.metadata();
+        assertTrue(lazy.isMetadataBound());
+        assertFalse(lazy.isEntityBound());
+        assertSame(metadata, lazy.metadata());
+        assertEquals(entityId, metadata.getId());
+
+        final var entity = lazy.entity();
+        assertSame(entity, lazy.entity());
+        assertEquals("a", entity.getName());
+
+        final var eager = lazy.toEntityWithMetadata();
+        assertSame(entity, eager.entity());
+        assertSame(metadata, eager.metadata());
+    }
+
+    @Test
+    @DisplayName("a payload without metadata should give empty metadata")
+    void testMissingMetadata() {
+        final var payload = payload("a", UUID.randomUUID(), "ACTIVE");
+        payload.setMeta(null);
+        final var lazy = LazyEntityWithMetadata.fromDataPayload(payload, TestEntity.class, objectMapper);
+
+        assertNull(lazy.getId());
+        assertNull(lazy.getState());
+        assertNotNull(lazy.metadata());
+    }
+}
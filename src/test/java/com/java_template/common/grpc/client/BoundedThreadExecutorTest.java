@@ -0,0 +1,67 @@
+package com.java_template.common.grpc.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for BoundedThreadExecutor verifying that tasks beyond the queue capacity are refused
+ * and that the capacity listener is told when room frees up.
+ */
+class BoundedThreadExecutorTest {
+
+    private final BoundedThreadExecutor executor = new BoundedThreadExecutor("test-", 1, 1, false) { };
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("a task beyond the running and queued ones should be refused")
+    void testRefusesWhenFull() throws InterruptedException {
+        final var release = new CountDownLatch(1);
+        final var started = new CountDownLatch(1);
+
+        assertTrue(executor.tryRun(() -> {
+            started.countDown();
+            await(release);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.tryRun(() -> { }));
+        assertEquals(1, executor.queueDepth());
+
+        assertFalse(executor.tryRun(() -> { }));
+        assertThrows(RejectedExecutionException.class, () -> executor.run(() -> { }));
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("the capacity listener should run after each finished task, including failed ones")
+    void testCapacityListener() throws InterruptedException {
+        final var freed = new CountDownLatch(2);
+        executor.setCapacityListener(freed::countDown);
+
+        assertTrue(executor.tryRun(() -> { }));
+        assertTrue(executor.tryRun(() -> {
+            throw new IllegalStateException("task failure");
+        }));
+
+        assertTrue(freed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
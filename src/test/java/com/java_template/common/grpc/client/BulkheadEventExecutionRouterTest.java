@@ -0,0 +1,149 @@
+package com.java_template.common.grpc.client;
+
+import org.cyoda.cloud.api.event.common.CloudEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for BulkheadEventExecutionRouter verifying that a processor with a bulkhead is held
+ * to its limits on the shared pool, that other processors are unaffected, that limits can be changed at runtime,
+ * and that requests ordered by entity cannot overtake an earlier request held in a bulkhead.
+ */
+class BulkheadEventExecutionRouterTest {
+
+    private static final CloudEventType PROCESSOR = CloudEventType.ENTITY_PROCESSOR_CALCULATION_REQUEST;
+
+    private final BoundedThreadExecutor processorPool = new BoundedThreadExecutor("processor-", 4, 100, false) { };
+    private final BoundedThreadExecutor criteriaPool = new BoundedThreadExecutor("criteria-", 1, 10, false) { };
+    private final BoundedThreadExecutor controlPool = new BoundedThreadExecutor("control-", 1, 10, false) { };
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        processorPool.shutdown();
+        criteriaPool.shutdown();
+        controlPool.shutdown();
+    }
+
+    private BulkheadEventExecutionRouter router(final Map<String, ProcessorBulkhead.Limits> limits) {
+        return new BulkheadEventExecutionRouter(
+                new DefaultEventExecutionRouter(processorPool, criteriaPool, controlPool),
+                limits
+        );
+    }
+
+    private static EventRoute route(final String processorName) {
+        return new EventRoute(PROCESSOR, processorName, null);
+    }
+
+    private final Runnable blocking = () -> {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    @Test
+    @DisplayName("limits should parse from name=maxConcurrent:maxQueued entries")
+    void testParseLimits() {
+        final var limits = BulkheadEventExecutionRouter.parseLimits(" slow=2:10, other=1 ,");
+
+        assertEquals(new ProcessorBulkhead.Limits(2, 10), limits.get("slow"));
+        assertEquals(new ProcessorBulkhead.Limits(1, 0), limits.get("other"));
+        assertTrue(BulkheadEventExecutionRouter.parseLimits("").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> BulkheadEventExecutionRouter.parseLimits("slow"));
+        assertThrows(IllegalArgumentException.class, () -> BulkheadEventExecutionRouter.parseLimits("slow=0:1"));
+    }
+
+    @Test
+    @DisplayName("a slow processor should be held to its limit and leave threads for other processors")
+    void testSlowProcessorIsolated() throws InterruptedException {
+        final var router = router(Map.of("slow", new ProcessorBulkhead.Limits(1, 1)));
+        final var fastDone = new CountDownLatch(1);
+
+        assertTrue(router.tryRouteAndExecute(route("slow"), blocking));
+        assertTrue(router.tryRouteAndExecute(route("slow"), blocking));
+        assertFalse(router.tryRouteAndExecute(route("slow"), blocking));
+
+        assertTrue(router.tryRouteAndExecute(route("fast"), fastDone::countDown));
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+
+        final var slow = router.bulkheads().get(0);
+        assertEquals(1, slow.inFlight());
+        assertEquals(1, slow.queued());
+        assertEquals(1, slow.rejected());
+    }
+
+    @Test
+    @DisplayName("raising a limit at runtime should start waiting requests")
+    void testRaiseLimitAtRuntime() {
+        final var router = router(Map.of());
+        router.configure("slow", new ProcessorBulkhead.Limits(1, 5));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(router.tryRouteAndExecute(route("slow"), blocking));
+        }
+        assertEquals(2, router.bulkheads().get(0).queued());
+
+        router.configure("slow", new ProcessorBulkhead.Limits(3, 5));
+
+        final var state = router.bulkheads().get(0);
+        assertEquals(3, state.maxConcurrent());
+        assertEquals(3, state.inFlight());
+        assertEquals(0, state.queued());
+    }
+
+    @Test
+    @DisplayName("with ordering by entity, a request should not overtake an earlier one held in another processor's bulkhead")
+    void testOrderingHonouredBeforeBulkhead() throws InterruptedException {
+        final var router = new BulkheadEventExecutionRouter(
+                new DefaultEventExecutionRouter(new KeyOrderedExecutor(processorPool, 10, "processor"), criteriaPool, controlPool),
+                Map.of("slow", new ProcessorBulkhead.Limits(1, 1))
+        );
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final var done = new CountDownLatch(2);
+        final Runnable fastTask = () -> {
+            order.add("fast");
+            done.countDown();
+        };
+        final var fastAdmitted = new AtomicBoolean();
+        // Retries the held-back request whenever capacity frees, as the member client does with parked requests
+        router.setCapacityListener(() -> {
+            synchronized (fastAdmitted) {
+                if (!fastAdmitted.get() && router.tryRouteAndExecute(new EventRoute(PROCESSOR, "fast", "e-1"), fastTask)) {
+                    fastAdmitted.set(true);
+                }
+            }
+        });
+
+        assertTrue(router.tryRouteAndExecute(new EventRoute(PROCESSOR, "slow", "other"), blocking));
+        assertTrue(router.tryRouteAndExecute(new EventRoute(PROCESSOR, "slow", "e-1"), () -> {
+            order.add("slow");
+            done.countDown();
+        }));
+        assertEquals(1, router.bulkheads().get(0).queued());
+
+        synchronized (fastAdmitted) {
+            assertFalse(router.tryRouteAndExecute(new EventRoute(PROCESSOR, "fast", "e-1"), fastTask));
+        }
+        final var otherKeyDone = new CountDownLatch(1);
+        assertTrue(router.tryRouteAndExecute(new EventRoute(PROCESSOR, "fast", "e-2"), otherKeyDone::countDown));
+        assertTrue(otherKeyDone.await(5, TimeUnit.SECONDS));
+
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("slow", "fast"), order);
+    }
+}
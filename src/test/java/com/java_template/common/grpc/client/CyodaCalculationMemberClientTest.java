@@ -0,0 +1,198 @@
+package com.java_template.common.grpc.client;
+
+import com.java_template.common.grpc.client.event_handling.CloudEventBuilder;
+import com.java_template.common.grpc.client.event_handling.EventHandlingStrategy;
+import com.java_template.common.grpc.client.event_handling.EventSender;
+import io.cloudevents.v1.proto.CloudEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.cyoda.cloud.api.event.common.BaseEvent;
+import org.cyoda.cloud.api.event.common.CloudEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for the overload handling of CyodaCalculationMemberClient verifying that a full pool
+ * rejects requests under REJECT, parks them under PAUSE until there is room, and rejects requests parked too long.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CyodaCalculationMemberClientTest {
+
+    private static final CloudEventType PROCESSOR = CloudEventType.ENTITY_PROCESSOR_CALCULATION_REQUEST;
+
+    @Mock
+    private EventSender replyTo;
+    @Mock
+    private CloudEventBuilder eventBuilder;
+    @Mock
+    private EventHandlingStrategy<BaseEvent> strategy;
+    @Mock
+    private BaseEvent rejection;
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final FullableRouter router = new FullableRouter();
+    private CyodaCalculationMemberClient client;
+
+    /**
+     * Runs tasks inline while it has room and refuses them while full.
+     */
+    private static final class FullableRouter implements EventExecutionRouter {
+        private final List<Runnable> executed = new ArrayList<>();
+        private volatile boolean full;
+        private Runnable capacityListener;
+
+        @Override
+        public void routeAndExecute(final CloudEventType eventType, final Runnable task) {
+            tryRouteAndExecute(eventType, task);
+        }
+
+        @Override
+        public synchronized boolean tryRouteAndExecute(final CloudEventType eventType, final Runnable task) {
+            if (full) {
+                return false;
+            }
+            executed.add(task);
+            return true;
+        }
+
+        @Override
+        public void setCapacityListener(final Runnable listener) {
+            this.capacityListener = listener;
+        }
+
+        void freeRoom() {
+            full = false;
+            capacityListener.run();
+        }
+
+        synchronized int executedCount() {
+            return executed.size();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(strategy.supports(PROCESSOR)).thenReturn(true);
+        when(strategy.rejectEvent(any(), anyString())).thenReturn(rejection);
+        when(rejection.getSuccess()).thenReturn(false);
+        when(eventBuilder.buildEvent(rejection)).thenReturn(CloudEvent.getDefaultInstance());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    private CyodaCalculationMemberClient client(final InboundOverloadPolicy policy, final long pauseTimeoutMillis) {
+        client = new CyodaCalculationMemberClient(
+                replyTo,
+                router,
+                eventBuilder,
+                List.of(strategy),
+                meterRegistry,
+                policy,
+                pauseTimeoutMillis
+        );
+        return client;
+    }
+
+    private static CloudEvent processorRequest(final String id) {
+        return CloudEvent.newBuilder()
+                .setId(id)
+                .setType(PROCESSOR.value())
+                .setTextData("{\"processorName\":\"proc\",\"entityId\":\"" + id + "\"}")
+                .build();
+    }
+
+    @Test
+    @DisplayName("REJECT should send a rejection and read on when the pool is full")
+    void testRejectPolicy() {
+        final var memberClient = client(InboundOverloadPolicy.REJECT, 0);
+        router.full = true;
+        final var readyForNext = new CountDownLatch(1);
+
+        memberClient.handleEvent(processorRequest("e-1"), replyTo, readyForNext::countDown);
+
+        assertEquals(0, readyForNext.getCount());
+        verify(strategy).rejectEvent(any(), anyString());
+        verify(replyTo).sendEvent(any());
+        assertEquals(0, router.executedCount());
+    }
+
+    @Test
+    @DisplayName("an admitted event should read on without a rejection")
+    void testAdmitted() {
+        final var memberClient = client(InboundOverloadPolicy.PAUSE, 5_000);
+        final var readyForNext = new CountDownLatch(1);
+
+        memberClient.handleEvent(processorRequest("e-1"), replyTo, readyForNext::countDown);
+
+        assertEquals(0, readyForNext.getCount());
+        assertEquals(1, router.executedCount());
+        verify(strategy, never()).rejectEvent(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("PAUSE should hold the event and the next read until the pool has room")
+    void testPausePolicyAdmitsWhenRoomFrees() {
+        final var memberClient = client(InboundOverloadPolicy.PAUSE, 5_000);
+        router.full = true;
+        final var readyForNext = new CountDownLatch(1);
+
+        memberClient.handleEvent(processorRequest("e-1"), replyTo, readyForNext::countDown);
+
+        assertEquals(1, readyForNext.getCount());
+        assertEquals(0, router.executedCount());
+
+        router.freeRoom();
+
+        assertEquals(0, readyForNext.getCount());
+        assertEquals(1, router.executedCount());
+        verify(strategy, never()).rejectEvent(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("PAUSE should reject an event parked past the pause timeout and read on")
+    void testPauseTimesOutIntoRejection() throws Exception {
+        final var memberClient = client(InboundOverloadPolicy.PAUSE, 50);
+        router.full = true;
+        final var readyForNext = new CountDownLatch(1);
+
+        memberClient.handleEvent(processorRequest("e-1"), replyTo, readyForNext::countDown);
+
+        assertTrue(readyForNext.await(5, TimeUnit.SECONDS));
+        verify(strategy).rejectEvent(any(), anyString());
+        verify(replyTo).sendEvent(any());
+
+        // A late free slot must not run the rejected event
+        router.freeRoom();
+        assertEquals(0, router.executedCount());
+    }
+
+    @Test
+    @DisplayName("PAUSE should require a positive pause timeout")
+    void testPauseNeedsTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> client(InboundOverloadPolicy.PAUSE, 0));
+    }
+}
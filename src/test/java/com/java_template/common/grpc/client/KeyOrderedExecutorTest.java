@@ -0,0 +1,106 @@
+package com.java_template.common.grpc.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for KeyOrderedExecutor verifying per-key FIFO execution, parallelism across keys,
+ * and the bound on tasks waiting behind one key.
+ */
+class KeyOrderedExecutorTest {
+
+    private final BoundedThreadExecutor pool = new BoundedThreadExecutor("test-", 4, 100, false) { };
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("tasks with the same key should run one at a time in submission order")
+    void testFifoPerKey() throws InterruptedException {
+        final var executor = new KeyOrderedExecutor(pool, 100, "test");
+        final List<Integer> order = new CopyOnWriteArrayList<>();
+        final var running = new AtomicInteger();
+        final var overlapped = new AtomicInteger();
+        final var done = new CountDownLatch(50);
+
+        for (int i = 0; i < 50; i++) {
+            final int index = i;
+            assertTrue(executor.tryRun("entity-1", () -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.incrementAndGet();
+                }
+                order.add(index);
+                running.decrementAndGet();
+                done.countDown();
+            }));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, overlapped.get());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("tasks with different keys should run in parallel")
+    void testParallelAcrossKeys() throws InterruptedException {
+        final var executor = new KeyOrderedExecutor(pool, 100, "test");
+        final var bothRunning = new CountDownLatch(2);
+        final var release = new CountDownLatch(1);
+
+        for (final var key : List.of("entity-1", "entity-2")) {
+            assertTrue(executor.tryRun(key, () -> {
+                bothRunning.countDown();
+                await(release);
+            }));
+        }
+
+        assertTrue(bothRunning.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("a key's queue should refuse tasks beyond its capacity and forget the key once drained")
+    void testPerKeyBound() throws InterruptedException {
+        final var executor = new KeyOrderedExecutor(pool, 1, "test");
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var finished = new CountDownLatch(2);
+
+        assertTrue(executor.tryRun("entity-1", () -> {
+            started.countDown();
+            await(release);
+            finished.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.tryRun("entity-1", finished::countDown));
+        assertEquals(1, executor.waitingTasks());
+
+        assertFalse(executor.tryRun("entity-1", () -> { }));
+        assertTrue(executor.tryRun("entity-2", () -> { }));
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.waitingTasks());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
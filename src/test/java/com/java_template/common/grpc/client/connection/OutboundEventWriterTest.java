@@ -0,0 +1,142 @@
+package com.java_template.common.grpc.client.connection;
+
+import com.java_template.common.grpc.client.monitoring.EventTracker;
+import io.cloudevents.v1.proto.CloudEvent;
+import io.grpc.stub.ClientCallStreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for OutboundEventWriter verifying that events wait for transport readiness,
+ * are written in send order, that completing the stream flushes what was sent before, and that
+ * failing the stream cancels it from the drain rather than from the calling thread.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboundEventWriterTest {
+
+    @Mock
+    private ClientCallStreamObserver<CloudEvent> stream;
+
+    @Mock
+    private EventTracker eventTracker;
+
+    private final List<Long> latencies = new ArrayList<>();
+    private OutboundEventWriter writer;
+    private Runnable onReady;
+
+    @BeforeEach
+    void setUp() {
+        writer = new OutboundEventWriter(Runnable::run, eventTracker, latencies::add);
+        writer.attach(stream);
+        final ArgumentCaptor<Runnable> onReadyCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(stream).setOnReadyHandler(onReadyCaptor.capture());
+        onReady = onReadyCaptor.getValue();
+    }
+
+    private static CloudEvent event(final String id) {
+        return CloudEvent.newBuilder().setId(id).setType("test").build();
+    }
+
+    @Test
+    @DisplayName("events should wait while the transport is not ready and then be written in order")
+    void testWaitsForReadiness() {
+        when(stream.isReady()).thenReturn(false);
+        writer.send(event("1"));
+        writer.send(event("2"));
+
+        verify(stream, never()).onNext(any());
+        assertEquals(2, writer.backlog());
+
+        when(stream.isReady()).thenReturn(true);
+        onReady.run();
+
+        final InOrder inOrder = inOrder(stream);
+        inOrder.verify(stream).onNext(event("1"));
+        inOrder.verify(stream).onNext(event("2"));
+        verify(eventTracker, times(2)).trackEventSent(any());
+        assertEquals(0, writer.backlog());
+        assertEquals(2, latencies.size());
+    }
+
+    @Test
+    @DisplayName("completing should half-close only after the pending events are written")
+    void testCompleteFlushesFirst() {
+        when(stream.isReady()).thenReturn(false);
+        writer.send(event("1"));
+        writer.complete();
+        verify(stream, never()).onCompleted();
+
+        writer.send(event("late"));
+
+        when(stream.isReady()).thenReturn(true);
+        onReady.run();
+
+        final InOrder inOrder = inOrder(stream);
+        inOrder.verify(stream).onNext(event("1"));
+        inOrder.verify(stream).onCompleted();
+        verify(stream, never()).onNext(event("late"));
+    }
+
+    @Test
+    @DisplayName("closing should drop unwritten events")
+    void testCloseDropsPending() {
+        when(stream.isReady()).thenReturn(false);
+        writer.send(event("1"));
+        writer.close();
+
+        assertEquals(0, writer.backlog());
+        writer.send(event("2"));
+        verify(stream, never()).onNext(any());
+        assertEquals(0, writer.backlog());
+    }
+
+    @Test
+    @DisplayName("failing should cancel the stream once, from the drain, and drop unwritten events")
+    void testFailCancelsFromDrain() {
+        final Queue<Runnable> drains = new ArrayDeque<>();
+        final var queuedWriter = new OutboundEventWriter(drains::add, eventTracker, latencies::add);
+        queuedWriter.attach(stream);
+        final var error = new IllegalStateException("handshake timed out");
+
+        queuedWriter.send(event("1"));
+        queuedWriter.fail(error);
+        queuedWriter.fail(new IllegalStateException("again"));
+
+        // Nothing touches the stream until the drain runs
+        verify(stream, never()).onError(any());
+        assertEquals(1, drains.size());
+
+        drains.poll().run();
+
+        verify(stream).onError(error);
+        verify(stream, never()).onNext(any());
+        assertEquals(0, queuedWriter.backlog());
+    }
+
+    @Test
+    @DisplayName("failing a completed stream should not cancel it")
+    void testFailAfterComplete() {
+        when(stream.isReady()).thenReturn(true);
+        writer.complete();
+        verify(stream).onCompleted();
+
+        writer.fail(new IllegalStateException("late"));
+
+        verify(stream, never()).onError(any());
+    }
+}
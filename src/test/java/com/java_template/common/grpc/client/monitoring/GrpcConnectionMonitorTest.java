@@ -0,0 +1,77 @@
+package com.java_template.common.grpc.client.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for GrpcConnectionMonitor verifying that observer state and keep-alives
+ * are tracked per member stream and that state changes are broadcast with their stream.
+ */
+class GrpcConnectionMonitorTest {
+
+    @Test
+    @DisplayName("each member stream should report its own state and keep-alive")
+    void testPerStreamHealth() {
+        final var monitor = new GrpcConnectionMonitor(List.of());
+
+        monitor.trackObserverStateChange("member-0", ObserverState.CONNECTING);
+        monitor.trackObserverStateChange("member-1", ObserverState.CONNECTING);
+        monitor.trackObserverStateChange("member-0", ObserverState.READY);
+        monitor.trackStreamKeepAlive("member-0");
+
+        final var health = monitor.getMemberStreamHealth();
+        assertEquals(2, health.size());
+
+        final var first = health.get(0);
+        assertEquals("member-0", first.streamId());
+        assertTrue(first.isReady());
+        assertTrue(first.lastKeepAliveTimestampMs() > 0);
+
+        final var second = health.get(1);
+        assertEquals("member-1", second.streamId());
+        assertEquals(ObserverState.CONNECTING, second.state());
+        assertEquals(-1, second.lastKeepAliveTimestampMs());
+    }
+
+    @Test
+    @DisplayName("reconnecting should clear the stream's last keep-alive")
+    void testReconnectClearsKeepAlive() {
+        final var monitor = new GrpcConnectionMonitor(List.of());
+
+        monitor.trackObserverStateChange("member-0", ObserverState.READY);
+        monitor.trackStreamKeepAlive("member-0");
+        monitor.trackObserverStateChange("member-0", ObserverState.ERROR);
+        assertTrue(monitor.getMemberStreamHealth().get(0).lastKeepAliveTimestampMs() > 0);
+
+        monitor.trackObserverStateChange("member-0", ObserverState.CONNECTING);
+        assertEquals(-1, monitor.getMemberStreamHealth().get(0).lastKeepAliveTimestampMs());
+    }
+
+    @Test
+    @DisplayName("state changes should be broadcast with the stream they belong to")
+    void testStateChangeBroadcast() {
+        final List<StreamObserverStateChangedEvent> received = new ArrayList<>();
+        final MonitoringEventListener<MonitoringEvent> listener = new MonitoringEventListener<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Class<MonitoringEvent> getEventType() {
+                return (Class<MonitoringEvent>) (Class<?>) StreamObserverStateChangedEvent.class;
+            }
+
+            @Override
+            public void handle(final MonitoringEvent event) {
+                received.add((StreamObserverStateChangedEvent) event);
+            }
+        };
+        final var monitor = new GrpcConnectionMonitor(List.of(listener));
+
+        monitor.trackObserverStateChange("member-1", ObserverState.JOINING);
+
+        assertEquals(List.of(new StreamObserverStateChangedEvent("member-1", ObserverState.DISCONNECTED, ObserverState.JOINING)), received);
+    }
+}
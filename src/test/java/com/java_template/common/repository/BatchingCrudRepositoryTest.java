@@ -0,0 +1,156 @@
+package com.java_template.common.repository;
+
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.entity.EntityTransactionInfo;
+import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for BatchingCrudRepository verifying that concurrent writes are merged into
+ * collection requests and that the results are routed back to the individual callers.
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchingCrudRepositoryTest {
+
+    private static final ModelSpec MODEL_SPEC = new ModelSpec().withName("test-entity").withVersion(1);
+
+    @Mock
+    private CrudRepository delegate;
+
+    private ScheduledExecutorService scheduler;
+    private BatchingCrudRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        repository = new BatchingCrudRepository(delegate, 2, 60_000, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private static EntityTransactionResponse transaction(final UUID transactionId, final UUID... entityIds) {
+        return new EntityTransactionResponse().withRequestId("request")
+                .withTransactionInfo(new EntityTransactionInfo()
+                        .withTransactionId(transactionId)
+                        .withEntityIds(List.of(entityIds)));
+    }
+
+    @Test
+    @DisplayName("concurrent creates should be sent as one collection request with IDs fanned out in order")
+    void testCreatesBatchedAndIdsFannedOut() {
+        final var transactionId = UUID.randomUUID();
+        final var firstId = UUID.randomUUID();
+        final var secondId = UUID.randomUUID();
+        when(delegate.saveCollection(eq(MODEL_SPEC), eq(List.of("a", "b")), isNull(), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(transaction(transactionId, firstId, secondId))));
+
+        final var first = repository.save(MODEL_SPEC, "a");
+        final var second = repository.save(MODEL_SPEC, "b");
+
+        assertEquals(List.of(firstId), first.join().getTransactionInfo().getEntityIds());
+        assertEquals(List.of(secondId), second.join().getTransactionInfo().getEntityIds());
+        assertEquals(transactionId, first.join().getTransactionInfo().getTransactionId());
+        verify(delegate, never()).save(any(), any());
+    }
+
+    @Test
+    @DisplayName("a batch split over several transactions should map every entity to its own transaction")
+    void testCreatesSpreadOverTransactions() {
+        final var firstTransaction = UUID.randomUUID();
+        final var secondTransaction = UUID.randomUUID();
+        when(delegate.saveCollection(eq(MODEL_SPEC), anyCollection(), isNull(), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        transaction(firstTransaction, UUID.randomUUID()),
+                        transaction(secondTransaction, UUID.randomUUID()))));
+
+        final var first = repository.save(MODEL_SPEC, "a");
+        final var second = repository.save(MODEL_SPEC, "b");
+
+        assertEquals(firstTransaction, first.join().getTransactionInfo().getTransactionId());
+        assertEquals(secondTransaction, second.join().getTransactionInfo().getTransactionId());
+    }
+
+    @Test
+    @DisplayName("a failed collection request should fail every create in the batch")
+    void testFailedCreateBatchFailsAllCallers() {
+        when(delegate.saveCollection(eq(MODEL_SPEC), anyCollection(), isNull(), isNull()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("rejected")));
+
+        final var first = repository.save(MODEL_SPEC, "a");
+        final var second = repository.save(MODEL_SPEC, "b");
+
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+    }
+
+    @Test
+    @DisplayName("concurrent updates with the same transition should be sent as one collection request")
+    void testUpdatesBatchedAndDemultiplexed() {
+        final var firstId = UUID.randomUUID();
+        final var secondId = UUID.randomUUID();
+        final var transactionId = UUID.randomUUID();
+        when(delegate.updateCollection(eq(Map.of(firstId, "a", secondId, "b")), eq("ACTIVATE"), isNull(), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(transaction(transactionId, secondId, firstId))));
+
+        final var first = repository.update(firstId, "a", "ACTIVATE");
+        final var second = repository.update(secondId, "b", "ACTIVATE");
+
+        assertEquals(List.of(firstId), first.join().getTransactionInfo().getEntityIds());
+        assertEquals(List.of(secondId), second.join().getTransactionInfo().getEntityIds());
+        verify(delegate, never()).update(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("an entity missing from the responses should fail only its own caller")
+    void testMissingEntityFailsOnlyItsCaller() {
+        final var firstId = UUID.randomUUID();
+        final var secondId = UUID.randomUUID();
+        when(delegate.updateCollection(anyMap(), isNull(), isNull(), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(transaction(UUID.randomUUID(), firstId))));
+
+        final var first = repository.update(firstId, "a", null);
+        final var second = repository.update(secondId, "b", null);
+
+        assertNotNull(first.join());
+        final var exception = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("two updates of the same entity in one batch should be sent in order as separate requests")
+    void testRepeatedEntityUpdatesSentInOrder() {
+        final var entityId = UUID.randomUUID();
+        when(delegate.updateCollection(anyMap(), isNull(), isNull(), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(transaction(UUID.randomUUID(), entityId))));
+
+        final var first = repository.update(entityId, "v1", null);
+        final var second = repository.update(entityId, "v2", null);
+        first.join();
+        second.join();
+
+        final var inOrder = inOrder(delegate);
+        inOrder.verify(delegate).updateCollection(eq(Map.of(entityId, "v1")), isNull(), isNull(), isNull());
+        inOrder.verify(delegate).updateCollection(eq(Map.of(entityId, "v2")), isNull(), isNull(), isNull());
+    }
+}
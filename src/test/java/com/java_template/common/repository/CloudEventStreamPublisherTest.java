@@ -0,0 +1,138 @@
+package com.java_template.common.repository;
+
+import io.cloudevents.v1.proto.CloudEvent;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for CloudEventStreamPublisher verifying that subscriber demand is mapped
+ * onto gRPC inbound flow control and that decoding and cancellation behave correctly.
+ */
+@ExtendWith(MockitoExtension.class)
+class CloudEventStreamPublisherTest {
+
+    @Mock
+    private ClientCallStreamObserver<CloudEvent> requestStream;
+
+    private StreamObserver<CloudEvent> responseObserver;
+    private CloudEventStreamPublisher<String> publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        publisher = new CloudEventStreamPublisher<>(
+                (request, observer) -> {
+                    ((ClientResponseObserver<CloudEvent, CloudEvent>) observer).beforeStart(requestStream);
+                    responseObserver = observer;
+                },
+                CloudEvent.newBuilder().setId("request").build(),
+                event -> "skip".equals(event.getId()) ? null : event.getId()
+        );
+    }
+
+    private static CloudEvent event(final String id) {
+        return CloudEvent.newBuilder().setId(id).build();
+    }
+
+    @Test
+    @DisplayName("demand requested in onSubscribe should be flushed once the call has started")
+    void testDemandBeforeStartIsFlushed() {
+        final var subscriber = new RecordingSubscriber(2);
+
+        publisher.subscribe(subscriber);
+
+        verify(requestStream).disableAutoRequestWithInitial(0);
+        verify(requestStream).request(2);
+    }
+
+    @Test
+    @DisplayName("decoded items should be delivered in order and skipped messages should be re-requested")
+    void testItemsDeliveredAndSkippedMessagesReRequested() {
+        final var subscriber = new RecordingSubscriber(3);
+        publisher.subscribe(subscriber);
+
+        responseObserver.onNext(event("a"));
+        responseObserver.onNext(event("skip"));
+        responseObserver.onNext(event("b"));
+        responseObserver.onCompleted();
+
+        assertEquals(List.of("a", "b"), subscriber.items);
+        assertTrue(subscriber.completed);
+        verify(requestStream).request(1);
+    }
+
+    @Test
+    @DisplayName("cancelling the subscription should cancel the gRPC call and suppress further signals")
+    void testCancelCancelsCall() {
+        final var subscriber = new RecordingSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        responseObserver.onNext(event("a"));
+        responseObserver.onError(new RuntimeException("CANCELLED"));
+
+        verify(requestStream).cancel(anyString(), any());
+        assertTrue(subscriber.items.isEmpty());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    @DisplayName("a second subscriber should be rejected")
+    void testSecondSubscriberRejected() {
+        publisher.subscribe(new RecordingSubscriber(1));
+        final var second = new RecordingSubscriber(1);
+
+        publisher.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+        private final long initialDemand;
+        private final List<String> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        private RecordingSubscriber(final long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(final String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.java_template.common.repository;
+
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for CoalescingCrudRepository verifying that concurrent identical reads share one delegate call,
+ * that writes stop later reads joining the reads they affect, that completed reads are not shared,
+ * and that hits and misses are counted.
+ */
+@ExtendWith(MockitoExtension.class)
+class CoalescingCrudRepositoryTest {
+
+    @Mock
+    private CrudRepository delegate;
+
+    private CoalescingCrudRepository repository;
+    private final UUID entityId = UUID.randomUUID();
+    private final Date asAt = new Date(0);
+
+    @BeforeEach
+    void setUp() {
+        repository = new CoalescingCrudRepository(delegate);
+    }
+
+    @Test
+    @DisplayName("concurrent identical point-in-time findById calls should share a single delegate call")
+    void testConcurrentFindByIdCoalesced() {
+        final var pending = new CompletableFuture<DataPayload>();
+        when(delegate.findById(entityId, asAt)).thenReturn(pending);
+
+        final var first = repository.findById(entityId, asAt);
+        final var second = repository.findById(entityId, new Date(asAt.getTime()));
+        final var payload = new DataPayload();
+        pending.complete(payload);
+
+        assertSame(payload, first.join());
+        assertSame(payload, second.join());
+        verify(delegate, times(1)).findById(entityId, asAt);
+        assertEquals(new CoalescingCrudRepository.Stats(1, 1), repository.stats());
+    }
+
+    @Test
+    @DisplayName("concurrent identical current-state reads should share a single delegate call")
+    void testCurrentStateReadsCoalesced() {
+        final var modelSpec = new ModelSpec().withName("test-entity").withVersion(1);
+        final var pending = new CompletableFuture<Long>();
+        when(delegate.getEntityCount(modelSpec, null)).thenReturn(pending);
+
+        final var first = repository.getEntityCount(modelSpec);
+        final var second = repository.getEntityCount(modelSpec);
+        pending.complete(3L);
+
+        assertEquals(3L, first.join());
+        assertEquals(3L, second.join());
+        verify(delegate, times(1)).getEntityCount(modelSpec, null);
+        assertEquals(new CoalescingCrudRepository.Stats(1, 1), repository.stats());
+    }
+
+    @Test
+    @DisplayName("a read after a write has started should not join a read from before the write")
+    void testWriteDetachesCurrentStateReads() {
+        final var beforeWrite = new CompletableFuture<DataPayload>();
+        final var afterWrite = new CompletableFuture<DataPayload>();
+        when(delegate.findById(entityId, null)).thenReturn(beforeWrite, afterWrite);
+        when(delegate.update(eq(entityId), any(), isNull())).thenReturn(new CompletableFuture<>());
+
+        final var first = repository.findById(entityId);
+        repository.update(entityId, new Object(), null);
+        final var second = repository.findById(entityId);
+        final var staleAnswer = new DataPayload();
+        final var freshAnswer = new DataPayload();
+        beforeWrite.complete(staleAnswer);
+        afterWrite.complete(freshAnswer);
+
+        assertSame(staleAnswer, first.join());
+        assertSame(freshAnswer, second.join());
+        verify(delegate, times(2)).findById(entityId, null);
+    }
+
+    @Test
+    @DisplayName("a write should leave reads of other entities and point-in-time reads shared")
+    void testWriteKeepsUnaffectedReadsShared() {
+        final var otherId = UUID.randomUUID();
+        when(delegate.findById(otherId, null)).thenReturn(new CompletableFuture<>());
+        when(delegate.findById(entityId, asAt)).thenReturn(new CompletableFuture<>());
+        when(delegate.deleteById(entityId)).thenReturn(new CompletableFuture<>());
+
+        repository.findById(otherId);
+        repository.findById(entityId, asAt);
+        repository.deleteById(entityId);
+        repository.findById(otherId);
+        repository.findById(entityId, asAt);
+
+        verify(delegate, times(1)).findById(otherId, null);
+        verify(delegate, times(1)).findById(entityId, asAt);
+    }
+
+    @Test
+    @DisplayName("a read after the shared request completed should go to the delegate again")
+    void testCompletedRequestNotReused() {
+        final var modelSpec = new ModelSpec().withName("test-entity").withVersion(1);
+        when(delegate.getEntityCount(modelSpec, asAt)).thenReturn(CompletableFuture.completedFuture(5L));
+
+        assertEquals(5L, repository.getEntityCount(modelSpec, asAt).join());
+        assertEquals(5L, repository.getEntityCount(modelSpec, asAt).join());
+
+        verify(delegate, times(2)).getEntityCount(modelSpec, asAt);
+        assertEquals(new CoalescingCrudRepository.Stats(0, 2), repository.stats());
+    }
+
+    @Test
+    @DisplayName("reads with different keys should not be coalesced")
+    void testDifferentPointInTimeNotCoalesced() {
+        when(delegate.findById(eq(entityId), any())).thenAnswer(invocation -> new CompletableFuture<>());
+
+        repository.findById(entityId, asAt);
+        repository.findById(entityId, new Date(1));
+
+        verify(delegate).findById(entityId, asAt);
+        verify(delegate).findById(entityId, new Date(1));
+    }
+
+    @Test
+    @DisplayName("a failure should reach every waiting caller, and cancelling one caller should not affect others")
+    void testFailureSharedAndCancellationIsolated() {
+        final var pending = new CompletableFuture<DataPayload>();
+        when(delegate.findById(entityId, asAt)).thenReturn(pending);
+
+        final var cancelled = repository.findById(entityId, asAt);
+        final var waiting = repository.findById(entityId, asAt);
+        cancelled.cancel(false);
+        pending.completeExceptionally(new RuntimeException("boom"));
+
+        final var exception = assertThrows(CompletionException.class, waiting::join);
+        assertEquals("boom", exception.getCause().getMessage());
+        assertFalse(pending.isCancelled());
+    }
+}
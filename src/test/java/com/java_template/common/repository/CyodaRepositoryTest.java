@@ -0,0 +1,138 @@
+package com.java_template.common.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.grpc.client.event_handling.CloudEventBuilder;
+import com.java_template.common.grpc.client.event_handling.CloudEventParser;
+import io.cloudevents.v1.proto.CloudEvent;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.common.condition.GroupCondition;
+import org.cyoda.cloud.api.event.entity.EntityResponse;
+import org.cyoda.cloud.api.grpc.CloudEventsServiceGrpc;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for the non-blocking calls of CyodaRepository verifying that responses complete the
+ * returned future, that errors and NOT_FOUND are surfaced as before, and that cancelling a result cancels the RPC.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CyodaRepositoryTest {
+
+    private static final ModelSpec MODEL_SPEC = new ModelSpec().withName("test-entity").withVersion(1);
+
+    @Mock
+    private CloudEventsServiceGrpc.CloudEventsServiceStub stub;
+    @Mock
+    private CloudEventBuilder cloudEventBuilder;
+    @Mock
+    private CloudEventParser cloudEventParser;
+    @Mock
+    private ClientCallStreamObserver<CloudEvent> requestStream;
+
+    private StreamObserver<CloudEvent> responseObserver;
+    private CyodaRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        when(cloudEventBuilder.buildEvent(any())).thenReturn(CloudEvent.getDefaultInstance());
+        final Answer<Void> startCall = invocation -> {
+            responseObserver = invocation.getArgument(1);
+            ((ClientResponseObserver<CloudEvent, CloudEvent>) responseObserver).beforeStart(requestStream);
+            return null;
+        };
+        doAnswer(startCall).when(stub).entityManage(any(), any());
+        doAnswer(startCall).when(stub).entitySearchCollection(any(), any());
+        repository = new CyodaRepository(new ObjectMapper(), stub, cloudEventBuilder, cloudEventParser);
+    }
+
+    private DataPayload respondWithPayload() {
+        final var payload = new DataPayload();
+        final var response = new EntityResponse();
+        response.setPayload(payload);
+        when(cloudEventParser.parseCloudEvent(any(), eq(EntityResponse.class))).thenReturn(Optional.of(response));
+        return payload;
+    }
+
+    @Test
+    @DisplayName("a completed call should complete the future with the parsed response")
+    void testCompletedCall() throws Exception {
+        final var payload = respondWithPayload();
+        final var result = repository.findById(UUID.randomUUID());
+        assertFalse(result.isDone());
+
+        responseObserver.onNext(CloudEvent.getDefaultInstance());
+        responseObserver.onCompleted();
+
+        assertSame(payload, result.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("a failed call should fail the future with the gRPC error")
+    void testFailedCall() {
+        final var result = repository.findById(UUID.randomUUID());
+
+        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+
+        final var error = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertEquals(Status.Code.UNAVAILABLE, Status.fromThrowable(error.getCause()).getCode());
+    }
+
+    @Test
+    @DisplayName("NOT_FOUND from a search should give an empty result")
+    void testNotFoundGivesEmptyResult() throws Exception {
+        final var result = repository.findAllByCriteria(MODEL_SPEC, new GroupCondition(), 10, 0, true);
+
+        responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+
+        assertEquals(List.of(), result.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("cancelling the returned future should cancel the RPC")
+    void testCancellationCancelsCall() {
+        final var result = repository.findById(UUID.randomUUID());
+
+        assertTrue(result.cancel(true));
+
+        verify(requestStream).cancel(anyString(), isNull());
+        assertThrows(CancellationException.class, result::join);
+    }
+
+    @Test
+    @DisplayName("cancelling a snapshot page request should cancel the RPC")
+    void testSnapshotPageCancellationCancelsCall() {
+        final var page = repository.findSnapshotPage(UUID.randomUUID(), 10, 0);
+
+        page.cancel(true);
+
+        verify(requestStream).cancel(anyString(), isNull());
+    }
+}
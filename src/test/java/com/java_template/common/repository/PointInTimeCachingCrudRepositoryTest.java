@@ -0,0 +1,88 @@
+package com.java_template.common.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for PointInTimeCachingCrudRepository verifying that past point-in-time reads are
+ * served from the cache while current and future reads always reach the delegate.
+ */
+@ExtendWith(MockitoExtension.class)
+class PointInTimeCachingCrudRepositoryTest {
+
+    @Mock
+    private CrudRepository delegate;
+
+    private PointInTimeCachingCrudRepository repository;
+    private final UUID entityId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        repository = new PointInTimeCachingCrudRepository(delegate, new ObjectMapper(), 1_000_000);
+    }
+
+    @Test
+    @DisplayName("a repeated read as of a past point in time should be served from the cache")
+    void testPastPointInTimeCached() {
+        final var pointInTime = new Date(System.currentTimeMillis() - 60_000);
+        final var payload = new DataPayload().withType("JSON");
+        when(delegate.findById(entityId, pointInTime)).thenReturn(CompletableFuture.completedFuture(payload));
+
+        assertSame(payload, repository.findById(entityId, pointInTime).join());
+        assertSame(payload, repository.findById(entityId, new Date(pointInTime.getTime())).join());
+
+        verify(delegate, times(1)).findById(entityId, pointInTime);
+        assertEquals(1, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("reads of the current version should never be cached")
+    void testCurrentVersionNotCached() {
+        when(delegate.findById(entityId, null)).thenReturn(CompletableFuture.completedFuture(new DataPayload()));
+
+        repository.findById(entityId).join();
+        repository.findById(entityId).join();
+
+        verify(delegate, times(2)).findById(entityId, null);
+    }
+
+    @Test
+    @DisplayName("reads as of a time that has not passed yet should not be cached")
+    void testFuturePointInTimeNotCached() {
+        final var pointInTime = new Date(System.currentTimeMillis() + 3_600_000);
+        when(delegate.findById(entityId, pointInTime)).thenReturn(CompletableFuture.completedFuture(new DataPayload()));
+
+        repository.findById(entityId, pointInTime).join();
+        repository.findById(entityId, pointInTime).join();
+
+        verify(delegate, times(2)).findById(entityId, pointInTime);
+    }
+
+    @Test
+    @DisplayName("a failed read should not be cached")
+    void testFailedReadNotCached() {
+        final var pointInTime = new Date(System.currentTimeMillis() - 60_000);
+        when(delegate.findById(entityId, pointInTime))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(new DataPayload()));
+
+        assertThrows(RuntimeException.class, () -> repository.findById(entityId, pointInTime).join());
+        assertNotNull(repository.findById(entityId, pointInTime).join());
+
+        verify(delegate, times(2)).findById(entityId, pointInTime);
+    }
+}
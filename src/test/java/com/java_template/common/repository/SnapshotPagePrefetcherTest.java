@@ -0,0 +1,103 @@
+package com.java_template.common.repository;
+
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for SnapshotPagePrefetcher verifying the bounded in-flight window,
+ * in-order delivery and early termination on short pages and close.
+ */
+class SnapshotPagePrefetcherTest {
+
+    private final Map<Integer, CompletableFuture<List<DataPayload>>> requested = new HashMap<>();
+
+    private CompletableFuture<List<DataPayload>> fetch(final int pageNumber) {
+        final var page = new CompletableFuture<List<DataPayload>>();
+        requested.put(pageNumber, page);
+        return page;
+    }
+
+    private static List<DataPayload> page(final int size) {
+        return IntStream.range(0, size).mapToObj(i -> new DataPayload()).toList();
+    }
+
+    @Test
+    @DisplayName("should keep at most the prefetch window in flight and stop at the last known page")
+    void testWindowIsBoundedByPrefetchAndTotalCount() {
+        final var prefetcher = new SnapshotPagePrefetcher(this::fetch, 0, 10, 3, 45L);
+
+        assertTrue(prefetcher.hasNext());
+        assertEquals(3, requested.size());
+
+        requested.get(0).complete(page(10));
+        prefetcher.next();
+        assertEquals(4, requested.size());
+
+        requested.get(1).complete(page(10));
+        requested.get(2).complete(page(10));
+        prefetcher.next();
+        prefetcher.next();
+
+        // Pages 0..4 cover 45 entities, so page 5 is never requested
+        assertEquals(5, requested.size());
+        assertFalse(requested.containsKey(5));
+    }
+
+    @Test
+    @DisplayName("pages should be returned in page order even when they complete out of order")
+    void testPagesDeliveredInOrder() {
+        final var prefetcher = new SnapshotPagePrefetcher(this::fetch, 0, 2, 3, 6L);
+        prefetcher.hasNext();
+
+        final var first = page(2);
+        final var second = page(2);
+        final var third = page(2);
+        requested.get(2).complete(third);
+        requested.get(1).complete(second);
+        requested.get(0).complete(first);
+
+        final var pages = new ArrayList<List<DataPayload>>();
+        prefetcher.forEachRemaining(pages::add);
+
+        assertEquals(3, pages.size());
+        assertSame(first, pages.get(0));
+        assertSame(second, pages.get(1));
+        assertSame(third, pages.get(2));
+    }
+
+    @Test
+    @DisplayName("a short page should end the scan and cancel speculative requests when the total is unknown")
+    void testShortPageEndsScan() {
+        final var prefetcher = new SnapshotPagePrefetcher(this::fetch, 0, 10, 3, null);
+        prefetcher.hasNext();
+
+        requested.get(0).complete(page(4));
+        prefetcher.next();
+
+        assertFalse(prefetcher.hasNext());
+        assertTrue(requested.get(1).isCancelled());
+        assertTrue(requested.get(2).isCancelled());
+    }
+
+    @Test
+    @DisplayName("close should cancel every page still in flight")
+    void testCloseCancelsInFlightPages() {
+        final var prefetcher = new SnapshotPagePrefetcher(this::fetch, 0, 10, 2, 100L);
+        prefetcher.hasNext();
+
+        prefetcher.close();
+
+        assertTrue(requested.values().stream().allMatch(CompletableFuture::isCancelled));
+        assertFalse(prefetcher.hasNext());
+    }
+}
@@ -0,0 +1,119 @@
+package com.java_template.common.repository;
+
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for SnapshotStatusPoller verifying completion without redundant polling,
+ * polling until ready, and snapshot cancellation on timeout and caller cancellation.
+ */
+class SnapshotStatusPollerTest {
+
+    private final UUID snapshotId = UUID.randomUUID();
+    private final List<UUID> cancelled = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger statusRequests = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private SearchSnapshotStatus status(final SearchSnapshotStatus.Status status) {
+        return new SearchSnapshotStatus().withSnapshotId(snapshotId).withStatus(status);
+    }
+
+    private SnapshotStatusPoller pollerReadyAfter(final int runningAnswers) {
+        return new SnapshotStatusPoller(
+                id -> CompletableFuture.completedFuture(status(statusRequests.incrementAndGet() > runningAnswers
+                        ? SearchSnapshotStatus.Status.SUCCESSFUL
+                        : SearchSnapshotStatus.Status.RUNNING)),
+                cancelled::add,
+                scheduler,
+                1,
+                5
+        );
+    }
+
+    @Test
+    @DisplayName("a snapshot that is already successful should complete without polling")
+    void testSuccessfulSnapshotCompletesImmediately() {
+        final var result = pollerReadyAfter(0).await(status(SearchSnapshotStatus.Status.SUCCESSFUL), 1_000);
+
+        assertTrue(result.isDone());
+        assertEquals(0, statusRequests.get());
+    }
+
+    @Test
+    @DisplayName("a running snapshot should be polled until it is successful")
+    void testRunningSnapshotPolledUntilReady() throws Exception {
+        final var result = pollerReadyAfter(3).await(status(SearchSnapshotStatus.Status.RUNNING), 5_000);
+
+        assertEquals(SearchSnapshotStatus.Status.SUCCESSFUL, result.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(4, statusRequests.get());
+        assertTrue(cancelled.isEmpty());
+    }
+
+    @Test
+    @DisplayName("a failed snapshot status should fail the wait")
+    void testFailedSnapshotFailsWait() {
+        final var poller = new SnapshotStatusPoller(
+                id -> CompletableFuture.completedFuture(status(SearchSnapshotStatus.Status.FAILED)),
+                cancelled::add,
+                scheduler,
+                1,
+                5
+        );
+
+        final var result = poller.await(status(SearchSnapshotStatus.Status.RUNNING), 5_000);
+
+        final var exception = assertThrows(CompletionException.class, result::join);
+        assertTrue(exception.getCause().getMessage().contains("FAILED"));
+    }
+
+    @Test
+    @DisplayName("exceeding the await limit should fail with a timeout and cancel the snapshot")
+    void testTimeoutCancelsSnapshot() {
+        final var result = pollerReadyAfter(Integer.MAX_VALUE).await(status(SearchSnapshotStatus.Status.RUNNING), 50);
+
+        final var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertEquals(List.of(snapshotId), cancelled);
+    }
+
+    @Test
+    @DisplayName("cancelling the wait should stop polling and cancel the snapshot")
+    void testCallerCancellationCancelsSnapshot() throws Exception {
+        final var result = pollerReadyAfter(Integer.MAX_VALUE).await(status(SearchSnapshotStatus.Status.RUNNING), 5_000);
+
+        result.cancel(false);
+        final int requestsAtCancel = statusRequests.get();
+        Thread.sleep(50);
+
+        assertEquals(List.of(snapshotId), cancelled);
+        assertTrue(statusRequests.get() <= requestsAtCancel + 1);
+    }
+}
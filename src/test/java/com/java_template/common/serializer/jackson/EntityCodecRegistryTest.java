@@ -0,0 +1,70 @@
+package com.java_template.common.serializer.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import org.cyoda.cloud.api.event.common.EntityMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for EntityCodecRegistry verifying reader reuse per mapper and class, that unused
+ * mappers are not retained, and that reads behave as the ObjectMapper methods they replace.
+ */
+class EntityCodecRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("a mapper should keep one registry and one reader per class")
+    void testReadersReused() {
+        final var registry = EntityCodecRegistry.forMapper(objectMapper);
+
+        assertSame(registry, EntityCodecRegistry.forMapper(objectMapper));
+        assertNotSame(registry, EntityCodecRegistry.forMapper(new ObjectMapper()));
+        assertFalse(registry.isRegistered(EntityMetadata.class));
+        registry.register(EntityMetadata.class);
+        assertTrue(registry.isRegistered(EntityMetadata.class));
+        assertSame(registry.reader(EntityMetadata.class), registry.reader(EntityMetadata.class));
+    }
+
+    @Test
+    @DisplayName("a mapper and its registry should be released once neither is referenced")
+    void testUnusedMapperReleased() throws InterruptedException {
+        ObjectMapper adHocMapper = new ObjectMapper();
+        EntityCodecRegistry.forMapper(adHocMapper).register(EntityMetadata.class);
+        final var mapperReference = new WeakReference<>(adHocMapper);
+        adHocMapper = null;
+
+        for (int i = 0; i < 50 && mapperReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(mapperReference.get());
+    }
+
+    @Test
+    @DisplayName("reading a tree should give the same value as convertValue")
+    void testTreeReadMatchesConvertValue() {
+        final var registry = EntityCodecRegistry.forMapper(objectMapper);
+        final var tree = objectMapper.valueToTree(new EntityMetadata().withId(UUID.randomUUID()).withState("ACTIVE"));
+
+        assertEquals(objectMapper.convertValue(tree, EntityMetadata.class), registry.convertTree(tree, EntityMetadata.class));
+        assertNull(registry.convertTree(null, EntityMetadata.class));
+        assertNull(registry.convertTree(NullNode.getInstance(), EntityMetadata.class));
+    }
+
+    @Test
+    @DisplayName("a tree that does not fit the class should fail as convertValue does")
+    void testMismatchedTreeFails() {
+        final var registry = EntityCodecRegistry.forMapper(objectMapper);
+        final var tree = objectMapper.createObjectNode().put("id", "not-a-uuid");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.convertTree(tree, EntityMetadata.class));
+    }
+}
@@ -0,0 +1,287 @@
+package com.java_template.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java_template.common.repository.CrudRepository;
+import com.java_template.common.workflow.CyodaEntity;
+import com.java_template.common.workflow.OperationSpecification;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.Getter;
+import lombok.Setter;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.EntityChangeMeta;
+import org.cyoda.cloud.api.event.common.EntityMetadata;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.cyoda.cloud.api.event.common.condition.GroupCondition;
+import org.cyoda.cloud.api.event.entity.EntityDeleteResponse;
+import org.cyoda.cloud.api.event.entity.EntityTransactionInfo;
+import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for AsyncEntityServiceImpl verifying that operations return without waiting on the
+ * platform and that dependent calls are chained onto the futures they depend on.
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncEntityServiceImplTest {
+
+    private static final ModelSpec MODEL_SPEC = new ModelSpec().withName("test-entity").withVersion(1);
+
+    @Mock
+    private CrudRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AsyncEntityServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AsyncEntityServiceImpl(repository, objectMapper);
+    }
+
+    @Setter
+    @Getter
+    static class TestEntity implements CyodaEntity {
+        private String name;
+
+        @SuppressWarnings("unused") // Used by Jackson
+        public TestEntity() {}
+
+        TestEntity(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public OperationSpecification getModelKey() {
+            return new OperationSpecification.Entity(MODEL_SPEC, MODEL_SPEC.getName());
+        }
+
+        @Override
+        public boolean isValid(EntityMetadata metadata) {
+            return name != null;
+        }
+    }
+
+    private DataPayload payload(final TestEntity entity, final UUID entityId) {
+        DataPayload payload = new DataPayload();
+        payload.setData(objectMapper.valueToTree(entity));
+        payload.setMeta(objectMapper.valueToTree(new EntityMetadata().withId(entityId)));
+        return payload;
+    }
+
+    @Test
+    @DisplayName("independent lookups should all be sent before any of them completes")
+    void testLookupsOverlap() {
+        final var firstId = UUID.randomUUID();
+        final var secondId = UUID.randomUUID();
+        final var firstRead = new CompletableFuture<DataPayload>();
+        final var secondRead = new CompletableFuture<DataPayload>();
+        when(repository.findById(eq(firstId), isNull())).thenReturn(firstRead);
+        when(repository.findById(eq(secondId), isNull())).thenReturn(secondRead);
+
+        final var first = service.getById(firstId, MODEL_SPEC, TestEntity.class, null);
+        final var second = service.getById(secondId, MODEL_SPEC, TestEntity.class, null);
+
+        verify(repository).findById(firstId, null);
+        verify(repository).findById(secondId, null);
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        secondRead.complete(payload(new TestEntity("b"), secondId));
+        firstRead.complete(payload(new TestEntity("a"), firstId));
+
+        assertEquals("a", first.join().entity().getName());
+        assertEquals("b", second.join().entity().getName());
+    }
+
+    @Test
+    @DisplayName("create should chain save, change metadata and reload without blocking the caller")
+    void testCreateChainsCalls() {
+        final var entityId = UUID.randomUUID();
+        final var transactionId = UUID.randomUUID();
+        final var timeOfChange = new Date();
+        final var saved = new CompletableFuture<EntityTransactionResponse>();
+        when(repository.save(eq(MODEL_SPEC), any())).thenReturn(saved);
+
+        final var created = service.create(new TestEntity("a"), WriteMode.RELOAD);
+
+        assertFalse(created.isDone());
+        verify(repository, never()).getEntityChangesMetadata(any(), any());
+
+        when(repository.getEntityChangesMetadata(eq(entityId), isNull())).thenReturn(CompletableFuture.completedFuture(
+                List.of(new EntityChangeMeta().withTransactionId(transactionId).withTimeOfChange(timeOfChange))));
+        when(repository.findById(entityId, timeOfChange))
+                .thenReturn(CompletableFuture.completedFuture(payload(new TestEntity("a"), entityId)));
+        saved.complete(new EntityTransactionResponse().withTransactionInfo(
+                new EntityTransactionInfo().withTransactionId(transactionId).withEntityIds(List.of(entityId))));
+
+        assertTrue(created.isDone());
+        assertEquals(entityId, created.join().getId());
+    }
+
+    @Test
+    @DisplayName("an update of an unknown business ID should fail the future rather than throw")
+    void testUpdateByUnknownBusinessIdFailsFuture() {
+        when(repository.findAllByCriteria(eq(MODEL_SPEC), any(), eq(1), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        final var updated = service.updateByBusinessId(new TestEntity("missing"), "name", null);
+
+        assertTrue(updated.isCompletedExceptionally());
+        verify(repository, never()).update(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("a bulk update by business ID should resolve all IDs in one search and write them in one collection update")
+    void testUpdateAllByBusinessIdResolvesInBulk() {
+        final var entityId = UUID.randomUUID();
+        final var transactionId = UUID.randomUUID();
+        final var timeOfChange = new Date();
+        when(repository.findAllByCriteria(eq(MODEL_SPEC), any(), anyInt(), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(payload(new TestEntity("a"), entityId))));
+        when(repository.updateCollection(anyMap(), isNull(), isNull(), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(new EntityTransactionResponse().withTransactionInfo(
+                        new EntityTransactionInfo().withTransactionId(transactionId).withEntityIds(List.of(entityId))))));
+        // Only used when the default write mode reloads written entities
+        lenient().when(repository.getEntityChangesMetadata(eq(entityId), isNull())).thenReturn(CompletableFuture.completedFuture(
+                List.of(new EntityChangeMeta().withTransactionId(transactionId).withTimeOfChange(timeOfChange))));
+        lenient().when(repository.findById(entityId, timeOfChange))
+                .thenReturn(CompletableFuture.completedFuture(payload(new TestEntity("a"), entityId)));
+
+        final var result = service.updateAllByBusinessId(
+                List.of(new TestEntity("a"), new TestEntity("missing")), "name", null).join();
+
+        assertEquals(List.of("missing"), result.unresolvedBusinessIds());
+        assertEquals(1, result.updated().size());
+        assertEquals(entityId, result.updated().getFirst().getId());
+        verify(repository, times(1)).findAllByCriteria(eq(MODEL_SPEC), argThat(condition ->
+                condition.getOperator() == GroupCondition.Operator.OR && condition.getConditions().size() == 2
+        ), anyInt(), eq(1), eq(true), isNull());
+        verify(repository).updateCollection(argThat(entities -> entities.keySet().equals(Set.of(entityId))), isNull(), isNull(), isNull());
+        verify(repository, never()).update(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("a delete by condition should delete every snapshot match and report each outcome")
+    void testDeleteByConditionTalliesOutcomes() {
+        final var snapshotId = UUID.randomUUID();
+        final var deletedId = UUID.randomUUID();
+        final var goneId = UUID.randomUUID();
+        final var failedId = UUID.randomUUID();
+        final var condition = new GroupCondition().withOperator(GroupCondition.Operator.AND).withConditions(List.of());
+        when(repository.openUnsharedSnapshot(MODEL_SPEC, condition, null)).thenReturn(CompletableFuture.completedFuture(
+                new SearchSnapshotStatus().withSnapshotId(snapshotId).withEntitiesCount(3L)));
+        when(repository.findSnapshotPage(eq(snapshotId), anyInt(), eq(0))).thenReturn(CompletableFuture.completedFuture(List.of(
+                payload(new TestEntity("a"), deletedId),
+                payload(new TestEntity("b"), goneId),
+                payload(new TestEntity("c"), failedId))));
+        when(repository.deleteById(deletedId))
+                .thenReturn(CompletableFuture.completedFuture(new EntityDeleteResponse().withEntityId(deletedId)));
+        when(repository.deleteById(goneId))
+                .thenReturn(CompletableFuture.failedFuture(new StatusRuntimeException(Status.NOT_FOUND)));
+        when(repository.deleteById(failedId))
+                .thenReturn(CompletableFuture.failedFuture(new StatusRuntimeException(Status.UNAVAILABLE)));
+
+        final var result = service.deleteByCondition(MODEL_SPEC, condition).join();
+
+        assertEquals(1, result.deleted());
+        assertEquals(1, result.notFound());
+        assertEquals(Set.of(failedId), result.failures().keySet());
+        assertFalse(result.isComplete());
+        verify(repository, times(1)).findSnapshotPage(any(), anyInt(), anyInt());
+        verify(repository).cancelSnapshot(snapshotId);
+    }
+
+    @Test
+    @DisplayName("a second delete by condition should take a new snapshot and delete what matches then")
+    void testDeleteByConditionTwiceTakesFreshSnapshots() {
+        final var firstSnapshotId = UUID.randomUUID();
+        final var secondSnapshotId = UUID.randomUUID();
+        final var firstMatchId = UUID.randomUUID();
+        final var laterMatchId = UUID.randomUUID();
+        final var condition = new GroupCondition().withOperator(GroupCondition.Operator.AND).withConditions(List.of());
+        when(repository.openUnsharedSnapshot(MODEL_SPEC, condition, null))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new SearchSnapshotStatus().withSnapshotId(firstSnapshotId).withEntitiesCount(1L)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new SearchSnapshotStatus().withSnapshotId(secondSnapshotId).withEntitiesCount(1L)));
+        when(repository.findSnapshotPage(eq(firstSnapshotId), anyInt(), eq(0))).thenReturn(CompletableFuture.completedFuture(
+                List.of(payload(new TestEntity("a"), firstMatchId))));
+        when(repository.findSnapshotPage(eq(secondSnapshotId), anyInt(), eq(0))).thenReturn(CompletableFuture.completedFuture(
+                List.of(payload(new TestEntity("b"), laterMatchId))));
+        when(repository.deleteById(any())).thenAnswer(invocation -> CompletableFuture.completedFuture(
+                new EntityDeleteResponse().withEntityId(invocation.getArgument(0))));
+
+        final var first = service.deleteByCondition(MODEL_SPEC, condition).join();
+        final var second = service.deleteByCondition(MODEL_SPEC, condition).join();
+
+        assertEquals(1, first.deleted());
+        assertEquals(1, second.deleted());
+        assertEquals(0, second.notFound());
+        verify(repository).deleteById(firstMatchId);
+        verify(repository).deleteById(laterMatchId);
+        verify(repository).cancelSnapshot(firstSnapshotId);
+        verify(repository).cancelSnapshot(secondSnapshotId);
+        verify(repository, never()).openSnapshot(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("a delete by business IDs should resolve them in bulk and count the unknown ones")
+    void testDeleteAllByBusinessId() {
+        final var entityId = UUID.randomUUID();
+        when(repository.findAllByCriteria(eq(MODEL_SPEC), any(), anyInt(), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(payload(new TestEntity("a"), entityId))));
+        when(repository.deleteById(entityId))
+                .thenReturn(CompletableFuture.completedFuture(new EntityDeleteResponse().withEntityId(entityId)));
+
+        final var result = service.deleteAllByBusinessId(MODEL_SPEC, List.of("a", "missing", "a"), "name").join();
+
+        assertEquals(1, result.deleted());
+        assertEquals(1, result.notFound());
+        assertTrue(result.isComplete());
+        verify(repository, times(1)).findAllByCriteria(eq(MODEL_SPEC), any(), anyInt(), eq(1), eq(true), isNull());
+    }
+
+    @Test
+    @DisplayName("business IDs cut off by a full search page should be resolved from a snapshot")
+    void testResolveBusinessIdsPastFullPage() {
+        final var snapshotId = UUID.randomUUID();
+        final var targetId = UUID.randomUUID();
+        // 100 entities share one business ID and fill the first page
+        final List<DataPayload> duplicates = IntStream.range(0, 100)
+                .mapToObj(i -> payload(new TestEntity("dup"), UUID.randomUUID()))
+                .toList();
+        when(repository.findAllByCriteria(eq(MODEL_SPEC), any(), anyInt(), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(duplicates));
+        when(repository.openUnsharedSnapshot(eq(MODEL_SPEC), any(), isNull())).thenReturn(CompletableFuture.completedFuture(
+                new SearchSnapshotStatus().withSnapshotId(snapshotId).withEntitiesCount(101L)));
+        when(repository.findSnapshotPage(snapshotId, 100, 0)).thenReturn(CompletableFuture.completedFuture(duplicates));
+        when(repository.findSnapshotPage(snapshotId, 100, 1)).thenReturn(CompletableFuture.completedFuture(
+                List.of(payload(new TestEntity("target"), targetId))));
+        when(repository.deleteById(any())).thenAnswer(invocation -> CompletableFuture.completedFuture(
+                new EntityDeleteResponse().withEntityId(invocation.getArgument(0))));
+
+        final var result = service.deleteAllByBusinessId(MODEL_SPEC, List.of("dup", "target"), "name").join();
+
+        assertEquals(2, result.deleted());
+        assertEquals(0, result.notFound());
+        verify(repository).deleteById(targetId);
+        verify(repository).cancelSnapshot(snapshotId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.java_template.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for BusinessIdIndex verifying lookups per model and field, indexing of written
+ * entities and invalidation.
+ */
+class BusinessIdIndexTest {
+
+    private static final ModelSpec ORDERS = new ModelSpec().withName("orders").withVersion(1);
+    private static final ModelSpec ORDERS_V2 = new ModelSpec().withName("orders").withVersion(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID entityId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("an indexed business ID should resolve only for its own model version and field")
+    void testLookupScopedToModelAndField() {
+        final var index = new BusinessIdIndex(100);
+
+        index.put(ORDERS, "orderNumber", "ORD-1", entityId);
+
+        assertEquals(entityId, index.get(ORDERS, "orderNumber", "ORD-1"));
+        assertNull(index.get(ORDERS_V2, "orderNumber", "ORD-1"));
+        assertNull(index.get(ORDERS, "reference", "ORD-1"));
+    }
+
+    @Test
+    @DisplayName("written entities should be indexed under fields of their model that were looked up before")
+    void testWrittenEntityIndexedUnderKnownFields() {
+        final var index = new BusinessIdIndex(100);
+        index.put(ORDERS, "orderNumber", "ORD-1", UUID.randomUUID());
+        final var data = objectMapper.valueToTree(Map.of("orderNumber", "ORD-2", "reference", "REF-2"));
+
+        index.putWritten(ORDERS, data, entityId);
+
+        assertEquals(entityId, index.get(ORDERS, "orderNumber", "ORD-2"));
+        assertNull(index.get(ORDERS, "reference", "REF-2"));
+    }
+
+    @Test
+    @DisplayName("invalidation should drop single business IDs and whole models")
+    void testInvalidation() {
+        final var index = new BusinessIdIndex(100);
+        index.put(ORDERS, "orderNumber", "ORD-1", entityId);
+        index.put(ORDERS, "orderNumber", "ORD-2", UUID.randomUUID());
+        index.put(ORDERS_V2, "orderNumber", "ORD-3", UUID.randomUUID());
+
+        index.invalidate(ORDERS, "orderNumber", "ORD-1");
+        assertNull(index.get(ORDERS, "orderNumber", "ORD-1"));
+        assertNotNull(index.get(ORDERS, "orderNumber", "ORD-2"));
+
+        index.invalidateModel(ORDERS);
+        assertNull(index.get(ORDERS, "orderNumber", "ORD-2"));
+        assertNotNull(index.get(ORDERS_V2, "orderNumber", "ORD-3"));
+    }
+
+    @Test
+    @DisplayName("a zero size should disable the index")
+    void testDisabled() {
+        final var index = new BusinessIdIndex(0);
+
+        index.put(ORDERS, "orderNumber", "ORD-1", entityId);
+
+        assertNull(index.get(ORDERS, "orderNumber", "ORD-1"));
+        assertFalse(index.isIndexed(ORDERS));
+    }
+}
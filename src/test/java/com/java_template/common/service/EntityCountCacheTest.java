@@ -0,0 +1,88 @@
+package com.java_template.common.service;
+
+import com.java_template.common.repository.CrudRepository;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for EntityCountCache verifying reuse of counts per model and point in time,
+ * invalidation of one or all models and the disabled mode.
+ */
+@ExtendWith(MockitoExtension.class)
+class EntityCountCacheTest {
+
+    private static final ModelSpec ORDERS = new ModelSpec().withName("orders").withVersion(1);
+
+    @Mock
+    private CrudRepository repository;
+
+    @Test
+    @DisplayName("repeated counts of a model should reach the repository once per point in time")
+    void testCountsReusedPerPointInTime() {
+        final var pointInTime = new Date(1_000L);
+        when(repository.getEntityCount(eq(ORDERS), isNull())).thenReturn(CompletableFuture.completedFuture(5L));
+        when(repository.getEntityCount(ORDERS, pointInTime)).thenReturn(CompletableFuture.completedFuture(3L));
+        final var cache = new EntityCountCache(repository, 60_000);
+
+        assertEquals(5L, cache.get(ORDERS, null).join());
+        assertEquals(5L, cache.get(ORDERS, null).join());
+        assertEquals(3L, cache.get(ORDERS, new Date(1_000L)).join());
+
+        verify(repository, times(1)).getEntityCount(ORDERS, null);
+        verify(repository, times(1)).getEntityCount(ORDERS, pointInTime);
+    }
+
+    @Test
+    @DisplayName("invalidating a model should count it again")
+    void testInvalidateModel() {
+        when(repository.getEntityCount(eq(ORDERS), isNull())).thenReturn(CompletableFuture.completedFuture(5L));
+        final var cache = new EntityCountCache(repository, 60_000);
+
+        cache.get(ORDERS, null).join();
+        cache.invalidateModel(ORDERS);
+        cache.get(ORDERS, null).join();
+
+        verify(repository, times(2)).getEntityCount(ORDERS, null);
+    }
+
+    @Test
+    @DisplayName("invalidating all models should count every model again")
+    void testInvalidateAll() {
+        final var customers = new ModelSpec().withName("customers").withVersion(1);
+        when(repository.getEntityCount(eq(ORDERS), isNull())).thenReturn(CompletableFuture.completedFuture(5L));
+        when(repository.getEntityCount(eq(customers), isNull())).thenReturn(CompletableFuture.completedFuture(2L));
+        final var cache = new EntityCountCache(repository, 60_000);
+
+        cache.get(ORDERS, null).join();
+        cache.get(customers, null).join();
+        cache.invalidateAll();
+        cache.get(ORDERS, null).join();
+        cache.get(customers, null).join();
+
+        verify(repository, times(2)).getEntityCount(ORDERS, null);
+        verify(repository, times(2)).getEntityCount(customers, null);
+    }
+
+    @Test
+    @DisplayName("a zero time to live should count on every call")
+    void testDisabled() {
+        when(repository.getEntityCount(eq(ORDERS), isNull())).thenReturn(CompletableFuture.completedFuture(5L));
+        final var cache = new EntityCountCache(repository, 0);
+
+        cache.get(ORDERS, null).join();
+        cache.get(ORDERS, null).join();
+
+        verify(repository, times(2)).getEntityCount(ORDERS, null);
+    }
+}
@@ -2,10 +2,14 @@ package com.java_template.common.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.java_template.common.dto.EntityBatch;
 import com.java_template.common.dto.EntityWithMetadata;
+import com.java_template.common.dto.SearchCursorPage;
 import com.java_template.common.repository.CrudRepository;
 import com.java_template.common.workflow.CyodaEntity;
 import com.java_template.common.workflow.OperationSpecification;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import lombok.Getter;
 import lombok.Setter;
 import org.cyoda.cloud.api.event.common.DataPayload;
@@ -19,18 +23,22 @@ import org.cyoda.cloud.api.event.entity.EntityDeleteAllResponse;
 import org.cyoda.cloud.api.event.entity.EntityDeleteResponse;
 import org.cyoda.cloud.api.event.entity.EntityTransactionInfo;
 import org.cyoda.cloud.api.event.entity.EntityTransactionResponse;
+import org.cyoda.cloud.api.event.search.SearchSnapshotStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -62,7 +70,7 @@ class EntityServiceImplTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        entityService = new EntityServiceImpl(repository, objectMapper);
+        entityService = new EntityServiceImpl(repository, objectMapper, new AsyncEntityServiceImpl(repository, objectMapper));
         testEntityId = UUID.randomUUID();
         testEntityId2 = UUID.randomUUID();
         testEntity = new TestEntity(123L, "Test Entity", "ACTIVE");
@@ -268,6 +276,43 @@ class EntityServiceImplTest {
         verify(repository).save(eq(createTestModelSpec()), any());
     }
 
+    @Test
+    @DisplayName("create in FAST mode should return the submitted entity with its new ID without reloading it")
+    void testCreateFastModeSkipsReload() {
+        UUID savedEntityId = UUID.randomUUID();
+        when(repository.save(eq(createTestModelSpec()), any()))
+                .thenReturn(CompletableFuture.completedFuture(createTransactionResponse(savedEntityId)));
+
+        EntityWithMetadata<TestEntity> result = entityService.create(testEntity, WriteMode.FAST);
+
+        assertSame(testEntity, result.entity());
+        assertEquals(savedEntityId, result.metadata().getId());
+        assertEquals(createTestModelSpec(), result.metadata().getModelKey());
+        verify(repository, never()).getEntityChangesMetadata(any(), any());
+        verify(repository, never()).findById(any(), any());
+    }
+
+    @Test
+    @DisplayName("save in FAST mode should pair entities with IDs across transactions in submission order")
+    void testSaveFastModePairsIdsInOrder() {
+        Collection<TestEntity> entities = List.of(testEntity, testEntity2);
+        when(repository.saveCollection(eq(createTestModelSpec()), eq(entities), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        createTransactionResponse(testEntityId),
+                        createTransactionResponse(testEntityId2)
+                )));
+
+        List<EntityWithMetadata<TestEntity>> result = entityService.save(entities, null, null, WriteMode.FAST);
+
+        assertEquals(2, result.size());
+        assertSame(testEntity, result.getFirst().entity());
+        assertEquals(testEntityId, result.getFirst().getId());
+        assertSame(testEntity2, result.get(1).entity());
+        assertEquals(testEntityId2, result.get(1).getId());
+        verify(repository, never()).getEntityChangesMetadata(any(), any());
+        verify(repository, never()).findById(any(), any());
+    }
+
     @Test
     @DisplayName("deleteById should return entity ID when successful")
     void testDeleteByIdSuccess() {
@@ -380,7 +425,7 @@ class EntityServiceImplTest {
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(repository, never()).saveAll(any(ModelSpec.class), any());
+        verify(repository, never()).saveCollection(any(ModelSpec.class), any(), any(), any());
     }
 
     @Test
@@ -495,6 +540,42 @@ class EntityServiceImplTest {
         verify(repository).findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull());
     }
 
+    @Test
+    @DisplayName("findByBusinessId should resolve a business ID found before by reading the entity instead of searching")
+    void testFindByBusinessIdUsesIndex() {
+        TestEntity entityWithBusinessId = new TestEntity(123L, "TEST-123", "ACTIVE");
+        DataPayload payload = createTestDataPayload(entityWithBusinessId, testEntityId);
+        when(repository.findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(payload)));
+        when(repository.findById(testEntityId, null)).thenReturn(CompletableFuture.completedFuture(payload));
+
+        entityService.findByBusinessId(createTestModelSpec(), "TEST-123", BUSINESS_ID_FIELD, TestEntity.class);
+        EntityWithMetadata<TestEntity> result = entityService.findByBusinessId(createTestModelSpec(), "TEST-123", BUSINESS_ID_FIELD, TestEntity.class);
+
+        assertEquals(testEntityId, result.metadata().getId());
+        verify(repository, times(1)).findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull());
+        verify(repository).findById(testEntityId, null);
+    }
+
+    @Test
+    @DisplayName("findByBusinessId should search again when the indexed entity no longer carries the business ID")
+    void testFindByBusinessIdStaleIndexFallsBackToSearch() {
+        TestEntity entityWithBusinessId = new TestEntity(123L, "TEST-123", "ACTIVE");
+        TestEntity renamedEntity = new TestEntity(123L, "TEST-999", "ACTIVE");
+        UUID newEntityId = UUID.randomUUID();
+        when(repository.findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(createTestDataPayload(entityWithBusinessId, testEntityId))))
+                .thenReturn(CompletableFuture.completedFuture(List.of(createTestDataPayload(entityWithBusinessId, newEntityId))));
+        when(repository.findById(testEntityId, null))
+                .thenReturn(CompletableFuture.completedFuture(createTestDataPayload(renamedEntity, testEntityId)));
+
+        entityService.findByBusinessId(createTestModelSpec(), "TEST-123", BUSINESS_ID_FIELD, TestEntity.class);
+        EntityWithMetadata<TestEntity> result = entityService.findByBusinessId(createTestModelSpec(), "TEST-123", BUSINESS_ID_FIELD, TestEntity.class);
+
+        assertEquals(newEntityId, result.metadata().getId());
+        verify(repository, times(2)).findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull());
+    }
+
     @Test
     @DisplayName("findByBusinessId should handle repository failure")
     void testFindByBusinessIdRepositoryFailure() {
@@ -506,6 +587,45 @@ class EntityServiceImplTest {
         verify(repository).findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull());
     }
 
+    @Test
+    @DisplayName("updateByBusinessId should throw the service's not-found exception unwrapped")
+    void testUpdateByBusinessIdNotFound() {
+        TestEntity entityWithBusinessId = new TestEntity(123L, "MISSING-1", "ACTIVE");
+        when(repository.findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> entityService.updateByBusinessId(entityWithBusinessId, BUSINESS_ID_FIELD, null));
+
+        assertNotEquals(CompletionException.class, exception.getClass());
+        assertEquals("Entity not found with business ID: MISSING-1", exception.getMessage());
+        verify(repository, never()).update(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("a failed gRPC call should still surface as the CompletionException of join()")
+    void testGrpcFailureStaysWrapped() {
+        when(repository.findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.failedFuture(new StatusRuntimeException(Status.UNAVAILABLE)));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> entityService.findByBusinessId(createTestModelSpec(), "TEST-123", BUSINESS_ID_FIELD, TestEntity.class));
+
+        assertInstanceOf(StatusRuntimeException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("a repository failure should surface as the CompletionException of join(), not unwrapped")
+    void testRepositoryFailureStaysWrapped() {
+        when(repository.findAllByCriteria(eq(createTestModelSpec()), any(GroupCondition.class), eq(1), eq(1), eq(true), isNull()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Snapshot search failed: FAILED")));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> entityService.findByBusinessId(createTestModelSpec(), "TEST-123", BUSINESS_ID_FIELD, TestEntity.class));
+
+        assertEquals("Snapshot search failed: FAILED", exception.getCause().getMessage());
+    }
+
     @Test
     @DisplayName("findAll should call repository.findAll with correct model parameters")
     void testFindAllRepositoryCall() {
@@ -523,6 +643,23 @@ class EntityServiceImplTest {
         verify(repository).findAll(createTestModelSpec(), 100, 1, null);
     }
 
+    @Test
+    @DisplayName("findAll with a Pageable should issue the count request before waiting for the page")
+    void testFindAllPageableRequestsCountConcurrently() {
+        when(repository.getEntityCount(createTestModelSpec(), null)).thenReturn(CompletableFuture.completedFuture(42L));
+        when(repository.findAll(createTestModelSpec(), 10, 3, null))
+                .thenReturn(CompletableFuture.completedFuture(List.of(createTestDataPayload(testEntity, testEntityId))));
+
+        Page<EntityWithMetadata<TestEntity>> result = entityService.findAll(
+                createTestModelSpec(), PageRequest.of(2, 10), TestEntity.class);
+
+        assertEquals(1, result.getNumberOfElements());
+        assertEquals(42L, result.getTotalElements());
+        var inOrder = inOrder(repository);
+        inOrder.verify(repository).getEntityCount(createTestModelSpec(), null);
+        inOrder.verify(repository).findAll(createTestModelSpec(), 10, 3, null);
+    }
+
     @Test
     @DisplayName("findAll should handle repository failure")
     void testFindAllRepositoryFailure() {
@@ -808,24 +945,25 @@ class EntityServiceImplTest {
     }
 
     @Test
-    @DisplayName("saveAll should call repository.saveAll with non-empty collection")
+    @DisplayName("saveAll should reload every entity at the time of its own transaction when the save spans several")
     void testCreateAllWithEntitiesRepositoryCall() {
         Collection<TestEntity> entities = List.of(testEntity, testEntity2);
-        EntityTransactionInfo transactionInfo = new EntityTransactionInfo();
-        transactionInfo.setEntityIds(List.of(testEntityId, testEntityId2));
-        transactionInfo.setTransactionId(UUID.randomUUID());
-        EntityTransactionResponse transactionResponse = new EntityTransactionResponse();
-        transactionResponse.setTransactionInfo(transactionInfo);
+        UUID firstTransactionId = UUID.randomUUID();
+        UUID secondTransactionId = UUID.randomUUID();
+        EntityTransactionResponse firstResponse = new EntityTransactionResponse().withTransactionInfo(
+                new EntityTransactionInfo().withTransactionId(firstTransactionId).withEntityIds(List.of(testEntityId)));
+        EntityTransactionResponse secondResponse = new EntityTransactionResponse().withTransactionInfo(
+                new EntityTransactionInfo().withTransactionId(secondTransactionId).withEntityIds(List.of(testEntityId2)));
 
-        when(repository.saveAll(eq(createTestModelSpec()), eq(entities), any(), any()))
-                .thenReturn(CompletableFuture.completedFuture(transactionResponse));
+        when(repository.saveCollection(eq(createTestModelSpec()), eq(entities), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(firstResponse, secondResponse)));
 
         when(repository.findById(eq(testEntityId), any()))
                 .thenReturn(CompletableFuture.completedFuture(createTestDataPayload(testEntity, testEntityId)));
         when(repository.getEntityChangesMetadata(eq(testEntityId), isNull()))
                 .thenReturn(CompletableFuture.completedFuture(List.of(
                         new EntityChangeMeta()
-                                .withTransactionId(transactionResponse.getTransactionInfo().getTransactionId())
+                                .withTransactionId(firstTransactionId)
                                 .withTimeOfChange(new Date())
                 )));
 
@@ -834,7 +972,7 @@ class EntityServiceImplTest {
         when(repository.getEntityChangesMetadata(eq(testEntityId2), isNull()))
                 .thenReturn(CompletableFuture.completedFuture(List.of(
                         new EntityChangeMeta()
-                                .withTransactionId(transactionResponse.getTransactionInfo().getTransactionId())
+                                .withTransactionId(secondTransactionId)
                                 .withTimeOfChange(new Date())
                 )));
 
@@ -847,18 +985,18 @@ class EntityServiceImplTest {
         assertEntityMatches(result.get(1).entity(), testEntity2);
         assertEquals(testEntityId, result.getFirst().metadata().getId());
         assertEquals(testEntityId2, result.get(1).metadata().getId());
-        verify(repository).saveAll(eq(createTestModelSpec()), eq(entities), any(), any());
+        verify(repository).saveCollection(eq(createTestModelSpec()), eq(entities), any(), any());
     }
 
     @Test
     @DisplayName("saveAll should handle repository failure with non-empty collection")
     void testCreateAllWithEntitiesRepositoryFailure() {
         Collection<TestEntity> entities = List.of(testEntity, testEntity2);
-        when(repository.saveAll(eq(createTestModelSpec()), eq(entities), any(), any()))
+        when(repository.saveCollection(eq(createTestModelSpec()), eq(entities), any(), any()))
                 .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Save all failed")));
 
         assertRepositoryFailure(() -> entityService.save(entities), "Save all failed");
-        verify(repository).saveAll(eq(createTestModelSpec()), eq(entities), any(), any());
+        verify(repository).saveCollection(eq(createTestModelSpec()), eq(entities), any(), any());
     }
 
     @Test
@@ -878,4 +1016,105 @@ class EntityServiceImplTest {
         assertEquals(mockTransactionInfo, result);
         verify(repository).saveAll(eq(createTestModelSpec()), any());
     }
+
+    @Test
+    @DisplayName("searchWithCursor should page through one snapshot and stop at the reported total")
+    void testSearchWithCursorPagesThroughSnapshot() {
+        UUID snapshotId = UUID.randomUUID();
+        GroupCondition condition = createActiveStatusCondition();
+        when(repository.openSnapshot(eq(createTestModelSpec()), eq(condition), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new SearchSnapshotStatus().withSnapshotId(snapshotId).withEntitiesCount(3L)));
+        when(repository.findSnapshotPage(snapshotId, 2, 0))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        createTestDataPayload(testEntity, testEntityId),
+                        createTestDataPayload(testEntity2, testEntityId2))));
+        when(repository.findSnapshotPage(snapshotId, 2, 1))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        createTestDataPayload(testEntity, testEntityId))));
+
+        SearchCursorPage<TestEntity> first = entityService.searchWithCursor(
+                createTestModelSpec(), condition, TestEntity.class, 2, null, null);
+        SearchCursorPage<TestEntity> second = entityService.searchWithCursor(
+                createTestModelSpec(), condition, TestEntity.class, 2, first.nextCursor(), null);
+
+        assertEquals(2, first.items().size());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.items().size());
+        assertFalse(second.hasNext());
+        assertEquals(3L, second.totalElements());
+    }
+
+    @Test
+    @DisplayName("searchWithCursor should keep paging the first snapshot when snapshots are not reused (TTL 0)")
+    void testSearchWithCursorWithoutSnapshotReuse() {
+        UUID snapshotId = UUID.randomUUID();
+        GroupCondition condition = createActiveStatusCondition();
+        // With SNAPSHOT_CURSOR_TTL_MS=0 every open gives a new snapshot
+        when(repository.openSnapshot(eq(createTestModelSpec()), eq(condition), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new SearchSnapshotStatus().withSnapshotId(snapshotId).withEntitiesCount(3L)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new SearchSnapshotStatus().withSnapshotId(UUID.randomUUID()).withEntitiesCount(3L)));
+        when(repository.findSnapshotPage(snapshotId, 2, 0))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        createTestDataPayload(testEntity, testEntityId),
+                        createTestDataPayload(testEntity2, testEntityId2))));
+        when(repository.findSnapshotPage(snapshotId, 2, 1))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        createTestDataPayload(testEntity, testEntityId))));
+
+        SearchCursorPage<TestEntity> first = entityService.searchWithCursor(
+                createTestModelSpec(), condition, TestEntity.class, 2, null, null);
+        SearchCursorPage<TestEntity> second = entityService.searchWithCursor(
+                createTestModelSpec(), condition, TestEntity.class, 2, first.nextCursor(), null);
+
+        assertEquals(1, second.items().size());
+        assertEquals(3L, second.totalElements());
+        verify(repository, times(1)).openSnapshot(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("searchWithCursor should reject a cursor whose snapshot is gone without opening a new one")
+    void testSearchWithCursorRejectsExpiredCursor() {
+        GroupCondition condition = createActiveStatusCondition();
+        UUID snapshotId = UUID.randomUUID();
+        String staleCursor = new SearchCursor(snapshotId, 10, 1, 25L).encode();
+        // An unknown snapshot reads as an empty page
+        when(repository.findSnapshotPage(snapshotId, 10, 1))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        assertThrows(IllegalStateException.class, () -> entityService.searchWithCursor(
+                createTestModelSpec(), condition, TestEntity.class, 10, staleCursor, null));
+        verify(repository, never()).openSnapshot(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getByIds should return found entities in input order and report missing IDs")
+    void testGetByIdsReportsMissingIds() {
+        UUID missingId = UUID.randomUUID();
+        when(repository.findById(eq(testEntityId2), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(createTestDataPayload(testEntity2, testEntityId2)));
+        when(repository.findById(eq(missingId), isNull()))
+                .thenReturn(CompletableFuture.failedFuture(new StatusRuntimeException(Status.NOT_FOUND)));
+        when(repository.findById(eq(testEntityId), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(createTestDataPayload(testEntity, testEntityId)));
+
+        EntityBatch<TestEntity> result = entityService.getByIds(
+                List.of(testEntityId2, missingId, testEntityId), createTestModelSpec(), TestEntity.class, null);
+
+        assertEquals(List.of(testEntityId2, testEntityId), result.entities().stream().map(EntityWithMetadata::getId).toList());
+        assertEquals(List.of(missingId), result.missingIds());
+        assertFalse(result.isComplete());
+    }
+
+    @Test
+    @DisplayName("getByIds should fail when a read fails for a reason other than a missing entity")
+    void testGetByIdsPropagatesOtherFailures() {
+        when(repository.findById(eq(testEntityId), isNull()))
+                .thenReturn(CompletableFuture.failedFuture(new StatusRuntimeException(Status.UNAVAILABLE)));
+
+        assertThrows(CompletionException.class, () -> entityService.getByIds(
+                List.of(testEntityId), createTestModelSpec(), TestEntity.class, null));
+    }
 }
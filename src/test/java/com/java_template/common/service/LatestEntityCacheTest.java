@@ -0,0 +1,143 @@
+package com.java_template.common.service;
+
+import com.java_template.common.repository.CrudRepository;
+import org.cyoda.cloud.api.event.common.DataPayload;
+import org.cyoda.cloud.api.event.common.ModelSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * ABOUTME: Tests for LatestEntityCache verifying per-model opt-in, reuse of cached entities,
+ * background refresh and invalidation by entity and by model.
+ */
+@ExtendWith(MockitoExtension.class)
+class LatestEntityCacheTest {
+
+    private static final ModelSpec PRICES = new ModelSpec().withName("prices").withVersion(1);
+    private static final ModelSpec ORDERS = new ModelSpec().withName("orders").withVersion(1);
+
+    @Mock
+    private CrudRepository repository;
+
+    private final UUID entityId = UUID.randomUUID();
+
+    private LatestEntityCache cache(final String models) {
+        return new LatestEntityCache(repository, models, 60_000, 30_000, 100);
+    }
+
+    @Test
+    @DisplayName("repeated reads of an opted-in model should reach the repository once")
+    void testOptedInModelCached() {
+        final var payload = new DataPayload();
+        when(repository.findById(eq(entityId), isNull())).thenReturn(CompletableFuture.completedFuture(payload));
+        final var cache = cache("prices");
+
+        assertSame(payload, cache.get(entityId, PRICES).join());
+        assertSame(payload, cache.get(entityId, PRICES).join());
+
+        verify(repository, times(1)).findById(entityId, null);
+    }
+
+    @Test
+    @DisplayName("models that are not opted in should always be read from the repository")
+    void testOtherModelsNotCached() {
+        when(repository.findById(eq(entityId), isNull())).thenReturn(CompletableFuture.completedFuture(new DataPayload()));
+        final var cache = cache("prices, orders:2");
+
+        cache.get(entityId, ORDERS).join();
+        cache.get(entityId, ORDERS).join();
+
+        assertTrue(cache.isCached(PRICES));
+        assertFalse(cache.isCached(ORDERS));
+        verify(repository, times(2)).findById(entityId, null);
+    }
+
+    @Test
+    @DisplayName("an invalidated entity should be read from the repository again")
+    void testInvalidateEntity() {
+        when(repository.findById(eq(entityId), isNull())).thenReturn(CompletableFuture.completedFuture(new DataPayload()));
+        final var cache = cache("prices");
+
+        cache.get(entityId, PRICES).join();
+        cache.invalidate(entityId);
+        cache.get(entityId, PRICES).join();
+
+        verify(repository, times(2)).findById(entityId, null);
+    }
+
+    @Test
+    @DisplayName("invalidating a model should drop only that model's entities")
+    void testInvalidateModel() {
+        final var otherId = UUID.randomUUID();
+        when(repository.findById(any(), isNull())).thenReturn(CompletableFuture.completedFuture(new DataPayload()));
+        final var cache = cache("prices,orders");
+
+        cache.get(entityId, PRICES).join();
+        cache.get(otherId, ORDERS).join();
+        cache.invalidateModel(PRICES);
+        cache.get(entityId, PRICES).join();
+        cache.get(otherId, ORDERS).join();
+
+        verify(repository, times(2)).findById(entityId, null);
+        verify(repository, times(1)).findById(otherId, null);
+    }
+
+    @Test
+    @DisplayName("an entry read after the refresh interval should be served while it is reloaded")
+    void testRefreshAhead() throws InterruptedException {
+        final var stale = new DataPayload();
+        final var fresh = new DataPayload();
+        when(repository.findById(eq(entityId), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(stale))
+                .thenReturn(CompletableFuture.completedFuture(fresh));
+        final var cache = new LatestEntityCache(repository, "prices", 60_000, 50, 100);
+
+        assertSame(stale, cache.get(entityId, PRICES).join());
+        Thread.sleep(100);
+
+        assertSame(stale, cache.get(entityId, PRICES).join());
+        assertSame(fresh, cache.get(entityId, PRICES).join());
+        verify(repository, times(2)).findById(entityId, null);
+    }
+
+    @Test
+    @DisplayName("a refresh should not bring back an entity invalidated while it was reloading")
+    void testRefreshDoesNotUndoInvalidation() throws InterruptedException {
+        final var reload = new CompletableFuture<DataPayload>();
+        final var afterWrite = new DataPayload();
+        when(repository.findById(eq(entityId), isNull()))
+                .thenReturn(CompletableFuture.completedFuture(new DataPayload()))
+                .thenReturn(reload)
+                .thenReturn(CompletableFuture.completedFuture(afterWrite));
+        final var cache = new LatestEntityCache(repository, "prices", 60_000, 50, 100);
+
+        cache.get(entityId, PRICES).join();
+        Thread.sleep(100);
+        cache.get(entityId, PRICES).join();
+        cache.invalidate(entityId);
+        assertSame(afterWrite, cache.get(entityId, PRICES).join());
+        reload.complete(new DataPayload());
+
+        assertSame(afterWrite, cache.get(entityId, PRICES).join());
+    }
+
+    @Test
+    @DisplayName("an empty model list should disable the cache")
+    void testDisabledWithoutModels() {
+        final var cache = cache("");
+
+        assertFalse(cache.isCached(PRICES));
+        cache.invalidateAll(List.of(entityId));
+    }
+}
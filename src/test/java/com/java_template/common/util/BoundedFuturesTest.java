@@ -0,0 +1,71 @@
+package com.java_template.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for BoundedFutures verifying the in-flight limit, result ordering
+ * and that a failure stops further calls from starting.
+ */
+class BoundedFuturesTest {
+
+    @Test
+    @DisplayName("no more than the in-flight limit of calls should be outstanding at once")
+    void testInFlightLimit() {
+        final var pending = new ArrayList<CompletableFuture<Integer>>();
+
+        final var result = BoundedFutures.mapBounded(List.of(1, 2, 3, 4, 5), 2, item -> {
+            final var future = new CompletableFuture<Integer>();
+            pending.add(future);
+            return future;
+        });
+
+        assertEquals(2, pending.size());
+        pending.get(1).complete(20);
+        assertEquals(3, pending.size());
+        pending.get(0).complete(10);
+        pending.get(2).complete(30);
+        assertEquals(5, pending.size());
+        pending.get(4).complete(50);
+        assertFalse(result.isDone());
+        pending.get(3).complete(40);
+
+        assertEquals(List.of(10, 20, 30, 40, 50), result.join());
+    }
+
+    @Test
+    @DisplayName("calls that complete immediately should all run without exhausting the stack")
+    void testSynchronousCompletion() {
+        final var items = IntStream.range(0, 50_000).boxed().toList();
+
+        final var result = BoundedFutures.mapBounded(items, 4, item -> CompletableFuture.completedFuture(item * 2));
+
+        assertEquals(50_000, result.join().size());
+        assertEquals(99_998, result.join().getLast());
+    }
+
+    @Test
+    @DisplayName("a failed call should fail the result and stop further calls from starting")
+    void testFailureStopsLaunching() {
+        final var started = new ArrayList<Integer>();
+
+        final var result = BoundedFutures.mapBounded(List.of(1, 2, 3), 1, item -> {
+            started.add(item);
+            return item == 2
+                    ? CompletableFuture.failedFuture(new IllegalStateException("rejected"))
+                    : CompletableFuture.completedFuture(item);
+        });
+
+        final var exception = assertThrows(CompletionException.class, result::join);
+        assertEquals("rejected", exception.getCause().getMessage());
+        assertEquals(List.of(1, 2), started);
+    }
+}
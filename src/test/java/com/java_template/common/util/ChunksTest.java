@@ -0,0 +1,39 @@
+package com.java_template.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for Chunks verifying that chunks respect both the count and the size limit
+ * and keep the original order.
+ */
+class ChunksTest {
+
+    @Test
+    @DisplayName("chunks should be cut at the count limit")
+    void testCountLimit() {
+        final var chunks = Chunks.bySizeAndCount(List.of("a", "b", "c", "d", "e"), 2, Long.MAX_VALUE, String::length);
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), chunks);
+    }
+
+    @Test
+    @DisplayName("chunks should be cut before the summed size would exceed the size limit")
+    void testSizeLimit() {
+        final var chunks = Chunks.bySizeAndCount(List.of("aaa", "bb", "c", "dddd"), 100, 5, String::length);
+
+        assertEquals(List.of(List.of("aaa", "bb"), List.of("c", "dddd")), chunks);
+    }
+
+    @Test
+    @DisplayName("an item larger than the size limit should form a chunk of its own")
+    void testOversizedItem() {
+        final var chunks = Chunks.bySizeAndCount(List.of("a", "bbbbbb", "c"), 100, 3, String::length);
+
+        assertEquals(List.of(List.of("a"), List.of("bbbbbb"), List.of("c")), chunks);
+    }
+}
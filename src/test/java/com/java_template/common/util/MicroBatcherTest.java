@@ -0,0 +1,99 @@
+package com.java_template.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ABOUTME: Tests for MicroBatcher verifying dispatch on size and on delay, separation by key,
+ * and failure of every entry when the batch handler throws.
+ */
+class MicroBatcherTest {
+
+    private final List<List<String>> dispatched = Collections.synchronizedList(new ArrayList<>());
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private MicroBatcher<String, String, String> batcher(final int maxBatchSize, final long maxDelayMillis) {
+        return new MicroBatcher<>(maxBatchSize, maxDelayMillis, scheduler, (key, batch) -> {
+            dispatched.add(batch.stream().map(MicroBatcher.Entry::item).toList());
+            batch.forEach(entry -> entry.result().complete(key + ":" + entry.item()));
+        });
+    }
+
+    @Test
+    @DisplayName("a batch should be dispatched as soon as it reaches the maximum size")
+    void testDispatchOnSize() {
+        final var batcher = batcher(2, 60_000);
+
+        final var first = batcher.submit("model", "a");
+        assertFalse(first.isDone());
+        final var second = batcher.submit("model", "b");
+
+        assertEquals("model:a", first.join());
+        assertEquals("model:b", second.join());
+        assertEquals(List.of(List.of("a", "b")), dispatched);
+    }
+
+    @Test
+    @DisplayName("a batch that does not fill up should be dispatched after the maximum delay")
+    void testDispatchOnDelay() throws Exception {
+        final var batcher = batcher(100, 10);
+
+        final var result = batcher.submit("model", "a");
+
+        assertEquals("model:a", result.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("a")), dispatched);
+    }
+
+    @Test
+    @DisplayName("items with different keys should never share a batch")
+    void testKeysBatchedSeparately() {
+        final var batcher = batcher(2, 60_000);
+
+        batcher.submit("first", "a");
+        batcher.submit("second", "b");
+        assertTrue(dispatched.isEmpty());
+
+        batcher.flush();
+
+        assertEquals(2, dispatched.size());
+        assertTrue(dispatched.contains(List.of("a")));
+        assertTrue(dispatched.contains(List.of("b")));
+    }
+
+    @Test
+    @DisplayName("an exception from the batch handler should fail every entry of the batch")
+    void testHandlerFailureFailsEntries() {
+        final var batcher = new MicroBatcher<String, String, String>(2, 60_000, scheduler, (key, batch) -> {
+            throw new IllegalStateException("send failed");
+        });
+
+        final var first = batcher.submit("model", "a");
+        final var second = batcher.submit("model", "b");
+
+        assertThrows(CompletionException.class, first::join);
+        final var exception = assertThrows(CompletionException.class, second::join);
+        assertEquals("send failed", exception.getCause().getMessage());
+    }
+}